@@ -0,0 +1,150 @@
+/**
+ * 결제 흐름 부하 테스트 - 실제 PG사 대신 토스 결제 대체 서버(TossStubServer) 사용
+ *  주문 생성 -> 결제 등록(OrderAcceptedEventHandler -> PaymentService.create)
+ *           -> 결제 승인(/v1/payments/success -> 토스 승인)
+ *           -> 입금 확인(PaymentApprovedEventHandler -> Order.paymentConfirm)
+ *  고정 요청률(RATE/s)로 DURATION 동안 주문을 생성하고, 비동기 단계는 POLL_MS 간격으로 상태를 조회하여 완료 시간 측정
+ *
+ *  단계별 결과 (results/payment-{PROFILE}.json)
+ *   - throughput: 초당 완료 건수
+ *   - p50, p95, p99, max: 단계 소요 시간(ms)
+ *   - failed: 실패(또는 POLL_TIMEOUT_MS 초과) 건수
+ *
+ *  필수 환경 변수: TOKEN(USER 권한), STORE_ID, ITEM_CODE - 주문 가능한 매장, 상품
+ */
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:3000';
+const PROFILE = __ENV.PROFILE || 'normal';
+const TOKEN = __ENV.TOKEN || '';
+const STORE_ID = __ENV.STORE_ID || '';
+const ITEM_CODE = __ENV.ITEM_CODE || '';
+const QUANTITY = Number(__ENV.QUANTITY || 1);
+const POLL_MS = Number(__ENV.POLL_MS || 100);
+const POLL_TIMEOUT_MS = Number(__ENV.POLL_TIMEOUT_MS || 30000);
+
+const STAGES = ['order_create', 'payment_register', 'payment_approve', 'payment_confirm', 'flow_total'];
+const durations = Object.fromEntries(STAGES.map(stage => [stage, new Trend(`${stage}_duration`, true)]));
+const completed = Object.fromEntries(STAGES.map(stage => [stage, new Counter(`${stage}_completed`)]));
+const failed = Object.fromEntries(STAGES.map(stage => [stage, new Counter(`${stage}_failed`)]));
+
+export const options = {
+    scenarios: {
+        payment: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 20),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { profile: PROFILE },
+};
+
+const params = {
+    headers: {
+        Authorization: `Bearer ${TOKEN}`,
+        'Content-Type': 'application/json',
+    },
+};
+
+export function setup() {
+    if (!TOKEN || !STORE_ID || !ITEM_CODE) {
+        throw new Error('TOKEN, STORE_ID, ITEM_CODE 환경 변수가 필요합니다.');
+    }
+}
+
+export default function () {
+    const startedAt = Date.now();
+
+    // 1. 주문 생성 (주문 접수 이벤트 발행)
+    const created = http.post(`${BASE_URL}/v1/orders`, JSON.stringify({
+        storeId: STORE_ID,
+        deliveryAddress: '서울특별시 강남구 테헤란로 427',
+        items: [{ itemCode: ITEM_CODE, quantity: QUANTITY }],
+    }), params);
+
+    if (!check(created, { 'order created': r => r.status === 201 })) return fail('order_create');
+    record('order_create', created.timings.duration);
+    const orderId = created.json('orderId');
+    const orderCreatedAt = Date.now();
+
+    // 2. 결제 등록 대기 (OrderAcceptedEventHandler -> PaymentService.create)
+    const payment = poll(() => {
+        const res = http.get(`${BASE_URL}/v1/payments/order/${orderId}`, { ...params, tags: { name: 'payment_by_order' } });
+        return res.status === 200 ? res.json() : null;
+    });
+
+    if (!payment) return fail('payment_register');
+    record('payment_register', Date.now() - orderCreatedAt);
+
+    // 3. 결제 승인 (토스 결제 대체 서버 호출)
+    const approved = http.get(
+        `${BASE_URL}/v1/payments/success?paymentKey=bench-${payment.paymentId}&orderId=${payment.paymentId}&amount=${payment.amount}`,
+        { ...params, tags: { name: 'payment_success' } });
+
+    if (!check(approved, { 'payment approved': r => r.status === 200 })) return fail('payment_approve');
+    record('payment_approve', approved.timings.duration);
+    const approvedAt = Date.now();
+
+    // 4. 입금 확인 대기 (PaymentApprovedEventHandler -> Order.paymentConfirm)
+    const confirmed = poll(() => {
+        const res = http.get(`${BASE_URL}/v1/orders/${orderId}`, { ...params, tags: { name: 'order_detail' } });
+        return res.status === 200 && res.json('status') === 'PAYMENT_CONFIRM' ? true : null;
+    });
+
+    if (!confirmed) return fail('payment_confirm');
+    record('payment_confirm', Date.now() - approvedAt);
+    record('flow_total', Date.now() - startedAt);
+}
+
+// 완료될 때까지 POLL_MS 간격으로 조회, POLL_TIMEOUT_MS 초과시 null
+function poll(fn) {
+    const deadline = Date.now() + POLL_TIMEOUT_MS;
+    while (Date.now() < deadline) {
+        const result = fn();
+        if (result) return result;
+
+        sleep(POLL_MS / 1000);
+    }
+
+    return null;
+}
+
+function record(stage, duration) {
+    durations[stage].add(duration);
+    completed[stage].add(1);
+}
+
+function fail(stage) {
+    failed[stage].add(1);
+    failed.flow_total.add(1);
+}
+
+export function handleSummary(data) {
+    const metrics = data.metrics;
+    const value = (name, key) => (metrics[name] ? metrics[name].values[key] : 0) || 0;
+
+    const summary = {
+        profile: PROFILE,
+        stages: Object.fromEntries(STAGES.map(stage => [stage, {
+            throughput: value(`${stage}_completed`, 'rate'),
+            p50: value(`${stage}_duration`, 'p(50)'),
+            p95: value(`${stage}_duration`, 'p(95)'),
+            p99: value(`${stage}_duration`, 'p(99)'),
+            max: value(`${stage}_duration`, 'max'),
+            completed: value(`${stage}_completed`, 'count'),
+            failed: value(`${stage}_failed`, 'count'),
+        }])),
+        dropped: value('dropped_iterations', 'count'),
+    };
+
+    return {
+        stdout: JSON.stringify(summary, null, 2) + '\n',
+        [`/results/payment-${PROFILE}.json`]: JSON.stringify(summary, null, 2),
+    };
+}
@@ -0,0 +1,136 @@
+/**
+ * 플랫폼 스레드 / 가상 스레드 처리량, p99 응답 시간 비교
+ *  - 고정 요청률(RATE/s)로 DURATION 동안 요청하여 같은 부하에서 응답 시간과 실패율을 비교
+ *  - 리뷰 목록, 평점 분포 (인증 불필요, DB 조회)
+ *  - 주변 매장 조회 (TOKEN 설정시, PostGIS 조회)
+ *  - 결제 승인 (TOKEN, STORE_ID, ITEM_CODE 설정시) - 토스 결제 대체 서버(TossStubServer)의 응답 지연 동안 요청 스레드가 대기하는 I/O 대기 구간
+ *    주문 생성 -> 결제 등록 대기 -> /v1/payments/success 를 PAYMENT_RATE/s 로 함께 실행, 승인 응답 시간은 payment_approve_duration 으로 따로 집계
+ *    애플리케이션은 TOSS_STUB_ENABLED=true TOSS_BASE_URL=http://localhost:18080/v1/payments 로 실행
+ *
+ *  비교 항목 (results/{MODE}.json)
+ *   - http_reqs.rate: 처리량 (초당 요청 수)
+ *   - http_req_duration p(99): 응답 시간
+ *   - http_req_failed: 실패율 (가상 스레드 모드의 동시 처리 수 제한으로 인한 503 포함)
+ *   - dropped_iterations: 요청률을 유지하지 못해 생략된 요청 수 (서버 처리 지연)
+ *   - payment: 결제 승인 처리량, p99 응답 시간, 실패 건수 (결제 승인 시나리오 실행시)
+ */
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:3000';
+const MODE = __ENV.MODE || 'platform';
+const TOKEN = __ENV.TOKEN || '';
+const STORE_ID = __ENV.STORE_ID || '00000000-0000-0000-0000-000000000000';
+const ITEM_CODE = __ENV.ITEM_CODE || '';
+const PAYMENT_ENABLED = !!(TOKEN && __ENV.STORE_ID && ITEM_CODE);
+const POLL_MS = Number(__ENV.POLL_MS || 100);
+const POLL_TIMEOUT_MS = Number(__ENV.POLL_TIMEOUT_MS || 10000);
+
+const paymentApproveDuration = new Trend('payment_approve_duration', true);
+const paymentApproved = new Counter('payment_approved');
+const paymentFailed = new Counter('payment_failed');
+
+const scenarios = {
+    load: {
+        executor: 'constant-arrival-rate',
+        exec: 'load',
+        rate: Number(__ENV.RATE || 500),
+        timeUnit: '1s',
+        duration: __ENV.DURATION || '2m',
+        preAllocatedVUs: 200,
+        maxVUs: 2000,
+    },
+};
+
+if (PAYMENT_ENABLED) {
+    scenarios.payment = {
+        executor: 'constant-arrival-rate',
+        exec: 'payment',
+        rate: Number(__ENV.PAYMENT_RATE || 50),
+        timeUnit: '1s',
+        duration: __ENV.DURATION || '2m',
+        preAllocatedVUs: 100,
+        maxVUs: 1000,
+    };
+}
+
+export const options = {
+    scenarios,
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: MODE },
+};
+
+export function load() {
+    const params = TOKEN ? { headers: { Authorization: `Bearer ${TOKEN}` } } : {};
+
+    const responses = [
+        http.get(`${BASE_URL}/v1/reviews/store/${STORE_ID}?page=0&size=10`, params),
+        http.get(`${BASE_URL}/v1/reviews/store/${STORE_ID}/histogram`, params),
+    ];
+
+    if (TOKEN) {
+        responses.push(http.get(`${BASE_URL}/v1/stores/nearest?latitude=37.5665&longitude=126.9780&radiusKm=3`, params));
+    }
+
+    responses.forEach(res => check(res, { 'status 200': r => r.status === 200 }));
+}
+
+// 주문 생성 -> 결제 등록 대기 -> 결제 승인 (토스 결제 대체 서버 호출)
+export function payment() {
+    const params = { headers: { Authorization: `Bearer ${TOKEN}`, 'Content-Type': 'application/json' } };
+
+    const created = http.post(`${BASE_URL}/v1/orders`, JSON.stringify({
+        storeId: STORE_ID,
+        deliveryAddress: '서울특별시 강남구 테헤란로 427',
+        items: [{ itemCode: ITEM_CODE, quantity: 1 }],
+    }), { ...params, tags: { name: 'order_create' } });
+
+    if (!check(created, { 'order created': r => r.status === 201 })) return paymentFailed.add(1);
+    const orderId = created.json('orderId');
+
+    let payment = null;
+    const deadline = Date.now() + POLL_TIMEOUT_MS;
+    while (!payment && Date.now() < deadline) {
+        const res = http.get(`${BASE_URL}/v1/payments/order/${orderId}`, { ...params, tags: { name: 'payment_by_order' } });
+        if (res.status === 200) payment = res.json();
+        else sleep(POLL_MS / 1000);
+    }
+
+    if (!payment) return paymentFailed.add(1);
+
+    const approved = http.get(
+        `${BASE_URL}/v1/payments/success?paymentKey=bench-${payment.paymentId}&orderId=${payment.paymentId}&amount=${payment.amount}`,
+        { ...params, tags: { name: 'payment_success' } });
+
+    if (!check(approved, { 'payment approved': r => r.status === 200 })) return paymentFailed.add(1);
+    paymentApproveDuration.add(approved.timings.duration);
+    paymentApproved.add(1);
+}
+
+export function handleSummary(data) {
+    const metrics = data.metrics;
+    const summary = {
+        mode: MODE,
+        throughput: metrics.http_reqs.values.rate,
+        p50: metrics.http_req_duration.values['p(50)'],
+        p95: metrics.http_req_duration.values['p(95)'],
+        p99: metrics.http_req_duration.values['p(99)'],
+        failed: metrics.http_req_failed.values.rate,
+        dropped: metrics.dropped_iterations ? metrics.dropped_iterations.values.count : 0,
+    };
+
+    if (metrics.payment_approved || metrics.payment_failed) {
+        summary.payment = {
+            throughput: metrics.payment_approved ? metrics.payment_approved.values.rate : 0,
+            p50: metrics.payment_approve_duration ? metrics.payment_approve_duration.values['p(50)'] : 0,
+            p99: metrics.payment_approve_duration ? metrics.payment_approve_duration.values['p(99)'] : 0,
+            failed: metrics.payment_failed ? metrics.payment_failed.values.count : 0,
+        };
+    }
+
+    return {
+        stdout: JSON.stringify(summary, null, 2) + '\n',
+        [`/results/${MODE}.json`]: JSON.stringify(summary, null, 2),
+    };
+}
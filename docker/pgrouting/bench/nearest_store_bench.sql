@@ -0,0 +1,90 @@
+-- 주변 매장 조회 쿼리 성능 확인용 벤치마크 - 실제 매장 테이블(p_store, p_store_open_interval) 기준
+-- 실행: sh docker/pgrouting/bench/run_nearest_store_bench.sh [행 수 ...] (기본 10000 100000 1000000)
+--      단독 실행시: psql -v rows=100000 -f nearest_store_bench.sql
+-- 애플리케이션을 한번 기동하여 스키마(ddl-auto)와 geography GiST 인덱스(schema-postgis.sql)가 생성된 DB에서 실행합니다.
+-- 서울 일대 좌표로 :rows 건의 매장과 운영 구간을 추가한 뒤 기존 방식(ST_DistanceSphere)과
+-- 인덱스 방식(ST_DWithin + <-> KNN)의 실행 계획과 수행 시간을 비교하고, 추가한 데이터는 모두 롤백합니다.
+
+\set ON_ERROR_STOP on
+\timing on
+
+-- 조회 기준 좌표 (강남역), 반경 3km
+\set lon 127.0276
+\set lat 37.4979
+\set radius 3000
+
+BEGIN;
+
+-- 서울 일대 (위도 37.40 ~ 37.70, 경도 126.80 ~ 127.20), 90%는 영업중(OPEN)
+-- 운영 시간은 매일 10:00 ~ 22:00 (주 단위 분 구간 7개)
+CREATE TEMP TABLE bench_store ON COMMIT DROP AS
+SELECT gen_random_uuid() AS store_id,
+       CASE WHEN random() < 0.9 THEN 'OPEN' ELSE 'CLOSED' END AS status,
+       126.80 + random() * 0.40 AS longitude,
+       37.40 + random() * 0.30 AS latitude
+FROM generate_series(1, :rows);
+
+INSERT INTO p_store (store_id, version, menu_version, status, review_score, review_count, review_score_sum,
+                     owner_id, owner_name, store_name, business_no, email, address,
+                     point, latitude, longitude, operation_schedule, created_at, created_by)
+SELECT b.store_id, 0, 0, b.status, 0, 0, 0,
+       gen_random_uuid(), 'bench', 'bench-' || b.store_id, 'bench-' || b.store_id, 'bench@bench.test', 'bench',
+       ST_SetSRID(ST_MakePoint(b.longitude, b.latitude), 4326), b.latitude, b.longitude,
+       ARRAY[600, 1320, 2040, 2760, 3480, 4200, 4920, 5640, 6360, 7080, 7800, 8520, 9240, 9960],
+       now(), 'SYSTEM'
+FROM bench_store b;
+
+INSERT INTO p_store_open_interval (store_id, open_minute, close_minute)
+SELECT b.store_id, d * 1440 + 600, d * 1440 + 1320
+FROM bench_store b
+CROSS JOIN generate_series(0, 6) d;
+
+ANALYZE p_store;
+ANALYZE p_store_open_interval;
+
+SELECT count(*) AS total_stores FROM p_store WHERE deleted_at IS NULL;
+
+-- 1. 기존 방식: 계산식 필터 + 정렬 (전체 스캔)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT store_id
+FROM p_store
+WHERE status IN ('PREPARING', 'OPEN')
+  AND deleted_at IS NULL
+  AND ST_DistanceSphere(point, ST_GeomFromText('POINT(' || :lon || ' ' || :lat || ')', 4326)) <= :radius
+ORDER BY ST_DistanceSphere(point, ST_GeomFromText('POINT(' || :lon || ' ' || :lat || ')', 4326))
+LIMIT 10;
+
+-- 2. 변경 방식: StoreQueryRepositoryImpl.findAllNearest 목록 쿼리 (geo_dwithin, geo_knn_distance)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT store_id
+FROM p_store
+WHERE status IN ('PREPARING', 'OPEN')
+  AND ST_DWithin(geography(point), geography(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)), :radius) = true
+  AND deleted_at IS NULL
+ORDER BY (geography(point) <-> geography(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)))
+LIMIT 10;
+
+-- 3. 변경 방식: 페이징 총 갯수 쿼리
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(store_id)
+FROM p_store
+WHERE status IN ('PREPARING', 'OPEN')
+  AND ST_DWithin(geography(point), geography(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)), :radius) = true
+  AND deleted_at IS NULL;
+
+-- 4. 변경 방식 + 현재 영업중(openNow) - 수요일 12:00 (주 단위 분 3600)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT s.store_id
+FROM p_store s
+WHERE s.status = 'OPEN'
+  AND EXISTS (SELECT 1
+              FROM p_store_open_interval i
+              WHERE i.store_id = s.store_id
+                AND i.open_minute <= 3600
+                AND i.close_minute > 3600)
+  AND ST_DWithin(geography(s.point), geography(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)), :radius) = true
+  AND s.deleted_at IS NULL
+ORDER BY (geography(s.point) <-> geography(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)))
+LIMIT 10;
+
+ROLLBACK;
@@ -0,0 +1,23 @@
+#!/bin/sh
+# 주변 매장 조회 벤치마크를 데이터 규모별로 실행하고 결과(실행 계획, 수행 시간)를 results/에 저장
+# 사용: sh docker/pgrouting/bench/run_nearest_store_bench.sh [행 수 ...]
+#  - 기본 규모: 10000 100000 1000000
+#  - 접속 정보: PG_CONTAINER(기본 pgrouting), PG_USER(기본 postgres), PG_DB(기본 postgres)
+set -e
+
+DIR=$(cd "$(dirname "$0")" && pwd)
+ROWS="${*:-10000 100000 1000000}"
+mkdir -p "$DIR/results"
+
+for rows in $ROWS; do
+    out="$DIR/results/nearest_store_${rows}.txt"
+    echo "p_store +${rows} rows -> $out"
+    # 결과 비교를 위해 실행 환경(DB, PostGIS 버전, 기존 매장 수)을 함께 기록
+    {
+        echo "# $(date -u +%Y-%m-%dT%H:%M:%SZ) p_store +${rows} rows"
+        docker exec -i "${PG_CONTAINER:-pgrouting}" psql -U "${PG_USER:-postgres}" -d "${PG_DB:-postgres}" -At \
+            -c "SELECT version()" -c "SELECT postgis_full_version()" -c "SELECT 'existing p_store rows: ' || count(*) FROM p_store"
+        docker exec -i "${PG_CONTAINER:-pgrouting}" psql -U "${PG_USER:-postgres}" -d "${PG_DB:-postgres}" \
+            -v rows="$rows" < "$DIR/nearest_store_bench.sql"
+    } > "$out" 2>&1
+done
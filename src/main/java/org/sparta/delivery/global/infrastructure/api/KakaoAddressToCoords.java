@@ -1,9 +1,10 @@
 package org.sparta.delivery.global.infrastructure.api;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sparta.delivery.global.domain.service.AddressToCoords;
+import org.sparta.delivery.global.infrastructure.http.OutboundHttpClients;
+import org.sparta.delivery.global.infrastructure.resilience.DependencyGuards;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -12,29 +13,28 @@ import org.springframework.web.client.RestClient;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KakaoAddressToCoords implements AddressToCoords {
     @Value("${KAKAO_API_KEY}")
     private String apiKey;
 
-    private final RestClient restClient = RestClient.builder()
-            .baseUrl("https://dapi.kakao.com")
-            .build();
+    private final RestClient restClient;
+    private final DependencyGuards guards;
 
+    public KakaoAddressToCoords(OutboundHttpClients httpClients, DependencyGuards guards) {
+        this.restClient = httpClients.builder("kakao", "https://dapi.kakao.com").build();
+        this.guards = guards;
+    }
 
     @Override
     public double[] convert(String address) {
         if (!StringUtils.hasText(address)) return null;
 
         try {
-            ResponseEntity<JsonNode> res = restClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/v2/local/search/address.json")
-                            .queryParam("query", address)
-                            .build())
+            ResponseEntity<JsonNode> res = guards.get(DependencyGuards.KAKAO).call(() -> restClient.get()
+                    .uri("/v2/local/search/address.json?query={query}", address)
                     .header("Authorization", "KakaoAK " + apiKey)
                     .retrieve()
-                    .toEntity(JsonNode.class);
+                    .toEntity(JsonNode.class));
 
             if (res.getStatusCode().is2xxSuccessful() && res.getBody() != null) {
                 JsonNode documents = res.getBody().get("documents");
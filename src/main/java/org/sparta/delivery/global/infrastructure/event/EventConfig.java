@@ -1,41 +1,80 @@
 package org.sparta.delivery.global.infrastructure.event;
 
+import org.sparta.delivery.global.infrastructure.event.executor.InlineEventExecution;
+import org.sparta.delivery.global.infrastructure.event.metrics.EventMetrics;
+import org.sparta.delivery.global.infrastructure.event.outbox.OutboxService;
+import org.sparta.delivery.global.infrastructure.security.RequestContext;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.Ordered;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
 
 import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
-@EnableRetry(order = Ordered.LOWEST_PRECEDENCE)
 public class EventConfig implements AsyncConfigurer {
 
     @Autowired
     private ApplicationContext ctx;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${events.async.virtual-concurrency-limit:50}")
+    private int virtualConcurrencyLimit; // 기본 스레드 풀의 최대 스레드 수와 같게 유지
+
+    private Executor asyncExecutor;
+
     @Bean
-    public InitializingBean eventsInitializer() {
-        return () -> Events.setPublisher(ctx);
+    public InitializingBean eventsInitializer(OutboxService outboxService, EventMetrics eventMetrics) {
+        return () -> {
+            Events.setPublisher(ctx);
+            Events.setOutbox(outboxService);
+            Events.setMetrics(eventMetrics);
+        };
     }
 
-    // 비동기 적용시 생성될 스레드 풀 설정
+    // 비동기 적용시 생성될 스레드 풀 설정 - 지연 재시도(DelayedRetryAspect)에서도 같은 스레드 풀을 사용하므로 한번만 생성
     @Override
-    public Executor getAsyncExecutor() {
+    public synchronized Executor getAsyncExecutor() {
+        if (asyncExecutor != null) return asyncExecutor;
+
+        // 가상 스레드 모드 - 작업마다 가상 스레드로 실행하고 동시 실행 수 제한 (초과시 요청한 스레드가 대기)
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            executor.setTaskDecorator(task -> RequestContext.systemTask(EventMetrics.propagate(task)));
+            asyncExecutor = executor;
+            return asyncExecutor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);        // 기본 스레드 수
         executor.setMaxPoolSize(50);        // 최대 스레드 수
         executor.setQueueCapacity(100);     // 대기 큐 용량
         executor.setThreadNamePrefix("Async-"); // 스레드 이름 접두사
+        executor.setTaskDecorator(task -> RequestContext.systemTask(EventMetrics.propagate(task))); // SYSTEM으로 실행, 이벤트 핸들러 호출 시점 전달
         executor.initialize();
-        return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+        asyncExecutor = executor;
+        return asyncExecutor;
+    }
+
+    // 비동기 핸들러 예외 처리 - 호출한 스레드에서 실행된 경우(InlineEventExecution) 호출한 쪽에 실패를 전달, 아니라면 로그만 기록
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        SimpleAsyncUncaughtExceptionHandler logging = new SimpleAsyncUncaughtExceptionHandler();
+        return (e, method, params) -> {
+            if (!InlineEventExecution.recordFailure(e)) logging.handleUncaughtException(e, method, params);
+        };
     }
 }
@@ -0,0 +1,34 @@
+package org.sparta.delivery.global.infrastructure.event;
+
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 핸들러 목록 - 아웃박스, 데드레터에 저장된 핸들러 ID로 해당 핸들러만 다시 실행하기 위해 사용
+ *  - @TransactionalEventListener: SpillingTransactionalEventListenerFactory
+ *  - @EventListener: RegisteringEventListenerFactory
+ */
+@Component
+public class EventListenerRegistry {
+    private final Map<String, ApplicationListenerMethodAdapter> listeners = new ConcurrentHashMap<>();
+    private final Map<Method, String> listenerIds = new ConcurrentHashMap<>();
+
+    public void register(Method method, ApplicationListenerMethodAdapter listener) {
+        listeners.put(listener.getListenerId(), listener);
+        listenerIds.put(method, listener.getListenerId());
+    }
+
+    public Optional<ApplicationListenerMethodAdapter> find(String listenerId) {
+        return Optional.ofNullable(listeners.get(listenerId));
+    }
+
+    // 핸들러 메서드의 핸들러 ID
+    public Optional<String> findListenerId(Method method) {
+        return Optional.ofNullable(listenerIds.get(method));
+    }
+}
@@ -1,17 +1,37 @@
 package org.sparta.delivery.global.infrastructure.event;
 
+import org.sparta.delivery.global.infrastructure.event.metrics.EventMetrics;
+import org.sparta.delivery.global.infrastructure.event.outbox.OutboxService;
 import org.springframework.context.ApplicationEventPublisher;
 
 public class Events {
     private static ApplicationEventPublisher publisher;
+    private static OutboxService outbox;
+    private static EventMetrics metrics;
 
     static void setPublisher(ApplicationEventPublisher publisher) {
         Events.publisher
                  = publisher;
     }
 
+    static void setOutbox(OutboxService outbox) {
+        Events.outbox = outbox;
+    }
+
+    static void setMetrics(EventMetrics metrics) {
+        Events.metrics = metrics;
+    }
+
     public static void trigger(Object event) {
+        // 아웃박스 이벤트는 현재 트랜잭션에 저장 후 릴레이에서 발행
+        if (outbox != null && outbox.isRecordable(event)) {
+            outbox.record(event);
+            if (metrics != null) metrics.published(event, "outbox");
+            return;
+        }
+
         if (publisher == null) return;
+        if (metrics != null) metrics.published(event, "direct");
         publisher.publishEvent(event);
     }
 }
@@ -0,0 +1,17 @@
+package org.sparta.delivery.global.infrastructure.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 아웃박스 이벤트 표시
+ *  - 트랜잭션 내에서 Events.trigger로 발행되면 즉시 발행하지 않고 같은 트랜잭션으로 아웃박스(P_OUTBOX_MESSAGE)에 저장
+ *  - 커밋 이후 아웃박스 릴레이(OutboxRelay)가 조회하여 기존 이벤트 핸들러로 전달, 전달에 실패하면 재시도 (최소 1회 전달)
+ *  - 같은 이벤트가 중복 전달될 수 있으므로 핸들러는 멱등하게 처리되어야 함
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Outbox {
+}
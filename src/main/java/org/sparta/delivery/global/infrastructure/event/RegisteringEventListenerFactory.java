@@ -0,0 +1,39 @@
+package org.sparta.delivery.global.infrastructure.event;
+
+import org.sparta.delivery.global.infrastructure.event.metrics.EventMetrics;
+import org.sparta.delivery.global.infrastructure.security.RequestContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.event.DefaultEventListenerFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * @EventListener 핸들러 생성 - 기본 팩토리(order = LOWEST_PRECEDENCE)보다 먼저 적용되어 핸들러 목록에 등록하고 호출 시점 기록(EventMetrics)
+ *  - @TransactionalEventListener는 더 먼저 적용되는 SpillingTransactionalEventListenerFactory에서 생성
+ */
+@Component
+public class RegisteringEventListenerFactory extends DefaultEventListenerFactory {
+    private final EventListenerRegistry registry;
+
+    public RegisteringEventListenerFactory(EventListenerRegistry registry) {
+        this.registry = registry;
+        setOrder(60);
+    }
+
+    @Override
+    public ApplicationListener<?> createApplicationListener(String beanName, Class<?> type, Method method) {
+        ApplicationListenerMethodAdapter listener = new ApplicationListenerMethodAdapter(beanName, type, method) {
+            @Override
+            public void processEvent(ApplicationEvent event) {
+                // 핸들러는 SYSTEM으로 실행, 핸들러 호출(발행) 시점 기록
+                RequestContext.runAsSystem(() -> EventMetrics.dispatching(() -> super.processEvent(event)));
+            }
+        };
+        registry.register(method, listener);
+
+        return listener;
+    }
+}
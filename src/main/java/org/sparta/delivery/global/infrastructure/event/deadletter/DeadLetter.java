@@ -0,0 +1,97 @@
+package org.sparta.delivery.global.infrastructure.event.deadletter;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 데드레터 - 재시도를 모두 소진한 이벤트를 예외 정보와 함께 보관하여 관리자가 재처리
+ *  - listenerId: 실패한 핸들러 ID, 재처리시 해당 핸들러만 실행 (없으면 이벤트 발행)
+ *  - 보상 처리(@Recover)가 완료된 이벤트는 COMPENSATED로 저장하여 기록만 남기고 재처리하지 않음
+ */
+@Entity
+@Getter
+@ToString(exclude = {"payload", "stackTrace"})
+@Access(AccessType.FIELD)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name="P_EVENT_DEAD_LETTER", indexes = {
+        @Index(name="idx_event_dead_letter_status", columnList = "status, event_type, id")
+})
+public class DeadLetter {
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int MAX_STACK_TRACE_LENGTH = 4000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length=200, nullable = false)
+    private String eventType; // 이벤트 클래스명
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String payload; // 이벤트 JSON
+
+    @Column(length=500)
+    private String listenerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length=20, nullable = false)
+    private DeadLetterSource source;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length=20, nullable = false)
+    private DeadLetterStatus status;
+
+    @Column(length=200)
+    private String errorType; // 예외 클래스명
+
+    @Column(length=MAX_ERROR_LENGTH)
+    private String errorMessage;
+
+    @Column(columnDefinition = "text")
+    private String stackTrace;
+
+    private int attempts; // 실패까지의 시도 횟수
+
+    private LocalDateTime firstFailedAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt; // 최종 실패 일시
+
+    private int replayCount; // 재처리 횟수
+
+    private LocalDateTime replayedAt;
+
+    @Column(length=MAX_ERROR_LENGTH)
+    private String replayError;
+
+    @Builder
+    public DeadLetter(String eventType, String payload, String listenerId, DeadLetterSource source, String errorType, String errorMessage, String stackTrace, int attempts, LocalDateTime firstFailedAt, boolean compensated) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.listenerId = listenerId;
+        this.source = source;
+        this.errorType = errorType;
+        this.errorMessage = truncate(errorMessage, MAX_ERROR_LENGTH);
+        this.stackTrace = truncate(stackTrace, MAX_STACK_TRACE_LENGTH);
+        this.attempts = attempts;
+        this.status = compensated ? DeadLetterStatus.COMPENSATED : DeadLetterStatus.DEAD;
+        this.createdAt = LocalDateTime.now();
+        this.firstFailedAt = firstFailedAt == null ? this.createdAt : firstFailedAt;
+    }
+
+    // 재처리 실패 - 재처리 선점(REPLAYED)을 해제하고 처리 대기 상태로 변경
+    public void replayFailed(String error) {
+        this.status = DeadLetterStatus.DEAD;
+        this.replayError = truncate(error, MAX_ERROR_LENGTH);
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null ? null : value.substring(0, Math.min(value.length(), length));
+    }
+}
@@ -0,0 +1,168 @@
+package org.sparta.delivery.global.infrastructure.event.deadletter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.global.domain.exception.BadRequestException;
+import org.sparta.delivery.global.domain.exception.NotFoundException;
+import org.sparta.delivery.global.infrastructure.event.executor.InlineEventExecution;
+import org.sparta.delivery.global.infrastructure.event.outbox.EventDispatcher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 데드레터 일괄 재처리
+ *  1. 조건에 맞는 처리 대기(DEAD) 데드레터 ID를 키셋 페이징(chunk-size)으로 조회
+ *  2. 초당 최대 건수(ratePerSecond) 간격으로 작업 스레드(parallelism)에 전달, 처리 대기 작업이 쌓이지 않도록 동시 실행 수만큼만 요청
+ *  3. 재처리 선점(DEAD -> REPLAYED) 후 핸들러 ID가 있다면 해당 핸들러만, 없다면 이벤트를 발행하여 작업 스레드에서 바로 실행
+ *     - 핸들러의 재시도, 보상 처리 없이 한번만 실행하여(InlineEventExecution.replay) 핸들러 실행 결과로 성공, 실패 집계
+ *     - 복원/전달 또는 핸들러가 실패하면 처리 대기 상태로 되돌리고 사유 기록 (새로운 데드레터는 저장하지 않음)
+ *     - 보상 처리가 완료된 데드레터(COMPENSATED)는 선점되지 않으므로 재처리하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterReplayService implements DisposableBean {
+    private final DeadLetterService deadLetterService;
+    private final EventDispatcher dispatcher;
+
+    private final Map<String, ReplayJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Thread> runners = new ConcurrentHashMap<>();
+
+    @Value("${events.dead-letter.replay.max-parallelism:16}")
+    private int maxParallelism;
+
+    @Value("${events.dead-letter.replay.max-rate:1000}")
+    private int maxRate;
+
+    @Value("${events.dead-letter.replay.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${events.dead-letter.replay.job-retention-hours:24}")
+    private long jobRetentionHours;
+
+    public ReplayJob start(DeadLetterSearch search, int limit, int parallelism, int ratePerSecond) {
+        if (limit < 1) throw new BadRequestException("limit", "재처리 건수는 1건 이상이어야 합니다.");
+        if (parallelism < 1 || parallelism > maxParallelism) throw new BadRequestException("parallelism", "동시 재처리 수는 1 ~ " + maxParallelism + " 사이여야 합니다.");
+        if (ratePerSecond < 1 || ratePerSecond > maxRate) throw new BadRequestException("ratePerSecond", "초당 재처리 건수는 1 ~ " + maxRate + " 사이여야 합니다.");
+
+        removeExpiredJobs();
+
+        ReplayJob job = new ReplayJob(search, limit, parallelism, ratePerSecond);
+        jobs.put(job.getId(), job);
+        runners.put(job.getId(), Thread.ofPlatform().name("DeadLetter-Replay-" + job.getId()).start(() -> run(job)));
+
+        log.info("데드레터 재처리 시작. 작업ID: {}, 최대 건수: {}, 동시 실행: {}, 초당 건수: {}", job.getId(), limit, parallelism, ratePerSecond);
+        return job;
+    }
+
+    public ReplayJob get(String jobId) {
+        ReplayJob job = jobs.get(jobId);
+        if (job == null) throw new NotFoundException("jobId", "존재하지 않는 재처리 작업입니다.");
+
+        return job;
+    }
+
+    public List<ReplayJob> getAll() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(ReplayJob::getStartedAt).reversed())
+                .toList();
+    }
+
+    public ReplayJob cancel(String jobId) {
+        ReplayJob job = get(jobId);
+        job.cancel();
+
+        return job;
+    }
+
+    private void run(ReplayJob job) {
+        ExecutorService workers = Executors.newFixedThreadPool(job.getParallelism(),
+                Thread.ofPlatform().name("DeadLetter-Replay-Worker-", 0).factory());
+        Semaphore inFlight = new Semaphore(job.getParallelism());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / job.getRatePerSecond();
+        long next = System.nanoTime();
+
+        try {
+            long afterId = 0;
+            int requested = 0;
+            while (!job.isCancelled() && requested < job.getLimit()) {
+                List<Long> ids = deadLetterService.findReplayTargets(job.getSearch(), afterId, Math.min(chunkSize, job.getLimit() - requested));
+                if (ids.isEmpty()) break;
+
+                for (Long id : ids) {
+                    if (job.isCancelled()) break;
+
+                    // 초당 최대 건수 제한 - 요청 간격만큼 대기
+                    long wait = next - System.nanoTime();
+                    if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                    next = Math.max(next, System.nanoTime()) + intervalNanos;
+
+                    inFlight.acquire();
+                    workers.execute(() -> {
+                        try {
+                            replay(id, job);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                    requested++;
+                }
+
+                afterId = ids.getLast();
+            }
+        } catch (InterruptedException e) {
+            job.cancel();
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("데드레터 재처리 대상 조회 실패. 사유: {}. 작업ID: {}", e.getMessage(), job.getId(), e);
+        } finally {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(1, TimeUnit.HOURS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            job.finish();
+            runners.remove(job.getId());
+            log.info("데드레터 재처리 종료. 작업ID: {}, 상태: {}, 성공: {}, 실패: {}, 건너뜀: {}", job.getId(), job.getStatus(), job.getSucceeded(), job.getFailed(), job.getSkipped());
+        }
+    }
+
+    private void replay(Long id, ReplayJob job) {
+        try {
+            if (!deadLetterService.claimReplay(id)) { // 다른 작업에서 이미 재처리
+                job.skipped();
+                return;
+            }
+
+            DeadLetter deadLetter = deadLetterService.find(id).orElseThrow();
+            InlineEventExecution.replay(() -> dispatcher.dispatch(deadLetter.getEventType(), deadLetter.getPayload(), deadLetter.getListenerId()));
+            job.succeeded();
+
+        } catch (Exception e) {
+            job.failed();
+            log.warn("데드레터 재처리 실패. 사유: {}. 데드레터ID: {}, 작업ID: {}", e.getMessage(), id, job.getId());
+            deadLetterService.replayFailed(id, e.getMessage());
+        }
+    }
+
+    // 보관 기간이 지난 종료된 작업 제거
+    private void removeExpiredJobs() {
+        LocalDateTime expiredAt = LocalDateTime.now().minusHours(jobRetentionHours);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(expiredAt));
+    }
+
+    @Override
+    public void destroy() {
+        jobs.values().forEach(ReplayJob::cancel);
+        runners.values().forEach(Thread::interrupt);
+    }
+}
@@ -0,0 +1,24 @@
+package org.sparta.delivery.global.infrastructure.event.deadletter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface DeadLetterRepository extends JpaRepository<DeadLetter, Long>, QuerydslPredicateExecutor<DeadLetter> {
+
+    // 재처리 선점 - 처리 대기(DEAD) 상태인 경우에만 변경되므로 여러 재처리 작업이 겹쳐도 한번만 실행
+    @Modifying
+    @Query("""
+            UPDATE DeadLetter d
+            SET d.status = :replayed, d.replayCount = d.replayCount + 1, d.replayedAt = :now, d.replayError = null
+            WHERE d.id = :id AND d.status = :dead
+            """)
+    int claimReplay(@Param("id") Long id,
+                    @Param("now") LocalDateTime now,
+                    @Param("dead") DeadLetterStatus dead,
+                    @Param("replayed") DeadLetterStatus replayed);
+}
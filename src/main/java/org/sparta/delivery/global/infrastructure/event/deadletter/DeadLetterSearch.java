@@ -0,0 +1,19 @@
+package org.sparta.delivery.global.infrastructure.event.deadletter;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder(toBuilder = true)
+public class DeadLetterSearch {
+    private List<Long> ids; // 데드레터 ID(복수개)로 조회
+    private DeadLetterStatus status;
+    private DeadLetterSource source;
+    private String eventType; // 이벤트 클래스명 또는 단순 클래스명
+    private String listenerId;
+    private LocalDateTime from; // 최종 실패 일시 범위
+    private LocalDateTime to;
+}
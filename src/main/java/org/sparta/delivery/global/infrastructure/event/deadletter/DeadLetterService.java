@@ -0,0 +1,142 @@
+package org.sparta.delivery.global.infrastructure.event.deadletter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class DeadLetterService {
+    private final DeadLetterRepository repository;
+    private final JPAQueryFactory queryFactory;
+    private final ObjectMapper objectMapper;
+
+    // 핸들러 최종 실패 - 보상 처리(@Recover)가 완료되었다면 재처리 대상에서 제외(COMPENSATED)
+    @Transactional
+    public void record(Object event, String listenerId, Throwable error, int attempts, LocalDateTime firstFailedAt, boolean compensated) throws JsonProcessingException {
+        repository.save(DeadLetter.builder()
+                .eventType(event.getClass().getName())
+                .payload(objectMapper.writeValueAsString(event))
+                .listenerId(listenerId)
+                .source(DeadLetterSource.HANDLER)
+                .errorType(error.getClass().getName())
+                .errorMessage(error.getMessage())
+                .stackTrace(stackTrace(error))
+                .attempts(attempts)
+                .firstFailedAt(firstFailedAt)
+                .compensated(compensated)
+                .build());
+    }
+
+    // 아웃박스, 스트림에서 전달을 포기한 이벤트 - 이미 변환된 이벤트를 그대로 저장
+    @Transactional
+    public void record(String eventType, String payload, String listenerId, DeadLetterSource source, String errorMessage, int attempts, LocalDateTime firstFailedAt) {
+        repository.save(DeadLetter.builder()
+                .eventType(eventType)
+                .payload(payload)
+                .listenerId(listenerId)
+                .source(source)
+                .errorMessage(errorMessage)
+                .attempts(attempts)
+                .firstFailedAt(firstFailedAt)
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<DeadLetter> search(DeadLetterSearch search, Pageable pageable) {
+        return repository.findAll(condition(search), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DeadLetter> find(Long id) {
+        return repository.findById(id);
+    }
+
+    // 재처리 대상 ID 조회 - afterId 이후부터 ID 순으로 조회 (키셋 페이징)
+    @Transactional(readOnly = true)
+    public List<Long> findReplayTargets(DeadLetterSearch search, long afterId, int limit) {
+        QDeadLetter deadLetter = QDeadLetter.deadLetter;
+
+        return queryFactory
+                .select(deadLetter.id)
+                .from(deadLetter)
+                .where(
+                        condition(search),
+                        deadLetter.status.eq(DeadLetterStatus.DEAD),
+                        deadLetter.id.gt(afterId)
+                )
+                .orderBy(deadLetter.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean claimReplay(Long id) {
+        return repository.claimReplay(id, LocalDateTime.now(), DeadLetterStatus.DEAD, DeadLetterStatus.REPLAYED) > 0;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void replayFailed(Long id, String error) {
+        repository.findById(id).ifPresent(d -> d.replayFailed(error));
+    }
+
+    private BooleanBuilder condition(DeadLetterSearch search) {
+        QDeadLetter deadLetter = QDeadLetter.deadLetter;
+        BooleanBuilder andBuilder = new BooleanBuilder();
+        if (search == null) return andBuilder;
+
+        if (search.getIds() != null && !search.getIds().isEmpty()) {
+            andBuilder.and(deadLetter.id.in(search.getIds()));
+        }
+
+        if (search.getStatus() != null) {
+            andBuilder.and(deadLetter.status.eq(search.getStatus()));
+        }
+
+        if (search.getSource() != null) {
+            andBuilder.and(deadLetter.source.eq(search.getSource()));
+        }
+
+        // 이벤트 클래스명 - 패키지를 제외한 단순 클래스명으로도 조회
+        String eventType = search.getEventType();
+        if (StringUtils.hasText(eventType)) {
+            andBuilder.and(eventType.contains(".")
+                    ? deadLetter.eventType.eq(eventType)
+                    : deadLetter.eventType.endsWith("." + eventType));
+        }
+
+        if (StringUtils.hasText(search.getListenerId())) {
+            andBuilder.and(deadLetter.listenerId.eq(search.getListenerId()));
+        }
+
+        if (search.getFrom() != null) {
+            andBuilder.and(deadLetter.createdAt.goe(search.getFrom()));
+        }
+
+        if (search.getTo() != null) {
+            andBuilder.and(deadLetter.createdAt.lt(search.getTo()));
+        }
+
+        return andBuilder;
+    }
+
+    private String stackTrace(Throwable error) {
+        StringWriter writer = new StringWriter();
+        error.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package org.sparta.delivery.global.infrastructure.event.deadletter;
+
+public enum DeadLetterSource {
+    HANDLER, // 핸들러 재시도(@DelayedRetry) 최종 실패
+    OUTBOX, // 아웃박스 최대 전달 시도 횟수 초과
+    STREAM // Redis 스트림 최대 전달 횟수 초과
+}
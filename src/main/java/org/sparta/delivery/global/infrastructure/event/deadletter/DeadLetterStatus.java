@@ -0,0 +1,7 @@
+package org.sparta.delivery.global.infrastructure.event.deadletter;
+
+public enum DeadLetterStatus {
+    DEAD, // 처리 대기
+    REPLAYED, // 재처리 완료
+    COMPENSATED // 보상 처리(@Recover) 완료 - 재처리하면 보상된 애그리거트에 다시 반영되므로 재처리 대상에서 제외
+}
@@ -0,0 +1,87 @@
+package org.sparta.delivery.global.infrastructure.event.deadletter;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 데드레터 일괄 재처리 작업 - 진행 상황은 요청한 서버의 메모리에서만 관리
+ */
+@Getter
+public class ReplayJob {
+    public enum Status {
+        RUNNING, COMPLETED, CANCELLED
+    }
+
+    private final String id;
+    private final DeadLetterSearch search;
+    private final int limit; // 최대 재처리 건수
+    private final int parallelism; // 동시 재처리 수
+    private final int ratePerSecond; // 초당 최대 재처리 건수
+    private final LocalDateTime startedAt;
+
+    private volatile Status status;
+    private volatile LocalDateTime finishedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger succeeded = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger failed = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    public ReplayJob(DeadLetterSearch search, int limit, int parallelism, int ratePerSecond) {
+        this.id = UUID.randomUUID().toString();
+        this.search = search;
+        this.limit = limit;
+        this.parallelism = parallelism;
+        this.ratePerSecond = ratePerSecond;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    void succeeded() {
+        succeeded.incrementAndGet();
+    }
+
+    void failed() {
+        failed.incrementAndGet();
+    }
+
+    // 다른 작업에서 이미 재처리한 경우
+    void skipped() {
+        skipped.incrementAndGet();
+    }
+
+    void finish() {
+        if (status == Status.RUNNING) status = Status.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public void cancel() {
+        if (status == Status.RUNNING) status = Status.CANCELLED;
+    }
+
+    public boolean isCancelled() {
+        return status == Status.CANCELLED;
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public int getSucceeded() {
+        return succeeded.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public int getSkipped() {
+        return skipped.get();
+    }
+}
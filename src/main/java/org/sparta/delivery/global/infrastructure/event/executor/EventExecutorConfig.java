@@ -0,0 +1,92 @@
+package org.sparta.delivery.global.infrastructure.event.executor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.global.infrastructure.event.metrics.EventMetrics;
+import org.sparta.delivery.global.infrastructure.security.RequestContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 이벤트 핸들러 그룹별 격리된 스레드 풀 - @Async(EventExecutorConfig.PAYMENT) 형태로 사용
+ *  - 한 그룹에 이벤트가 몰려도 다른 그룹(예: 결제)의 처리에는 영향을 주지 않음
+ *  - 지표(tag: name = event.{그룹})
+ *    executor.active, executor.queued, executor.pool.size, executor.completed: 실행중 스레드, 대기 큐 크기 등
+ *    events.executor.rejected: 스레드 풀이 가득 찬 횟수 (tag: pool, policy)
+ *    events.handler.latency: 핸들러 실행 시간 (tag: pool)
+ *  - 가상 스레드 모드(spring.threads.virtual.enabled)에서는 작업마다 가상 스레드로 실행하고 최대 스레드 수(max-size)만큼만 동시 실행 (VirtualThreadEventExecutor)
+ *  - 핸들러는 요청한 사용자를 물려받지 않고 SYSTEM으로 실행 (RequestContext)
+ *  - 외부 전송 수단으로 받은 이벤트는 스레드 풀을 거치지 않고 수신 스레드에서 실행 (InlineEventExecution)
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(EventExecutorProperties.class)
+public class EventExecutorConfig {
+    public static final String PAYMENT = "paymentEventExecutor";
+    public static final String REVIEW = "reviewEventExecutor";
+    public static final String STORE = "storeEventExecutor";
+
+    private final EventExecutorProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean(name = PAYMENT)
+    public Executor paymentEventExecutor() {
+        return create("payment", properties.getPayment());
+    }
+
+    @Bean(name = REVIEW)
+    public Executor reviewEventExecutor() {
+        return create("review", properties.getReview());
+    }
+
+    @Bean(name = STORE)
+    public Executor storeEventExecutor() {
+        return create("store", properties.getStore());
+    }
+
+    private Executor create(String pool, EventExecutorProperties.Pool config) {
+        Timer latency = Timer.builder("events.handler.latency")
+                .tag("pool", pool)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        if (virtualThreads) {
+            VirtualThreadEventExecutor executor = new VirtualThreadEventExecutor(
+                    "Event-" + pool + "-",
+                    config.getMaxSize(),
+                    task -> RequestContext.systemTask(EventMetrics.propagate(latency.wrap(task))),
+                    new OverflowHandler(pool, config.getOverflow(), meterRegistry));
+
+            Gauge.builder("executor.active", executor, VirtualThreadEventExecutor::getActiveCount)
+                    .tag("name", "event." + pool)
+                    .register(meterRegistry);
+
+            return InlineEventExecution.wrap(executor);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(config.getCoreSize());
+        executor.setMaxPoolSize(config.getMaxSize());
+        executor.setQueueCapacity(config.getQueueCapacity());
+        executor.setThreadNamePrefix("Event-" + pool + "-");
+        executor.setRejectedExecutionHandler(new OverflowHandler(pool, config.getOverflow(), meterRegistry));
+        executor.setTaskDecorator(task -> RequestContext.systemTask(EventMetrics.propagate(latency.wrap(task))));
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "event." + pool, Tags.empty()).bindTo(meterRegistry);
+
+        return InlineEventExecution.wrap(executor);
+    }
+}
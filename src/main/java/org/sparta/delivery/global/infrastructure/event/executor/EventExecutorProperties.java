@@ -0,0 +1,30 @@
+package org.sparta.delivery.global.infrastructure.event.executor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 이벤트 핸들러 그룹별 스레드 풀 설정
+ *  - payment: 주문 접수, 결제 승인, 결제 등록 실패 (결제 흐름)
+ *  - review: 리뷰 평점 분포 갱신
+ *  - store: 매장 위치 인덱스 갱신
+ */
+@Data
+@ConfigurationProperties(prefix = "events.executors")
+public class EventExecutorProperties {
+    private Pool payment = new Pool(10, 30, 200, OverflowPolicy.CALLER_RUNS);
+    private Pool review = new Pool(2, 5, 500, OverflowPolicy.OUTBOX);
+    private Pool store = new Pool(1, 2, 200, OverflowPolicy.REJECT);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int coreSize; // 기본 스레드 수
+        private int maxSize; // 최대 스레드 수
+        private int queueCapacity; // 대기 큐 용량
+        private OverflowPolicy overflow; // 대기 큐까지 가득 찼을 때 처리 방식
+    }
+}
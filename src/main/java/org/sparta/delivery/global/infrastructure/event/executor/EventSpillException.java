@@ -0,0 +1,10 @@
+package org.sparta.delivery.global.infrastructure.event.executor;
+
+import java.util.concurrent.RejectedExecutionException;
+
+// 스레드 풀이 가득 차 아웃박스로 넘겨야 하는 경우 (OverflowPolicy.OUTBOX)
+public class EventSpillException extends RejectedExecutionException {
+    public EventSpillException(String pool) {
+        super("이벤트 스레드 풀(" + pool + ")이 가득 차 아웃박스로 전달합니다.");
+    }
+}
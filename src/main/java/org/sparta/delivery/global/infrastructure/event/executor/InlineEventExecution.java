@@ -0,0 +1,132 @@
+package org.sparta.delivery.global.infrastructure.event.executor;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * 이벤트 핸들러를 호출한 스레드에서 바로 실행
+ *  - 외부 전송 수단(Redis Streams), 아웃박스 릴레이로 받은 이벤트는 핸들러 실행(트랜잭션 커밋)이 끝난 뒤에 수신 확인(ACK), 전달 완료(PUBLISHED) 처리해야 하므로
+ *    run() 안에서 발행된 이벤트는 @Async 핸들러도 스레드 풀에 넘기지 않고 호출한 스레드에서 실행
+ *  - 핸들러 실패는 지연 재시도(@DelayedRetry)의 메모리 타이머 대신 전달 수단(아웃박스, Redis 대기 목록)에서 재시도하며,
+ *    전달 수단의 마지막 시도(lastAttempt)인 경우에만 지연 재시도가 데드레터 저장, 보상(@Recover)까지 처리
+ *  - 데드레터 재처리(replay)는 재시도, 데드레터 저장, 보상 없이 핸들러 예외를 그대로 전달하여 재처리 결과로 사용
+ *  - 반환값이 없는 @Async 핸들러의 예외는 호출한 쪽으로 전달되지 않고 AsyncUncaughtExceptionHandler로 넘어가므로 기록해 두었다가 run()이 끝날 때 다시 던짐 (EventConfig)
+ */
+public final class InlineEventExecution {
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+    private InlineEventExecution() {}
+
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    private static final class Context {
+        private final int attempt; // 전달 수단의 시도 횟수
+        private final boolean lastAttempt; // 전달 수단의 마지막 시도 여부
+        private final boolean replay; // 데드레터 재처리 여부
+        private Throwable failure; // 실행중 발생한 핸들러 예외, 여러 핸들러가 실패하면 첫번째 예외에 나머지를 추가(suppressed)
+
+        private Context(int attempt, boolean lastAttempt, boolean replay) {
+            this.attempt = attempt;
+            this.lastAttempt = lastAttempt;
+            this.replay = replay;
+        }
+    }
+
+    // 전달 수단에서 다시 시도할 수 있는 실행 - 핸들러가 하나라도 실패하면 예외 발생
+    public static void run(Task task) throws Exception {
+        run(task, 1, false);
+    }
+
+    /**
+     * 핸들러가 하나라도 실패하면 예외 발생
+     * @param attempt 전달 수단의 시도 횟수
+     * @param lastAttempt 전달 수단의 마지막 시도 여부 - 마지막 시도라면 핸들러 실패시 데드레터 저장, 보상 처리(@DelayedRetry)
+     */
+    public static void run(Task task, int attempt, boolean lastAttempt) throws Exception {
+        run(task, new Context(attempt, lastAttempt, false));
+    }
+
+    // 데드레터 재처리 - 핸들러 실패는 최종 실패 처리(데드레터 저장, 보상) 없이 그대로 전달
+    public static void replay(Task task) throws Exception {
+        run(task, new Context(1, false, true));
+    }
+
+    private static void run(Task task, Context context) throws Exception {
+        Context previous = CONTEXT.get();
+        CONTEXT.set(context);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) CONTEXT.remove();
+            else CONTEXT.set(previous);
+        }
+
+        Throwable failure = context.failure;
+        if (failure instanceof Exception e) throw e;
+        if (failure instanceof Error e) throw e;
+    }
+
+    public static boolean isActive() {
+        return CONTEXT.get() != null;
+    }
+
+    public static int attempt() {
+        Context context = CONTEXT.get();
+        return context == null ? 1 : context.attempt;
+    }
+
+    public static boolean isLastAttempt() {
+        Context context = CONTEXT.get();
+        return context != null && context.lastAttempt;
+    }
+
+    public static boolean isReplay() {
+        Context context = CONTEXT.get();
+        return context != null && context.replay;
+    }
+
+    // run() 안에서 실행된 핸들러의 예외 기록 - run() 밖이라면 기록하지 않고 false 반환
+    public static boolean recordFailure(Throwable e) {
+        Context context = CONTEXT.get();
+        if (context == null) return false;
+
+        if (context.failure == null) context.failure = e;
+        else if (context.failure != e) context.failure.addSuppressed(e);
+        return true;
+    }
+
+    // 이벤트 스레드 풀 - InlineEventExecution.run() 안에서 요청된 작업은 호출한 스레드에서 실행
+    static AsyncTaskExecutor wrap(AsyncTaskExecutor delegate) {
+        return new AsyncTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                if (isActive()) task.run();
+                else delegate.execute(task);
+            }
+
+            @Override
+            public Future<?> submit(Runnable task) {
+                if (!isActive()) return delegate.submit(task);
+
+                task.run();
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public <T> Future<T> submit(Callable<T> task) {
+                if (!isActive()) return delegate.submit(task);
+
+                try {
+                    return CompletableFuture.completedFuture(task.call());
+                } catch (Exception e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package org.sparta.delivery.global.infrastructure.event.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.sparta.delivery.global.infrastructure.event.retry.DelayedRetryAspect;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 스레드 풀이 가득 찼을 때 처리
+ *  - 지연 재시도 타이머에서 요청한 경우 타이머 스레드에서 실행하지 않도록 정책과 상관없이 거절 (타이머가 다시 예약)
+ */
+public class OverflowHandler implements RejectedExecutionHandler {
+    private final String pool;
+    private final OverflowPolicy policy;
+    private final Counter rejected;
+
+    public OverflowHandler(String pool, OverflowPolicy policy, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.policy = policy;
+        this.rejected = Counter.builder("events.executor.rejected")
+                .tag("pool", pool)
+                .tag("policy", policy.name())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        reject(task, executor.isShutdown());
+    }
+
+    // 가상 스레드 모드(VirtualThreadEventExecutor)에서 동시 실행 수 제한을 초과한 경우에도 사용
+    public void reject(Runnable task, boolean shutdown) {
+        rejected.increment();
+
+        if (shutdown || DelayedRetryAspect.isTimerThread()) {
+            throw new RejectedExecutionException("이벤트 스레드 풀(" + pool + ")이 가득 찼습니다.");
+        }
+
+        switch (policy) {
+            case CALLER_RUNS -> task.run();
+            case OUTBOX -> throw new EventSpillException(pool);
+            case REJECT -> throw new RejectedExecutionException("이벤트 스레드 풀(" + pool + ")이 가득 찼습니다.");
+        }
+    }
+}
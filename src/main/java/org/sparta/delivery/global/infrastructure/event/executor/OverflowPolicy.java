@@ -0,0 +1,8 @@
+package org.sparta.delivery.global.infrastructure.event.executor;
+
+// 이벤트 스레드 풀이 가득 찼을 때 처리 방식
+public enum OverflowPolicy {
+    CALLER_RUNS, // 이벤트를 발행한 스레드에서 실행 (발행 속도 조절)
+    OUTBOX, // 아웃박스에 저장 후 릴레이에서 다시 전달
+    REJECT // 거절 (지표만 기록)
+}
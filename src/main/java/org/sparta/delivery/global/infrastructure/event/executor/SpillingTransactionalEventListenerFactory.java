@@ -0,0 +1,72 @@
+package org.sparta.delivery.global.infrastructure.event.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.global.infrastructure.event.EventListenerRegistry;
+import org.sparta.delivery.global.infrastructure.event.metrics.EventMetrics;
+import org.sparta.delivery.global.infrastructure.event.outbox.OutboxService;
+import org.sparta.delivery.global.infrastructure.security.RequestContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+
+import java.lang.reflect.Method;
+
+/**
+ * @TransactionalEventListener 핸들러 생성 - 기본 팩토리(order = 50)보다 먼저 적용
+ *  - 커밋 이후 핸들러의 스레드 풀이 가득 차 아웃박스로 넘겨야 하는 경우(EventSpillException) 이벤트를 핸들러 ID와 함께 아웃박스에 저장
+ *  - 같은 이벤트의 다른 핸들러가 중복 실행되지 않도록 릴레이는 저장된 핸들러만 다시 실행 (EventListenerRegistry)
+ */
+@Slf4j
+@Component
+public class SpillingTransactionalEventListenerFactory extends TransactionalEventListenerFactory {
+    private final ObjectProvider<OutboxService> outboxService;
+    private final EventListenerRegistry registry;
+
+    public SpillingTransactionalEventListenerFactory(ObjectProvider<OutboxService> outboxService, EventListenerRegistry registry) {
+        this.outboxService = outboxService;
+        this.registry = registry;
+        setOrder(40);
+    }
+
+    @Override
+    public ApplicationListener<?> createApplicationListener(String beanName, Class<?> type, Method method) {
+        TransactionalApplicationListenerMethodAdapter listener = new TransactionalApplicationListenerMethodAdapter(beanName, type, method) {
+            @Override
+            public void processEvent(ApplicationEvent event) {
+                // 핸들러는 SYSTEM으로 실행, 핸들러 호출(커밋 직후) 시점 기록
+                RequestContext.runAsSystem(() -> EventMetrics.dispatching(() -> super.processEvent(event)));
+            }
+        };
+        listener.addCallback(new TransactionalApplicationListener.SynchronizationCallback() {
+            @Override
+            public void postProcessEvent(ApplicationEvent event, Throwable ex) {
+                if (isSpill(ex) && event instanceof PayloadApplicationEvent<?> payload) {
+                    spill(listener.getListenerId(), payload.getPayload());
+                }
+            }
+        });
+
+        registry.register(method, listener);
+        return listener;
+    }
+
+    private boolean isSpill(Throwable ex) {
+        for (Throwable e = ex; e != null; e = e.getCause()) {
+            if (e instanceof EventSpillException) return true;
+        }
+        return false;
+    }
+
+    private void spill(String listenerId, Object event) {
+        try {
+            outboxService.getObject().spill(event, listenerId);
+        } catch (Exception e) {
+            log.error("이벤트 아웃박스 저장 실패. 사유: {}. 핸들러: {}, 이벤트: {}", e.getMessage(), listenerId, event, e);
+        }
+    }
+}
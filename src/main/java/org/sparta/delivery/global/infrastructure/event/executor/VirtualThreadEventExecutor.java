@@ -0,0 +1,73 @@
+package org.sparta.delivery.global.infrastructure.event.executor;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 모드의 이벤트 핸들러 실행기 - 작업마다 가상 스레드를 생성하고 동시 실행 수를 세마포어로 제한
+ *  - 스레드 풀의 최대 스레드 수(max-size)를 동시 실행 수로 사용하며 대기 큐는 없음
+ *  - 동시 실행 수를 초과하면 스레드 풀이 가득 찬 경우와 같이 처리 방식(OverflowHandler)에 따라 처리
+ *  - 핸들러가 동시에 사용할 수 있는 DB 커넥션 수를 제한하여 커넥션 풀(Hikari) 고갈 방지
+ */
+public class VirtualThreadEventExecutor implements AsyncTaskExecutor {
+    private final int concurrencyLimit;
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+    private final TaskDecorator taskDecorator;
+    private final OverflowHandler overflowHandler;
+
+    public VirtualThreadEventExecutor(String threadNamePrefix, int concurrencyLimit, TaskDecorator taskDecorator, OverflowHandler overflowHandler) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.permits = new Semaphore(concurrencyLimit);
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.taskDecorator = taskDecorator;
+        this.overflowHandler = overflowHandler;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            overflowHandler.reject(task, false);
+            return;
+        }
+
+        Runnable decorated = taskDecorator.decorate(task);
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    decorated.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        execute(future);
+        return future;
+    }
+
+    // 실행중인 핸들러 수
+    public int getActiveCount() {
+        return concurrencyLimit - permits.availablePermits();
+    }
+}
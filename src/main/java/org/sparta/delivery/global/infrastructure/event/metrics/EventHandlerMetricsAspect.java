@@ -0,0 +1,50 @@
+package org.sparta.delivery.global.infrastructure.event.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트 핸들러(@EventListener, @TransactionalEventListener) 실행 지표 기록
+ *  - 지연 재시도(@DelayedRetry)보다 나중에, 트랜잭션(@Transactional)보다 먼저 실행되어 시도마다 커밋까지 포함한 실행 시간을 기록
+ *  - 비동기 핸들러(@Async)는 이벤트 스레드 풀에서 실행될 때 기록
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class EventHandlerMetricsAspect {
+    private final EventMetrics metrics;
+
+    @Around("within(org.sparta.delivery..*) && (@annotation(org.springframework.context.event.EventListener) || @annotation(org.springframework.transaction.event.TransactionalEventListener))")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        String event = EventMetrics.eventTag(args.length > 0 ? args[0] : null);
+        String handler = EventMetrics.handlerTag(joinPoint.getSignature());
+
+        long start = System.nanoTime();
+        Long dispatchedAt = EventMetrics.dispatchedAt();
+        if (dispatchedAt != null) metrics.lag(event, handler, start - dispatchedAt);
+
+        AtomicInteger inFlight = metrics.inFlight(event);
+        inFlight.incrementAndGet();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            inFlight.decrementAndGet();
+
+            long end = System.nanoTime();
+            metrics.duration(event, handler, success, end - start);
+            if (dispatchedAt != null) metrics.completion(event, handler, end - dispatchedAt);
+        }
+    }
+}
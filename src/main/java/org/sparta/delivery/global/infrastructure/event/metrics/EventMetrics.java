@@ -0,0 +1,120 @@
+package org.sparta.delivery.global.infrastructure.event.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.Signature;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트 발행, 핸들러 지표 (tag: event = 이벤트 단순 클래스명, handler = 핸들러 클래스.메서드)
+ *  - events.published: 발행 건수 (tag: mode = outbox | direct)
+ *  - events.handler.lag: 핸들러 호출(커밋 직후 또는 발행 즉시)부터 실행 시작까지 대기 시간 - 스레드 풀 대기 큐에서 보낸 시간
+ *  - events.handler.duration: 핸들러 실행 시간 (tag: outcome = success | failure)
+ *  - events.handler.completion: 핸들러 호출부터 실행 완료까지 시간
+ *  - events.handler.inflight: 실행중인 핸들러 수
+ *  - events.handler.retries: 지연 재시도 횟수
+ *  - events.handler.recovered: 최종 실패 후처리(@Recover) 호출 횟수
+ *
+ *  핸들러 호출 시점은 핸들러를 호출하는 스레드에 기록(dispatching)하고, 이벤트 스레드 풀에 작업을 넘길 때 함께 전달(propagate)
+ */
+@Component
+@RequiredArgsConstructor
+public class EventMetrics {
+    private static final ThreadLocal<Long> DISPATCHED_AT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    // 핸들러 호출 시점 기록 - 핸들러 어댑터(processEvent)에서 호출
+    public static void dispatching(Runnable invocation) {
+        Long previous = DISPATCHED_AT.get();
+        DISPATCHED_AT.set(System.nanoTime());
+        try {
+            invocation.run();
+        } finally {
+            if (previous == null) DISPATCHED_AT.remove();
+            else DISPATCHED_AT.set(previous);
+        }
+    }
+
+    // 스레드 풀 작업에 핸들러 호출 시점 전달 - TaskDecorator는 작업을 요청한 스레드에서 실행
+    public static Runnable propagate(Runnable task) {
+        Long dispatchedAt = DISPATCHED_AT.get();
+        if (dispatchedAt == null) return task;
+
+        return () -> {
+            DISPATCHED_AT.set(dispatchedAt);
+            try {
+                task.run();
+            } finally {
+                DISPATCHED_AT.remove();
+            }
+        };
+    }
+
+    // 핸들러 호출 시점 - 재시도처럼 호출 시점이 전달되지 않은 경우 null
+    static Long dispatchedAt() {
+        return DISPATCHED_AT.get();
+    }
+
+    public void published(Object event, String mode) {
+        Counter.builder("events.published")
+                .tags(Tags.of("event", eventTag(event), "mode", mode))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    void lag(String event, String handler, long nanos) {
+        timer("events.handler.lag", Tags.of("event", event, "handler", handler)).record(Duration.ofNanos(nanos));
+    }
+
+    void duration(String event, String handler, boolean success, long nanos) {
+        timer("events.handler.duration", Tags.of("event", event, "handler", handler, "outcome", success ? "success" : "failure"))
+                .record(Duration.ofNanos(nanos));
+    }
+
+    void completion(String event, String handler, long nanos) {
+        timer("events.handler.completion", Tags.of("event", event, "handler", handler)).record(Duration.ofNanos(nanos));
+    }
+
+    AtomicInteger inFlight(String event) {
+        return inFlight.computeIfAbsent(event, e -> meterRegistry.gauge("events.handler.inflight", Tags.of("event", e), new AtomicInteger()));
+    }
+
+    public void retried(Object event, String handler) {
+        counter("events.handler.retries", event, handler).increment();
+    }
+
+    public void recovered(Object event, String handler) {
+        counter("events.handler.recovered", event, handler).increment();
+    }
+
+    public static String eventTag(Object event) {
+        return event == null ? "none" : event.getClass().getSimpleName();
+    }
+
+    public static String handlerTag(Signature signature) {
+        return signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+    }
+
+    private Counter counter(String name, Object event, String handler) {
+        return Counter.builder(name)
+                .tags(Tags.of("event", eventTag(event), "handler", handler))
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String name, Tags tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
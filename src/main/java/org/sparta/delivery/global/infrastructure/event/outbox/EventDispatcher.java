@@ -0,0 +1,33 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.global.infrastructure.event.EventListenerRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 이벤트를 복원하여 현재 서버의 핸들러로 전달
+ *  - 핸들러 ID가 있다면 해당 핸들러만 실행, 아니라면 이벤트 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class EventDispatcher {
+    private final ApplicationEventPublisher publisher;
+    private final EventListenerRegistry listenerRegistry;
+    private final ObjectMapper objectMapper;
+
+    public void dispatch(String eventType, String payload, String listenerId) throws Exception {
+        Object event = objectMapper.readValue(payload, Class.forName(eventType));
+        if (listenerId == null) {
+            publisher.publishEvent(event);
+            return;
+        }
+
+        ApplicationListenerMethodAdapter listener = listenerRegistry.find(listenerId)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 이벤트 핸들러입니다: " + listenerId));
+        listener.processEvent(new PayloadApplicationEvent<>(this, event));
+    }
+}
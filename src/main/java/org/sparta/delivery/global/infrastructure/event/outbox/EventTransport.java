@@ -0,0 +1,11 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+/**
+ * 아웃박스 메세지 전송 수단 (events.transport)
+ *  - local(기본): 현재 서버의 핸들러로 바로 전달 - 단일 서버 구성
+ *  - redis: Redis Streams에 추가하고 각 서버의 소비자 그룹이 나누어 처리 - 다중 서버 구성
+ *  전송에 실패하면 예외를 던져 릴레이가 재시도
+ */
+public interface EventTransport {
+    void send(OutboxMessage message) throws Exception;
+}
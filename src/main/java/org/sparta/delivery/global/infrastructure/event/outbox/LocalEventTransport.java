@@ -0,0 +1,31 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.global.infrastructure.event.executor.InlineEventExecution;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 서버의 핸들러로 전달
+ *  - @Async 핸들러도 릴레이 스레드에서 실행(InlineEventExecution)하므로 전달 완료는 핸들러 실행이 끝났다는 의미
+ *  - 핸들러가 하나라도 실패하면 예외가 릴레이로 전달되어 아웃박스에서 재시도 (이미 성공한 다른 핸들러도 다시 실행되므로 핸들러는 멱등하게 작성)
+ *  - 아웃박스의 마지막 시도라면 핸들러의 지연 재시도(@DelayedRetry)가 데드레터 저장, 보상까지 처리
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "events.transport", havingValue = "local", matchIfMissing = true)
+public class LocalEventTransport implements EventTransport {
+    private final EventDispatcher dispatcher;
+
+    @Value("${events.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Override
+    public void send(OutboxMessage message) throws Exception {
+        InlineEventExecution.run(
+                () -> dispatcher.dispatch(message.getEventType(), message.getPayload(), message.getListenerId()),
+                message.getAttempts(),
+                message.getAttempts() >= maxAttempts);
+    }
+}
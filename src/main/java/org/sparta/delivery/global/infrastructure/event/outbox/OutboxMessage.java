@@ -0,0 +1,91 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 메세지 - 도메인 이벤트를 애그리거트와 같은 트랜잭션에 저장
+ *  - availableAt: 전달 가능 일시, 릴레이가 선점하면 선점 만료 일시로, 전달 실패시 다음 재시도 일시로 변경
+ */
+@Entity
+@Getter
+@ToString
+@Access(AccessType.FIELD)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name="P_OUTBOX_MESSAGE", indexes = {
+        @Index(name="idx_outbox_message_status", columnList = "status, available_at"),
+        @Index(name="idx_outbox_message_published", columnList = "status, published_at") // 전달 완료 메세지 삭제
+})
+public class OutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length=200, nullable = false)
+    private String eventType; // 이벤트 클래스명
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String payload; // 이벤트 JSON
+
+    @Column(length=500)
+    private String listenerId; // 특정 핸들러로만 전달하는 경우 핸들러 ID (스레드 풀이 가득 차 넘겨진 이벤트)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length=20, nullable = false)
+    private OutboxStatus status;
+
+    private int attempts; // 전달 시도 횟수
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    private LocalDateTime publishedAt;
+
+    @Column(length=500)
+    private String lastError;
+
+    public OutboxMessage(String eventType, String payload) {
+        this(eventType, payload, null);
+    }
+
+    public OutboxMessage(String eventType, String payload, String listenerId) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.listenerId = listenerId;
+        this.status = OutboxStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.availableAt = this.createdAt;
+    }
+
+    // 릴레이 선점 - 선점 만료 전까지 다른 릴레이에서 조회되지 않음
+    public void claim(Duration lease) {
+        this.attempts++;
+        this.availableAt = LocalDateTime.now().plus(lease);
+    }
+
+    public void published() {
+        this.status = OutboxStatus.PUBLISHED;
+        this.publishedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 전달 실패 - 최대 시도 횟수를 초과하면 FAILED, 아니라면 지연 후 재시도
+    public void failed(String error, int maxAttempts, Duration retryDelay) {
+        this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        } else {
+            this.availableAt = LocalDateTime.now().plus(retryDelay);
+        }
+    }
+}
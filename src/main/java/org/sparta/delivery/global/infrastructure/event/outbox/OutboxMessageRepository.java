@@ -0,0 +1,33 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // 전달 가능한 메세지 조회 - 다른 릴레이가 잠근 행은 건너뛰므로 여러 서버에서 동시에 실행 가능
+    @Query(value = """
+            SELECT * FROM p_outbox_message
+            WHERE status = 'PENDING' AND available_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxMessage> findDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 보관 기간이 지난 전달 완료 메세지를 최대 limit개 삭제
+    @Modifying
+    @Query(value = """
+            DELETE FROM p_outbox_message
+            WHERE id IN (
+                SELECT id FROM p_outbox_message
+                WHERE status = 'PUBLISHED' AND published_at < :before
+                LIMIT :limit)
+            """, nativeQuery = true)
+    int deletePublished(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
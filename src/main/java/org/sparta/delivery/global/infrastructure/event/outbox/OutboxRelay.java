@@ -0,0 +1,144 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이
+ *  1. 전달 가능한 메세지를 일정 단위(batch-size)로 선점(SELECT ... FOR UPDATE SKIP LOCKED)하고 선점 만료 일시를 기록 후 커밋
+ *  2. 트랜잭션 밖에서 전송 수단(EventTransport)으로 전달
+ *     - local: 이벤트를 발행하여 기존 핸들러를 릴레이 스레드에서 실행(InlineEventExecution), 핸들러는 fallbackExecution = true로 트랜잭션 없이도 실행되며, 핸들러 예외는 릴레이까지 전달되어 재시도
+ *     - redis: Redis Streams에 추가하면 완료, 핸들러 실행은 각 서버의 소비자(RedisStreamEventConsumer)가 담당
+ *  3. 메세지별로 전달 완료시 바로 PUBLISHED, 실패시 지연 후 재시도, 최대 시도 횟수 초과시 FAILED
+ *     - 핸들러 실행이 끝난 뒤에 PUBLISHED로 변경하므로 핸들러 실행 전 서버가 중단되어도 메세지는 유실되지 않음
+ *  4. 선점 후 서버가 중단되면 선점 만료 이후 다른 릴레이에서 다시 전달
+ *     - 핸들러 실행이 길어 선점이 만료된 메세지는 전달하지 않고 남겨 다른 릴레이가 다시 선점하도록 함
+ *  5. 핸들러 스레드 풀이 가득 차 넘겨진 이벤트(listenerId)는 해당 핸들러만 다시 실행
+ *  6. 보관 기간(retention-hours)이 지난 PUBLISHED 메세지는 주기적으로 일정 단위(purge-batch-size)씩 삭제
+ *
+ *  지표(이벤트 유형별, tag: type)
+ *   - outbox.relay.dispatched: 전달 건수
+ *   - outbox.relay.failed: 전달 실패 건수
+ *   - outbox.relay.lag: 저장부터 전달까지 지연 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+    private final OutboxService outboxService;
+    private final EventTransport transport;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${events.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${events.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${events.outbox.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Value("${events.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${events.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${events.outbox.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    @Value("${events.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    @Value("${events.outbox.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    @Scheduled(fixedDelayString = "${events.outbox.poll-interval-ms:500}")
+    public void relay() {
+        if (!enabled) return;
+
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                if (relayBatch() < batchSize) break; // 남은 메세지가 없으면 다음 주기에 조회
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실패. 사유: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${events.outbox.purge-interval-ms:3600000}", fixedDelayString = "${events.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        if (!enabled) return;
+
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        int total = 0, deleted;
+        try {
+            do {
+                deleted = outboxService.purge(before, purgeBatchSize);
+                total += deleted;
+            } while (deleted >= purgeBatchSize);
+        } catch (Exception e) {
+            log.error("아웃박스 전달 완료 메세지 삭제 실패. 사유: {}", e.getMessage(), e);
+        }
+
+        if (total > 0) log.info("아웃박스 전달 완료 메세지 삭제. 삭제된 메세지수: {}, 기준 일시: {}", total, before);
+    }
+
+    // 조회한 메세지 수 반환
+    private int relayBatch() {
+        List<OutboxMessage> messages = outboxService.claim(batchSize, Duration.ofMillis(leaseMs));
+
+        for (OutboxMessage message : messages) {
+            if (!LocalDateTime.now().isBefore(message.getAvailableAt())) {
+                log.warn("아웃박스 선점 만료, 남은 메세지는 다음 선점시 전달. 메세지ID: {}", message.getId());
+                break;
+            }
+
+            String type = typeTag(message);
+            try {
+                transport.send(message);
+                outboxService.published(List.of(message.getId()));
+
+                counter("outbox.relay.dispatched", type).increment();
+                lag(type).record(Duration.between(message.getCreatedAt(), LocalDateTime.now()));
+            } catch (Exception e) {
+                counter("outbox.relay.failed", type).increment();
+                log.warn("아웃박스 이벤트 전달 실패. 사유: {}. 메세지ID: {}, 이벤트: {}, 시도: {}", e.getMessage(), message.getId(), type, message.getAttempts());
+
+                // 지수 백오프 - 재시도 간격은 최대 선점 시간까지
+                long delay = Math.min(retryDelayMs * (1L << Math.min(message.getAttempts() - 1, 10)), leaseMs);
+                outboxService.failed(message.getId(), e.getMessage(), maxAttempts, Duration.ofMillis(delay));
+            }
+        }
+
+        return messages.size();
+    }
+
+    private String typeTag(OutboxMessage message) {
+        String type = message.getEventType();
+        return type.substring(type.lastIndexOf('.') + 1);
+    }
+
+    private Counter counter(String name, String type) {
+        return Counter.builder(name)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private Timer lag(String type) {
+        return Timer.builder("outbox.relay.lag")
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
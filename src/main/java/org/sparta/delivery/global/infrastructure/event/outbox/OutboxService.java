@@ -0,0 +1,90 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.global.infrastructure.event.Outbox;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterService;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private final OutboxMessageRepository repository;
+    private final ObjectMapper objectMapper;
+    private final DeadLetterService deadLetterService;
+
+    @Value("${events.outbox.enabled:true}")
+    private boolean enabled;
+
+    // 아웃박스 저장 대상 - @Outbox 이벤트이고 트랜잭션 내에서 발행된 경우
+    public boolean isRecordable(Object event) {
+        return enabled
+                && event != null
+                && event.getClass().isAnnotationPresent(Outbox.class)
+                && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    // 애그리거트와 같은 트랜잭션에 저장
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Object event) {
+        repository.save(new OutboxMessage(event.getClass().getName(), toPayload(event)));
+    }
+
+    // 핸들러 스레드 풀이 가득 차 넘겨진 이벤트 저장 - 커밋 이후 호출되므로 새로운 트랜잭션
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void spill(Object event, String listenerId) {
+        repository.save(new OutboxMessage(event.getClass().getName(), toPayload(event), listenerId));
+    }
+
+    private String toPayload(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 변환 실패: " + event.getClass().getName(), e);
+        }
+    }
+
+    // 전달할 메세지 선점
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OutboxMessage> claim(int limit, Duration lease) {
+        List<OutboxMessage> messages = repository.findDispatchable(LocalDateTime.now(), limit);
+        messages.forEach(m -> m.claim(lease));
+
+        return messages;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void published(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+
+        repository.findAllById(ids).forEach(OutboxMessage::published);
+    }
+
+    // 최대 시도 횟수를 초과하면 데드레터로 저장
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void failed(Long id, String error, int maxAttempts, Duration retryDelay) {
+        repository.findById(id).ifPresent(m -> {
+            m.failed(error, maxAttempts, retryDelay);
+            if (m.getStatus() == OutboxStatus.FAILED) {
+                deadLetterService.record(m.getEventType(), m.getPayload(), m.getListenerId(), DeadLetterSource.OUTBOX, m.getLastError(), m.getAttempts(), m.getCreatedAt());
+            }
+        });
+    }
+
+    // 보관 기간이 지난 전달 완료 메세지 삭제, 삭제된 메세지 수 반환
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int purge(LocalDateTime before, int limit) {
+        return repository.deletePublished(before, limit);
+    }
+}
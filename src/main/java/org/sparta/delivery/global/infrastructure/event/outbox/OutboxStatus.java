@@ -0,0 +1,7 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+public enum OutboxStatus {
+    PENDING, // 전달 대기
+    PUBLISHED, // 전달 완료
+    FAILED // 최대 재시도 초과
+}
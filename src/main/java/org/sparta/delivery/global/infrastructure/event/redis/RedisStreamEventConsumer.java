@@ -0,0 +1,280 @@
+package org.sparta.delivery.global.infrastructure.event.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterService;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterSource;
+import org.sparta.delivery.global.infrastructure.event.executor.InlineEventExecution;
+import org.sparta.delivery.global.infrastructure.event.outbox.EventDispatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis Streams 이벤트 소비자 - 서버마다 하나씩 실행되며 같은 소비자 그룹(group)으로 메세지를 나누어 처리
+ *  1. XREADGROUP COUNT batch-size BLOCK block-ms 로 새 메세지를 묶어서 조회
+ *  2. 핸들러를 스레드 풀에 넘기지 않고 소비자 스레드에서 실행(InlineEventExecution) - 핸들러 트랜잭션 커밋 이후 XACK
+ *     - 핸들러가 실패하거나 복원/전달 자체가 실패한 메세지는 ACK하지 않고 대기 목록(PEL)에 남김 (지연 재시도(@DelayedRetry)는 예외를 그대로 전달)
+ *  3. 대기 목록에서 claim-min-idle-ms 이상 처리되지 않은 메세지(중단된 서버의 메세지 포함)를 XCLAIM으로 가져와 다시 처리
+ *     - 이번 전달이 max-deliveries번째라면 마지막 시도로 실행하여 핸들러 실패시 지연 재시도가 데드레터 저장, 보상(@Recover)까지 처리 후 ACK
+ *     - 전달 횟수가 max-deliveries 이상이면(복원/전달 자체가 계속 실패) 데드레터로 저장하고 ACK하여 제외
+ *
+ *  지표(tag: type)
+ *   - events.redis.consumed: 처리 건수
+ *   - events.redis.failed: 처리 실패 건수
+ *   - events.redis.claimed: 다른 소비자로부터 가져온 건수
+ *   - events.redis.dropped: 최대 전달 횟수를 넘어 데드레터로 저장된 건수
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.transport", havingValue = "redis")
+public class RedisStreamEventConsumer implements SmartLifecycle {
+    private final StringRedisTemplate redisTemplate;
+    private final EventDispatcher dispatcher;
+    private final DeadLetterService deadLetterService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${events.redis.stream:delivery:events}")
+    private String stream;
+
+    @Value("${events.redis.group:${spring.application.name:delivery}}")
+    private String group;
+
+    @Value("${events.redis.consumer:}")
+    private String consumer;
+
+    @Value("${events.redis.batch-size:50}")
+    private int batchSize;
+
+    @Value("${events.redis.block-ms:2000}")
+    private long blockMs;
+
+    @Value("${events.redis.claim-interval-ms:30000}")
+    private long claimIntervalMs;
+
+    @Value("${events.redis.claim-min-idle-ms:60000}")
+    private long claimMinIdleMs;
+
+    @Value("${events.redis.max-deliveries:10}")
+    private long maxDeliveries;
+
+    private volatile boolean running;
+    private Thread worker;
+    private long lastClaimAt;
+
+    public RedisStreamEventConsumer(StringRedisTemplate redisTemplate, EventDispatcher dispatcher, DeadLetterService deadLetterService, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.dispatcher = dispatcher;
+        this.deadLetterService = deadLetterService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        if (!StringUtils.hasText(consumer)) {
+            consumer = group + "-" + UUID.randomUUID();
+        }
+
+        createGroup();
+
+        running = true;
+        worker = Thread.ofPlatform().name("Redis-Stream-Consumer").start(this::poll);
+        log.info("Redis 스트림 이벤트 소비 시작. 스트림: {}, 그룹: {}, 소비자: {}", stream, group, consumer);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) return;
+
+        try {
+            worker.join(blockMs * 2); // 처리중인 메세지까지 완료 후 종료, 남은 메세지는 다른 서버에서 XCLAIM
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void poll() {
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                if (now - lastClaimAt >= claimIntervalMs) {
+                    lastClaimAt = now;
+                    claimIdle();
+                }
+
+                List<MapRecord<String, Object, Object>> records = ops().read(
+                        Consumer.from(group, consumer),
+                        StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(blockMs)),
+                        StreamOffset.create(stream, ReadOffset.lastConsumed()));
+
+                if (records != null && !records.isEmpty()) handle(records, Map.of());
+
+            } catch (Exception e) {
+                if (!running) break;
+
+                log.error("Redis 스트림 이벤트 조회 실패. 사유: {}", e.getMessage(), e);
+                sleep(blockMs);
+
+                if (isNoGroup(e)) recreateGroup(); // 스트림이 삭제된 경우 다시 생성
+            }
+        }
+    }
+
+    /**
+     * 처리 완료된 메세지만 ACK, 실패한 메세지는 대기 목록에 남겨 XCLAIM으로 재처리
+     * @param deliveries 메세지별 이번 전달 횟수, 없다면 첫번째 전달
+     */
+    private void handle(List<MapRecord<String, Object, Object>> records, Map<RecordId, Long> deliveries) {
+        List<RecordId> acked = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            String eventType = (String) fields.get(RedisStreamEventTransport.EVENT_TYPE);
+            String type = typeTag(eventType);
+            long delivery = deliveries.getOrDefault(record.getId(), 1L);
+            try {
+                InlineEventExecution.run(() -> dispatcher.dispatch(
+                        eventType,
+                        (String) fields.get(RedisStreamEventTransport.PAYLOAD),
+                        (String) fields.get(RedisStreamEventTransport.LISTENER_ID)),
+                        (int) delivery,
+                        delivery >= maxDeliveries);
+
+                acked.add(record.getId());
+                counter("events.redis.consumed", type).increment();
+            } catch (Exception e) {
+                counter("events.redis.failed", type).increment();
+                log.warn("Redis 스트림 이벤트 처리 실패. 사유: {}. 메세지ID: {}, 아웃박스ID: {}, 이벤트: {}", e.getMessage(), record.getId(), fields.get(RedisStreamEventTransport.OUTBOX_ID), type);
+            }
+        }
+
+        acknowledge(acked);
+    }
+
+    // 오랫동안 ACK되지 않은 메세지를 현재 소비자로 가져와 처리
+    private void claimIdle() {
+        PendingMessages pending = ops().pending(stream, group, Range.unbounded(), batchSize);
+        if (pending == null || pending.isEmpty()) return;
+
+        Duration minIdle = Duration.ofMillis(claimMinIdleMs);
+        List<RecordId> claimable = new ArrayList<>();
+        Map<RecordId, Long> deliveries = new HashMap<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) continue;
+
+            if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                deadLetter(message);
+            } else {
+                claimable.add(message.getId());
+                deliveries.put(message.getId(), message.getTotalDeliveryCount() + 1); // XCLAIM으로 전달 횟수 증가
+            }
+        }
+
+        if (claimable.isEmpty()) return;
+
+        List<MapRecord<String, Object, Object>> claimed = ops().claim(stream, group, consumer, minIdle, claimable.toArray(RecordId[]::new));
+        if (claimed == null || claimed.isEmpty()) return;
+
+        claimed.forEach(r -> counter("events.redis.claimed", typeTag((String) r.getValue().get(RedisStreamEventTransport.EVENT_TYPE))).increment());
+        handle(claimed, deliveries);
+    }
+
+    // 최대 전달 횟수를 초과한 메세지를 데드레터로 저장 후 ACK
+    private void deadLetter(PendingMessage message) {
+        RecordId id = message.getId();
+        List<MapRecord<String, Object, Object>> records = ops().range(stream, Range.closed(id.getValue(), id.getValue()));
+        if (records != null && !records.isEmpty()) {
+            Map<Object, Object> fields = records.getFirst().getValue();
+            String eventType = (String) fields.get(RedisStreamEventTransport.EVENT_TYPE);
+            deadLetterService.record(
+                    eventType,
+                    (String) fields.get(RedisStreamEventTransport.PAYLOAD),
+                    (String) fields.get(RedisStreamEventTransport.LISTENER_ID),
+                    DeadLetterSource.STREAM,
+                    "최대 전달 횟수(" + maxDeliveries + ") 초과. 메세지ID: " + id.getValue(),
+                    (int) message.getTotalDeliveryCount(),
+                    null);
+            counter("events.redis.dropped", typeTag(eventType)).increment();
+        } else { // 스트림 길이 제한으로 이미 삭제된 메세지
+            log.error("최대 전달 횟수({})를 초과한 Redis 스트림 이벤트를 제외합니다. 메세지ID: {}", maxDeliveries, id);
+            counter("events.redis.dropped", "unknown").increment();
+        }
+
+        acknowledge(List.of(id));
+    }
+
+    private void acknowledge(List<RecordId> ids) {
+        if (ids.isEmpty()) return;
+
+        ops().acknowledge(stream, group, ids.toArray(RecordId[]::new));
+    }
+
+    // 소비자 그룹 생성 - 스트림이 없으면 함께 생성(MKSTREAM), 이미 있으면(BUSYGROUP) 무시
+    private void createGroup() {
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(stream.getBytes(StandardCharsets.UTF_8), group, ReadOffset.from("0"), true));
+        } catch (Exception e) {
+            if (!String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage()).contains("BUSYGROUP")) throw e;
+        }
+    }
+
+    private void recreateGroup() {
+        try {
+            createGroup();
+        } catch (Exception e) {
+            log.error("Redis 스트림 소비자 그룹 생성 실패. 사유: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean isNoGroup(Exception e) {
+        return String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage()).contains("NOGROUP");
+    }
+
+    private StreamOperations<String, Object, Object> ops() {
+        return redisTemplate.opsForStream();
+    }
+
+    private String typeTag(String eventType) {
+        if (eventType == null) return "unknown";
+
+        return eventType.substring(eventType.lastIndexOf('.') + 1);
+    }
+
+    private Counter counter(String name, String type) {
+        return Counter.builder(name)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
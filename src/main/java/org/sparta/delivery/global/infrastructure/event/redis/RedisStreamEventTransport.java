@@ -0,0 +1,57 @@
+package org.sparta.delivery.global.infrastructure.event.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.global.infrastructure.event.outbox.EventTransport;
+import org.sparta.delivery.global.infrastructure.event.outbox.OutboxMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 아웃박스 메세지를 Redis Streams에 추가 (XADD)
+ *  - 스트림 길이는 max-length 근사치(~)로 유지하여 처리된 메세지가 무한히 쌓이지 않도록 함
+ *  - 아웃박스 메세지 ID를 함께 저장하여 중복 전달 추적
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "events.transport", havingValue = "redis")
+public class RedisStreamEventTransport implements EventTransport {
+    static final String EVENT_TYPE = "type";
+    static final String PAYLOAD = "payload";
+    static final String LISTENER_ID = "listenerId";
+    static final String OUTBOX_ID = "outboxId";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${events.redis.stream:delivery:events}")
+    private String stream;
+
+    @Value("${events.redis.max-length:100000}")
+    private long maxLength;
+
+    @Override
+    public void send(OutboxMessage message) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(EVENT_TYPE, message.getEventType());
+        fields.put(PAYLOAD, message.getPayload());
+        fields.put(OUTBOX_ID, String.valueOf(message.getId()));
+        if (message.getListenerId() != null) {
+            fields.put(LISTENER_ID, message.getListenerId());
+        }
+
+        RecordId id = redisTemplate.opsForStream().add(
+                StreamRecords.newRecord().in(stream).ofMap(fields),
+                RedisStreamCommands.XAddOptions.maxlen(maxLength).approximateTrimming(true));
+
+        if (id == null) {
+            throw new IllegalStateException("Redis 스트림에 이벤트를 추가하지 못했습니다: " + stream);
+        }
+    }
+}
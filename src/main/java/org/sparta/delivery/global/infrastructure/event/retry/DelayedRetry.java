@@ -0,0 +1,30 @@
+package org.sparta.delivery.global.infrastructure.event.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 비동기 이벤트 핸들러 지연 재시도
+ *  - @Retryable과 같은 재시도 횟수 및 지수 백오프 간격으로 재시도하지만, 대기하는 동안 스레드를 점유하지 않음
+ *  - 실패하면 타이머(DelayQueue)에 다음 시도를 등록하고, 시간이 되면 비동기 스레드 풀에서 다시 실행
+ *  - 아웃박스 릴레이, Redis Streams 소비자에서 실행된 경우 타이머 대신 전달 수단이 재시도 (DelayedRetryAspect)
+ *  - 최종 실패시 같은 클래스의 @Recover 메서드(예외, 이벤트) 호출
+ *  - 반환값이 없는(void) @Async 메서드에만 사용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DelayedRetry {
+    Class<? extends Throwable>[] retryFor() default { Exception.class };
+
+    Class<? extends Throwable>[] noRetryFor() default {};
+
+    int maxAttempts() default 3; // 최초 실행 포함 최대 시도 횟수
+
+    long delay() default 1000; // 첫 재시도 지연 시간(ms)
+
+    double multiplier() default 1.0; // 재시도마다 지연 시간 배수
+
+    long maxDelay() default 30000; // 최대 지연 시간(ms)
+}
@@ -0,0 +1,218 @@
+package org.sparta.delivery.global.infrastructure.event.retry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.sparta.delivery.global.infrastructure.event.EventListenerRegistry;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterService;
+import org.sparta.delivery.global.infrastructure.event.executor.InlineEventExecution;
+import org.sparta.delivery.global.infrastructure.event.metrics.EventMetrics;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.retry.annotation.Recover;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.*;
+
+/**
+ * 지연 재시도(@DelayedRetry) 처리
+ *  1. 비동기 스레드에서 최초 실행, 실패하면 다음 시도를 타이머에 등록하고 스레드를 반환
+ *  2. 지연 시간이 지나면 타이머 스레드는 실행만 핸들러의 비동기 스레드 풀(@Async)에 요청 (타이머 스레드에서는 핸들러를 실행하지 않음)
+ *  3. 스레드 풀이 가득 차 요청이 거절되면 시도 횟수를 차감하지 않고 같은 지연 시간 후 다시 요청
+ *  4. 재시도 불가 예외이거나 최대 시도 횟수 초과시 @Recover 메서드를 프록시로 호출(보상 트랜잭션 적용)한 뒤 이벤트를 데드레터로 저장
+ *     - 보상이 완료되었다면 재처리 대상에서 제외(COMPENSATED), @Recover 메서드가 없거나 보상이 실패했다면 재처리 대기(DEAD)
+ *  5. 전달 수단(아웃박스 릴레이, Redis Streams 소비자)의 스레드에서 실행된 경우(InlineEventExecution) 타이머에 등록하지 않고 예외를 던져
+ *     전달 수단이 재시도 (아웃박스: PENDING 유지, Redis: ACK하지 않고 대기 목록에 남김) - 서버가 중단되어도 재시도가 유실되지 않음
+ *     전달 수단의 마지막 시도이거나 재시도 불가 예외라면 4번과 같이 최종 실패 처리
+ *  6. 데드레터 재처리에서 실행된 경우 최종 실패 처리 없이 예외를 던져 재처리 실패로 집계 (데드레터는 처리 대기로 되돌아감)
+ *
+ *  트랜잭션(@Transactional), 핸들러 지표(EventHandlerMetricsAspect)보다 먼저 실행되어 시도마다 새로운 트랜잭션으로 처리하고 지표 기록
+ *  재시도는 핸들러 스레드 풀에서 SYSTEM 실행 주체로 처리 (RequestContext)
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class DelayedRetryAspect implements DisposableBean {
+    private static final String TIMER_THREAD_NAME = "Retry-Timer";
+
+    private final AsyncConfigurer asyncConfigurer;
+    private final BeanFactory beanFactory;
+    private final DeadLetterService deadLetterService;
+    private final EventListenerRegistry listenerRegistry;
+    private final EventMetrics metrics;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, TIMER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Around("@annotation(retry)")
+    public Object around(ProceedingJoinPoint joinPoint, DelayedRetry retry) throws Throwable {
+        if (InlineEventExecution.isActive()) attemptInline(joinPoint, retry);
+        else attempt(joinPoint, retry, 1, null);
+
+        return null;
+    }
+
+    // 전달 수단의 스레드에서 실행 - 재시도는 전달 수단에 맡김
+    private void attemptInline(ProceedingJoinPoint joinPoint, DelayedRetry retry) throws Throwable {
+        try {
+            joinPoint.proceed();
+        } catch (Throwable e) {
+            if (InlineEventExecution.isReplay()) throw e;
+
+            int attempt = InlineEventExecution.attempt();
+            if (!isRetryable(e, retry) || InlineEventExecution.isLastAttempt()) {
+                complete(joinPoint, e, attempt, LocalDateTime.now());
+                return;
+            }
+
+            log.warn("이벤트 처리 실패, 전달 수단에서 재시도. 사유: {}. 핸들러: {}, 시도: {}", e.getMessage(), joinPoint.getSignature().toShortString(), attempt);
+            metrics.retried(event(joinPoint), EventMetrics.handlerTag(joinPoint.getSignature()));
+            throw e;
+        }
+    }
+
+    private void attempt(ProceedingJoinPoint joinPoint, DelayedRetry retry, int attempt, LocalDateTime firstFailedAt) {
+        try {
+            joinPoint.proceed();
+        } catch (Throwable e) {
+            LocalDateTime failedAt = firstFailedAt == null ? LocalDateTime.now() : firstFailedAt;
+            if (!isRetryable(e, retry) || attempt >= retry.maxAttempts()) {
+                complete(joinPoint, e, attempt, failedAt);
+                return;
+            }
+
+            long delay = delay(retry, attempt);
+            log.warn("이벤트 처리 실패, {}ms 후 재시도. 사유: {}. 핸들러: {}, 시도: {}/{}", delay, e.getMessage(), joinPoint.getSignature().toShortString(), attempt, retry.maxAttempts());
+            metrics.retried(event(joinPoint), EventMetrics.handlerTag(joinPoint.getSignature()));
+            schedule(joinPoint, retry, attempt + 1, failedAt, delay);
+        }
+    }
+
+    private void schedule(ProceedingJoinPoint joinPoint, DelayedRetry retry, int attempt, LocalDateTime firstFailedAt, long delay) {
+        timer.schedule(() -> {
+            try {
+                executor(joinPoint).execute(() -> attempt(joinPoint, retry, attempt, firstFailedAt));
+            } catch (RejectedExecutionException e) {
+                log.warn("이벤트 재시도 요청 거절, {}ms 후 다시 요청. 핸들러: {}, 시도: {}", delay, joinPoint.getSignature().toShortString(), attempt);
+                schedule(joinPoint, retry, attempt, firstFailedAt, delay);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    // 현재 스레드가 재시도 타이머인지 여부 - 타이머 스레드에서는 핸들러를 실행하지 않음 (OverflowHandler)
+    public static boolean isTimerThread() {
+        return TIMER_THREAD_NAME.equals(Thread.currentThread().getName());
+    }
+
+    // 핸들러가 실행되는 스레드 풀 - @Async("스레드 풀 이름"), 지정되지 않았다면 기본 스레드 풀
+    private Executor executor(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Async async = AnnotatedElementUtils.findMergedAnnotation(method, Async.class);
+        if (async == null || !StringUtils.hasText(async.value())) {
+            async = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Async.class);
+        }
+
+        return async != null && StringUtils.hasText(async.value())
+                ? beanFactory.getBean(async.value(), Executor.class)
+                : asyncConfigurer.getAsyncExecutor();
+    }
+
+    // 지수 백오프 - delay * multiplier^(attempt - 1), 최대 maxDelay
+    private long delay(DelayedRetry retry, int attempt) {
+        double delay = retry.delay() * Math.pow(Math.max(retry.multiplier(), 1.0), attempt - 1);
+        return (long) Math.min(delay, retry.maxDelay());
+    }
+
+    private boolean isRetryable(Throwable e, DelayedRetry retry) {
+        if (Arrays.stream(retry.noRetryFor()).anyMatch(c -> c.isInstance(e))) return false;
+
+        return Arrays.stream(retry.retryFor()).anyMatch(c -> c.isInstance(e));
+    }
+
+    // 최종 실패 처리 - 보상 처리 결과에 따라 재처리 가능 여부를 정하므로 보상 후 데드레터 저장
+    private void complete(ProceedingJoinPoint joinPoint, Throwable e, int attempts, LocalDateTime firstFailedAt) {
+        boolean compensated = recover(joinPoint, e);
+        deadLetter(joinPoint, e, attempts, firstFailedAt, compensated);
+    }
+
+    // 최종 실패한 이벤트 보관 - 핸들러 ID와 함께 저장하여 재처리시 해당 핸들러만 실행
+    private void deadLetter(ProceedingJoinPoint joinPoint, Throwable e, int attempts, LocalDateTime firstFailedAt, boolean compensated) {
+        Object[] args = joinPoint.getArgs();
+        if (args.length == 0 || args[0] == null) return;
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String listenerId = listenerRegistry.findListenerId(method).orElseGet(method::toGenericString); // 등록되지 않은 핸들러는 재처리시 이벤트 발행 대신 실패하도록 메서드명 저장
+        try {
+            deadLetterService.record(args[0], listenerId, e, attempts, firstFailedAt, compensated);
+        } catch (Exception ex) {
+            log.error("데드레터 저장 실패. 사유: {}. 핸들러: {}, 이벤트: {}", ex.getMessage(), joinPoint.getSignature().toShortString(), args[0], ex);
+        }
+    }
+
+    // 예외, 이벤트를 인자로 받는 @Recover 메서드 호출 - 보상 완료 여부 반환
+    private boolean recover(ProceedingJoinPoint joinPoint, Throwable e) {
+        Object[] args = joinPoint.getArgs();
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+
+        Method recover = Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(targetClass))
+                .filter(m -> m.isAnnotationPresent(Recover.class))
+                .filter(m -> m.getParameterCount() == args.length + 1 && m.getParameterTypes()[0].isInstance(e))
+                .filter(m -> {
+                    Class<?>[] types = m.getParameterTypes();
+                    for (int i = 0; i < args.length; i++) {
+                        if (args[i] != null && !types[i + 1].isInstance(args[i])) return false;
+                    }
+                    return true;
+                })
+                .findFirst()
+                .orElse(null);
+
+        if (recover == null) {
+            log.error("이벤트 처리 최종 실패. 사유: {}. 핸들러: {}", e.getMessage(), joinPoint.getSignature().toShortString(), e);
+            return false;
+        }
+
+        Object[] recoverArgs = new Object[args.length + 1];
+        recoverArgs[0] = e;
+        System.arraycopy(args, 0, recoverArgs, 1, args.length);
+
+        try {
+            ReflectionUtils.makeAccessible(recover);
+            metrics.recovered(event(joinPoint), EventMetrics.handlerTag(joinPoint.getSignature()));
+            recover.invoke(joinPoint.getThis(), recoverArgs); // 프록시로 호출하여 @Transactional 적용
+            return true;
+        } catch (Exception ex) {
+            log.error("이벤트 최종 실패 후처리(@Recover) 실패. 핸들러: {}", joinPoint.getSignature().toShortString(), ex);
+            return false;
+        }
+    }
+
+    private Object event(ProceedingJoinPoint joinPoint) {
+        Object[] args = joinPoint.getArgs();
+        return args.length > 0 ? args[0] : null;
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+    }
+}
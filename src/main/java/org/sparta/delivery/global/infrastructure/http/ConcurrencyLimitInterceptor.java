@@ -0,0 +1,106 @@
+package org.sparta.delivery.global.infrastructure.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 호출 대상 호스트별 동시 요청 수 제한 - 응답 본문을 모두 읽고 닫을 때까지 요청 중으로 계산
+ *  - 대기 시간(acquireTimeout) 안에 요청할 수 없으면 ResourceAccessException
+ *
+ *  지표(tag: client)
+ *   - http.client.in-flight: 요청 중인 수
+ *   - http.client.rejected: 동시 요청 수 초과로 실패한 수
+ */
+class ConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+    private final String name;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Counter rejected;
+
+    ConcurrencyLimitInterceptor(String name, int maxConcurrentRequests, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.acquireTimeoutMs = acquireTimeout.toMillis();
+        this.rejected = Counter.builder("http.client.rejected")
+                .tag("client", name)
+                .register(meterRegistry);
+
+        Gauge.builder("http.client.in-flight", permits, p -> maxConcurrentRequests - p.availablePermits())
+                .tag("client", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new ResourceAccessException("외부 API 동시 요청 수 초과. 대상: " + name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("외부 API 요청 대기 중 중단. 대상: " + name);
+        }
+
+        try {
+            return new ReleasingResponse(execution.execute(request, body));
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 응답을 닫을 때 한 번만 반환
+    private class ReleasingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) permits.release();
+            }
+        }
+    }
+}
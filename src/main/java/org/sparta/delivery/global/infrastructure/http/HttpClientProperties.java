@@ -0,0 +1,46 @@
+package org.sparta.delivery.global.infrastructure.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 API 호출 설정
+ *  - defaults: 공통 설정
+ *  - clients: 호출 대상(toss, kakao, keycloak)별 설정, 지정하지 않은 항목은 공통 설정 사용
+ */
+@Data
+@ConfigurationProperties(prefix = "http.client")
+public class HttpClientProperties {
+    private Client defaults = new Client(Duration.ofSeconds(2), Duration.ofSeconds(5), 50, Duration.ofSeconds(1), true);
+    private Map<String, Client> clients = new HashMap<>();
+
+    public Client resolve(String name) {
+        Client client = clients.get(name);
+        if (client == null) return defaults;
+
+        return new Client(
+                client.getConnectTimeout() != null ? client.getConnectTimeout() : defaults.getConnectTimeout(),
+                client.getReadTimeout() != null ? client.getReadTimeout() : defaults.getReadTimeout(),
+                client.getMaxConcurrentRequests() != null ? client.getMaxConcurrentRequests() : defaults.getMaxConcurrentRequests(),
+                client.getAcquireTimeout() != null ? client.getAcquireTimeout() : defaults.getAcquireTimeout(),
+                client.getHttp2() != null ? client.getHttp2() : defaults.getHttp2()
+        );
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Client {
+        private Duration connectTimeout; // 연결 시간 제한
+        private Duration readTimeout; // 응답 시간 제한
+        private Integer maxConcurrentRequests; // 대상 호스트 동시 요청 수
+        private Duration acquireTimeout; // 동시 요청 수 초과시 대기 시간, 초과하면 요청 실패
+        private Boolean http2; // HTTP/2 사용 (지원하지 않는 서버는 HTTP/1.1)
+    }
+}
@@ -0,0 +1,67 @@
+package org.sparta.delivery.global.infrastructure.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 API 공통 호출 클라이언트 - 토스 결제, 카카오 주소 변환, Keycloak 토큰 발급
+ *  - 호출 대상(name)별로 JDK HttpClient 하나를 공유하여 연결 재사용(keep-alive), HTTP/2 지원 서버는 하나의 연결로 다중 요청
+ *  - 연결/응답 시간 제한, 동시 요청 수 제한(ConcurrencyLimitInterceptor) 적용 (HttpClientProperties)
+ *  - 스프링 부트 RestClient.Builder를 사용하므로 요청 지표(http.client.requests) 자동 기록
+ *     tag: client.name(호스트), uri(URI 템플릿), method, status, outcome - 경로 변수는 URI 템플릿으로 요청해야 템플릿별로 집계됨
+ */
+@Component
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class OutboundHttpClients implements DisposableBean {
+    private final HttpClientProperties properties;
+    private final ObjectProvider<RestClient.Builder> builders;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrencyLimitInterceptor> limits = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(HttpClientProperties properties, ObjectProvider<RestClient.Builder> builders, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.builders = builders;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 호출 대상별 RestClient.Builder - 기본 URL, 헤더 등은 사용하는 곳에서 설정
+     * @param name : 호출 대상 이름 (http.client.clients.{name})
+     */
+    public RestClient.Builder builder(String name, String baseUrl) {
+        HttpClientProperties.Client config = properties.resolve(name);
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClients.computeIfAbsent(name, n -> httpClient(config)));
+        requestFactory.setReadTimeout(config.getReadTimeout());
+
+        return builders.getObject()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .requestInterceptor(limits.computeIfAbsent(name, n ->
+                        new ConcurrencyLimitInterceptor(n, config.getMaxConcurrentRequests(), config.getAcquireTimeout(), meterRegistry)));
+    }
+
+    private HttpClient httpClient(HttpClientProperties.Client config) {
+        return HttpClient.newBuilder()
+                .version(Boolean.TRUE.equals(config.getHttp2()) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        httpClients.values().forEach(HttpClient::close);
+    }
+}
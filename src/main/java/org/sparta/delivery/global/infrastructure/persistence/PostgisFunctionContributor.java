@@ -0,0 +1,31 @@
+package org.sparta.delivery.global.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * PostGIS 공간 인덱스(GiST)를 사용하기 위한 HQL 함수 등록
+ *  - geo_dwithin(point, longitude, latitude, meter): 반경 필터, ST_DWithin(geography) - 인덱스 사용
+ *  - geo_knn_distance(point, longitude, latitude): 거리순 정렬, <-> KNN 연산자 - 인덱스 사용
+ *  - 인덱스는 geography(point) 표현식 GiST 인덱스 (resources/db/schema-postgis.sql)
+ */
+public class PostgisFunctionContributor implements FunctionContributor {
+
+    private static final String USER_GEOGRAPHY = "geography(ST_SetSRID(ST_MakePoint(?2, ?3), 4326))";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        functionContributions.getFunctionRegistry()
+                .registerPattern("geo_dwithin", "ST_DWithin(geography(?1), " + USER_GEOGRAPHY + ", ?4)", booleanType);
+
+        functionContributions.getFunctionRegistry()
+                .registerPattern("geo_knn_distance", "(geography(?1) <-> " + USER_GEOGRAPHY + ")", doubleType);
+    }
+}
@@ -0,0 +1,206 @@
+package org.sparta.delivery.global.infrastructure.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존 서비스 호출 보호 - 벌크헤드(동시 호출 수 제한) + 서킷 브레이커
+ *  1. 동시 호출 수(max-concurrent-calls)를 초과하면 max-wait 만큼 대기 후 실패
+ *  2. 서킷 브레이커
+ *     - CLOSED: 최근 window-size 호출 중 실패(예외, 느린 호출) 비율이 failure-rate-threshold 이상이면 OPEN
+ *     - OPEN: 호출하지 않고 바로 실패, open-duration이 지나면 HALF_OPEN
+ *     - HALF_OPEN: half-open-calls 만큼만 시험 호출, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *  3. 클라이언트 오류(4xx, 결제 거절 등)는 의존 서비스 장애가 아니므로 실패로 계산하지 않음 (408, 429 제외)
+ *
+ *  지표(tag: name)
+ *   - dependency.calls: 호출 결과별 건수 (tag: outcome - success, failure, slow, circuit_open, bulkhead_full)
+ *   - dependency.circuit.state: 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)
+ *   - dependency.bulkhead.in-flight: 호출 중인 수
+ */
+@Slf4j
+public class DependencyGuard {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final ResilienceProperties.Dependency config;
+    private final Semaphore bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    // 최근 호출 결과 (true: 실패) - 순환 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    DependencyGuard(String name, ResilienceProperties.Dependency config, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.config = config;
+        this.bulkhead = new Semaphore(config.getMaxConcurrentCalls());
+        this.meterRegistry = meterRegistry;
+        this.window = new boolean[config.getWindowSize()];
+
+        Gauge.builder("dependency.circuit.state", this, g -> g.getState().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+
+        Gauge.builder("dependency.bulkhead.in-flight", bulkhead, b -> config.getMaxConcurrentCalls() - b.availablePermits())
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        acquireBulkhead();
+        try {
+            acquireCircuit();
+
+            long startedAt = System.nanoTime();
+            T result;
+            try {
+                result = supplier.get();
+            } catch (RuntimeException e) {
+                boolean failure = isFailure(e);
+                onResult(failure);
+                counter(failure ? "failure" : "success").increment();
+                throw e;
+            }
+
+            boolean slow = System.nanoTime() - startedAt >= config.getSlowCallDuration().toNanos();
+            onResult(slow);
+            counter(slow ? "slow" : "success").increment();
+
+            return result;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public synchronized State getState() {
+        return state == State.OPEN && isOpenExpired() ? State.HALF_OPEN : state;
+    }
+
+    // 상태 조회 (actuator)
+    public synchronized Map<String, Object> describe() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("state", getState());
+        data.put("failureRate", windowCount == 0 ? 0.0 : windowFailures * 100.0 / windowCount);
+        data.put("bufferedCalls", windowCount);
+        data.put("failedCalls", windowFailures);
+        data.put("inFlight", config.getMaxConcurrentCalls() - bulkhead.availablePermits());
+        data.put("maxConcurrentCalls", config.getMaxConcurrentCalls());
+        data.put("failureRateThreshold", config.getFailureRateThreshold());
+        data.put("slowCallDurationMs", config.getSlowCallDuration().toMillis());
+        data.put("openDurationMs", config.getOpenDuration().toMillis());
+
+        return data;
+    }
+
+    private void acquireBulkhead() {
+        try {
+            if (bulkhead.tryAcquire(config.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        counter("bulkhead_full").increment();
+        throw new DependencyUnavailableException(name, "외부 서비스 동시 호출 수 초과. 대상: " + name);
+    }
+
+    private synchronized void acquireCircuit() {
+        if (state == State.OPEN && isOpenExpired()) {
+            transition(State.HALF_OPEN);
+            halfOpenPermits = config.getHalfOpenCalls();
+            halfOpenSuccesses = 0;
+        }
+
+        if (state == State.CLOSED) return;
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+            return;
+        }
+
+        counter("circuit_open").increment();
+        throw new DependencyUnavailableException(name, "외부 서비스 일시 중단(서킷 열림). 대상: " + name);
+    }
+
+    private synchronized void onResult(boolean failure) {
+        if (state == State.HALF_OPEN) {
+            if (failure) {
+                open();
+            } else if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                transition(State.CLOSED);
+                resetWindow();
+            }
+            return;
+        }
+
+        if (state != State.CLOSED) return; // OPEN 이전에 시작된 호출의 결과
+
+        if (windowCount == window.length) {
+            if (window[windowIndex]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+
+        window[windowIndex] = failure;
+        if (failure) windowFailures++;
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (windowCount >= config.getMinimumCalls() && windowFailures * 100 >= config.getFailureRateThreshold() * windowCount) {
+            open();
+        }
+    }
+
+    private void open() {
+        transition(State.OPEN);
+        openedAt = System.nanoTime();
+        resetWindow();
+    }
+
+    private void transition(State next) {
+        if (state == next) return;
+
+        log.warn("외부 서비스 서킷 상태 변경. 대상: {}, {} -> {}", name, state, next);
+        state = next;
+    }
+
+    private boolean isOpenExpired() {
+        return System.nanoTime() - openedAt >= config.getOpenDuration().toNanos();
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private boolean isFailure(RuntimeException e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            int status = clientError.getStatusCode().value();
+            return status == HttpStatus.REQUEST_TIMEOUT.value() || status == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+
+        return true;
+    }
+
+    private Counter counter(String outcome) {
+        return Counter.builder("dependency.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
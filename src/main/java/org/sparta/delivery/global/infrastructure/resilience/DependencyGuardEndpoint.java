@@ -0,0 +1,35 @@
+package org.sparta.delivery.global.infrastructure.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 의존 서비스 서킷 상태 조회 - /actuator/dependencies, /actuator/dependencies/{name}
+ *  - MANAGER, MASTER 권한만 조회 가능 (SecurityConfig)
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "dependencies")
+public class DependencyGuardEndpoint {
+    private final DependencyGuards guards;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> dependencies() {
+        Map<String, Map<String, Object>> data = new LinkedHashMap<>();
+        guards.getAll().forEach((name, guard) -> data.put(name, guard.describe()));
+
+        return data;
+    }
+
+    @ReadOperation
+    public Map<String, Object> dependency(@Selector String name) {
+        DependencyGuard guard = guards.getAll().get(name);
+        return guard == null ? null : guard.describe(); // null이면 404 응답
+    }
+}
@@ -0,0 +1,42 @@
+package org.sparta.delivery.global.infrastructure.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 의존 서비스별 호출 보호(DependencyGuard) 관리
+ *  - toss: 결제 승인/취소 (ApprovePayment, CancelPayment)
+ *  - kakao: 주소 좌표 변환 (AddressToCoords)
+ *  - openai: 상품명 생성 (AiGenerateProductName)
+ */
+@Component
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class DependencyGuards {
+    public static final String TOSS = "toss";
+    public static final String KAKAO = "kakao";
+    public static final String OPENAI = "openai";
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DependencyGuard> guards = new ConcurrentHashMap<>();
+
+    public DependencyGuards(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        properties.getDependencies().keySet().forEach(this::get); // 설정된 의존 서비스는 호출 전에도 상태 조회 가능하도록 미리 생성
+    }
+
+    public DependencyGuard get(String name) {
+        return guards.computeIfAbsent(name, n -> new DependencyGuard(n, properties.resolve(n), meterRegistry));
+    }
+
+    public Map<String, DependencyGuard> getAll() {
+        return new TreeMap<>(guards);
+    }
+}
@@ -0,0 +1,14 @@
+package org.sparta.delivery.global.infrastructure.resilience;
+
+import lombok.Getter;
+
+// 서킷이 열려 있거나 동시 호출 수를 초과하여 외부 의존 서비스를 호출하지 않고 실패
+@Getter
+public class DependencyUnavailableException extends RuntimeException {
+    private final String dependency;
+
+    public DependencyUnavailableException(String dependency, String message) {
+        super(message);
+        this.dependency = dependency;
+    }
+}
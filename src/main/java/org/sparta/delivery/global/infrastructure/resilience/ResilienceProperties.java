@@ -0,0 +1,52 @@
+package org.sparta.delivery.global.infrastructure.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 의존 서비스별 서킷 브레이커, 벌크헤드 설정
+ *  - defaults: 공통 설정
+ *  - dependencies: 의존 서비스(toss, kakao, openai)별 설정, 지정하지 않은 항목은 공통 설정 사용
+ */
+@Data
+@ConfigurationProperties(prefix = "resilience")
+public class ResilienceProperties {
+    private Dependency defaults = new Dependency(20, 10, 50, Duration.ofSeconds(3), Duration.ofSeconds(30), 3, 20, Duration.ofMillis(100));
+    private Map<String, Dependency> dependencies = new HashMap<>();
+
+    public Dependency resolve(String name) {
+        Dependency dependency = dependencies.get(name);
+        if (dependency == null) return defaults;
+
+        return new Dependency(
+                dependency.getWindowSize() != null ? dependency.getWindowSize() : defaults.getWindowSize(),
+                dependency.getMinimumCalls() != null ? dependency.getMinimumCalls() : defaults.getMinimumCalls(),
+                dependency.getFailureRateThreshold() != null ? dependency.getFailureRateThreshold() : defaults.getFailureRateThreshold(),
+                dependency.getSlowCallDuration() != null ? dependency.getSlowCallDuration() : defaults.getSlowCallDuration(),
+                dependency.getOpenDuration() != null ? dependency.getOpenDuration() : defaults.getOpenDuration(),
+                dependency.getHalfOpenCalls() != null ? dependency.getHalfOpenCalls() : defaults.getHalfOpenCalls(),
+                dependency.getMaxConcurrentCalls() != null ? dependency.getMaxConcurrentCalls() : defaults.getMaxConcurrentCalls(),
+                dependency.getMaxWait() != null ? dependency.getMaxWait() : defaults.getMaxWait()
+        );
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Dependency {
+        private Integer windowSize; // 실패율 계산에 사용하는 최근 호출 수
+        private Integer minimumCalls; // 실패율을 계산하기 위한 최소 호출 수
+        private Integer failureRateThreshold; // 서킷을 여는 실패율(%) - 느린 호출 포함
+        private Duration slowCallDuration; // 이 시간 이상 걸린 호출은 실패로 계산
+        private Duration openDuration; // 서킷이 열린 후 시험 호출까지 대기 시간
+        private Integer halfOpenCalls; // 시험 호출 수 - 모두 성공하면 서킷을 닫음
+        private Integer maxConcurrentCalls; // 동시 호출 수 (벌크헤드)
+        private Duration maxWait; // 동시 호출 수 초과시 대기 시간
+    }
+}
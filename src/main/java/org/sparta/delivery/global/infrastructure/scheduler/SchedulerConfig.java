@@ -0,0 +1,25 @@
+package org.sparta.delivery.global.infrastructure.scheduler;
+
+import org.sparta.delivery.global.infrastructure.security.RequestContext;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerCustomizer;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기적으로 실행되는 작업(인메모리 인덱스 갱신, 데이터 보정 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulerConfig {
+
+    // 주기 작업은 SYSTEM 실행 주체로 처리 (가상 스레드 사용 여부에 따라 스케줄러 구현체가 다름)
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer systemThreadPoolTaskSchedulerCustomizer() {
+        return scheduler -> scheduler.setTaskDecorator(RequestContext::systemTask);
+    }
+
+    @Bean
+    public SimpleAsyncTaskSchedulerCustomizer systemSimpleAsyncTaskSchedulerCustomizer() {
+        return scheduler -> scheduler.setTaskDecorator(RequestContext::systemTask);
+    }
+}
@@ -1,23 +1,15 @@
 package org.sparta.delivery.global.infrastructure.security;
 
 import org.springframework.data.domain.AuditorAware;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
+// 생성자, 수정자 - 로그인 아이디(preferred_username), 이벤트 핸들러와 주기 작업은 SYSTEM
 @Component
 public class AuditorAwareImpl implements AuditorAware<String> {
     @Override
     public Optional<String> getCurrentAuditor() {
-        String username = null;
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
-            username = jwt.getClaim("preferred_username");
-        }
-
-        return Optional.ofNullable(username);
+        return Optional.ofNullable(RequestContext.current().username());
     }
-}
\ No newline at end of file
+}
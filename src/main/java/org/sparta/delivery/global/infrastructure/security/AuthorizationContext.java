@@ -0,0 +1,71 @@
+package org.sparta.delivery.global.infrastructure.security;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 요청 단위 권한 정보 - 실행 주체(RequestContext)와 같은 범위에 바인딩되어 요청마다 한 번만 계산
+ *  - 권한: 최초 생성시 EnumSet으로 변환, 정의되지 않은 권한(ADMIN 등)은 RequestContext의 권한 목록으로 확인
+ *  - 소유 매장 ID: 처음 조회할 때 한 번만 조회하고 이후 재사용 (매장 주인은 매장을 하나만 등록 가능)
+ *  - 바인딩되지 않은 경우(테스트 등) 호출마다 새로 생성되므로 재사용되지 않음
+ */
+public final class AuthorizationContext {
+    static final ScopedValue<AuthorizationContext> CURRENT = ScopedValue.newInstance();
+
+    private final RequestContext context;
+    private final Set<Role> roles;
+
+    private volatile boolean storeResolved;
+    private UUID ownedStoreId;
+
+    AuthorizationContext(RequestContext context) {
+        this.context = context;
+
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        context.roles().forEach(role -> Role.of(role).ifPresent(roles::add));
+        this.roles = roles;
+    }
+
+    public static AuthorizationContext current() {
+        return CURRENT.isBound() ? CURRENT.get() : new AuthorizationContext(RequestContext.current());
+    }
+
+    public RequestContext getContext() {
+        return context;
+    }
+
+    public boolean hasRole(Role role) {
+        return roles.contains(role);
+    }
+
+    public boolean hasRole(String role) {
+        Optional<Role> item = Role.of(role);
+        return item.isPresent() ? roles.contains(item.get()) : context.hasRole(role);
+    }
+
+    public boolean hasAnyRole(Role... roles) {
+        for (Role role : roles) {
+            if (this.roles.contains(role)) return true;
+        }
+
+        return false;
+    }
+
+    // 현재 사용자가 소유한 매장 ID - 최초 1회만 조회(loader), 비로그인, SYSTEM은 null
+    public UUID getOwnedStoreId(Function<UUID, UUID> loader) {
+        if (!storeResolved) {
+            synchronized (this) {
+                if (!storeResolved) {
+                    UUID userId = context.userId();
+                    ownedStoreId = userId == null || !context.authenticated() ? null : loader.apply(userId);
+                    storeResolved = true;
+                }
+            }
+        }
+
+        return ownedStoreId;
+    }
+}
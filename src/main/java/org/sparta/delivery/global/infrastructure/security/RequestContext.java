@@ -0,0 +1,99 @@
+package org.sparta.delivery.global.infrastructure.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.StringUtils;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 현재 요청 또는 이벤트 처리의 실행 주체 - ScopedValue로 실행 범위에만 바인딩되며 스레드 생성시 복사되지 않음
+ *  - HTTP 요청: 인증이 끝난 후 RequestContextBindingFilter에서 JWT 정보로 바인딩
+ *  - 이벤트 핸들러, 주기 작업: 요청한 사용자를 물려받지 않고 SYSTEM으로 바인딩 (runAsSystem)
+ *  - 바인딩되지 않은 경우(테스트 등) SecurityContextHolder의 인증 정보 사용
+ *
+ *  권한 확인, 소유 매장 조회 결과는 함께 바인딩되는 AuthorizationContext에서 요청 단위로 재사용
+ *
+ *  SYSTEM은 전체 데이터 조회가 필요한 내부 처리를 위해 MASTER 권한을 함께 가짐
+ */
+public record RequestContext(
+        UUID userId,
+        String username, // preferred_username
+        String name,
+        String email,
+        String mobile,
+        Set<String> roles, // ROLE_ 접두사 포함
+        boolean authenticated,
+        boolean system
+) {
+    public static final String SYSTEM_USERNAME = "SYSTEM";
+
+    public static final RequestContext ANONYMOUS = new RequestContext(null, null, null, null, null, Set.of(), false, false);
+    public static final RequestContext SYSTEM = new RequestContext(null, SYSTEM_USERNAME, SYSTEM_USERNAME, null, null, Set.of("ROLE_SYSTEM", "ROLE_MASTER"), true, true);
+
+    private static final ScopedValue<RequestContext> CURRENT = ScopedValue.newInstance();
+
+    public static RequestContext current() {
+        return CURRENT.isBound() ? CURRENT.get() : from(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    public static <X extends Throwable> void runWhere(RequestContext context, ScopedValue.CallableOp<Void, X> task) throws X {
+        ScopedValue.where(CURRENT, context)
+                .where(AuthorizationContext.CURRENT, new AuthorizationContext(context))
+                .call(task);
+    }
+
+    public static void runAsSystem(Runnable task) {
+        ScopedValue.where(CURRENT, SYSTEM)
+                .where(AuthorizationContext.CURRENT, new AuthorizationContext(SYSTEM))
+                .run(task);
+    }
+
+    // 스레드 풀, 스케줄러 작업을 SYSTEM으로 실행 (TaskDecorator)
+    public static Runnable systemTask(Runnable task) {
+        return () -> runAsSystem(task);
+    }
+
+    public static RequestContext from(Authentication auth) {
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof Jwt jwt)) {
+            return ANONYMOUS;
+        }
+
+        Set<String> roles = auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new RequestContext(
+                userId(auth.getName(), jwt.getSubject()),
+                jwt.getClaimAsString("preferred_username"),
+                jwt.getClaimAsString("name"),
+                jwt.getClaimAsString("email"),
+                jwt.getClaimAsString("mobile"),
+                roles,
+                true,
+                false
+        );
+    }
+
+    public boolean hasRole(String role) {
+        if (role == null) return false;
+        return roles.contains(role.startsWith("ROLE_") ? role : "ROLE_" + role);
+    }
+
+    // 인증 주체명이 회원 ID(sub)가 아닌 경우 sub 클레임 사용
+    private static UUID userId(String name, String subject) {
+        for (String value : new String[] { name, subject }) {
+            if (!StringUtils.hasText(value)) continue;
+            try {
+                return UUID.fromString(value);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        return null;
+    }
+}
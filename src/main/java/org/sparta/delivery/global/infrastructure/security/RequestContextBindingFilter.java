@@ -0,0 +1,31 @@
+package org.sparta.delivery.global.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 인증이 끝난 요청의 실행 주체(RequestContext)를 요청 처리 범위에 바인딩 - SecurityConfig의 필터 체인에 등록
+ */
+public class RequestContextBindingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestContext context = RequestContext.from(SecurityContextHolder.getContext().getAuthentication());
+        try {
+            RequestContext.<Exception>runWhere(context, () -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (ServletException | IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.sparta.delivery.global.infrastructure.security;
+
+import java.util.Optional;
+
+// 서비스에서 사용하는 권한 - Keycloak Realm Role
+public enum Role {
+    USER,
+    OWNER,
+    MANAGER,
+    MASTER,
+    SYSTEM;
+
+    // ROLE_ 접두사 유무와 관계없이 변환, 정의되지 않은 권한은 빈 값
+    public static Optional<Role> of(String role) {
+        if (role == null) return Optional.empty();
+
+        String name = role.startsWith("ROLE_") ? role.substring(5) : role;
+        for (Role item : values()) {
+            if (item.name().equals(name)) return Optional.of(item);
+        }
+
+        return Optional.empty();
+    }
+}
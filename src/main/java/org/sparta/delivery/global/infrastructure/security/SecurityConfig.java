@@ -1,16 +1,15 @@
 package org.sparta.delivery.global.infrastructure.security;
 
-import jakarta.annotation.PostConstruct;
 import org.sparta.delivery.global.infrastructure.keycloak.KeycloakClientRoleConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
 import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -21,12 +20,6 @@ import java.util.List;
 @EnableMethodSecurity
 public class SecurityConfig {
 
-    @PostConstruct
-    public void setup() {
-        // 비동기 스레드에서도 SecurityContext를 공유하도록 설정
-        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_INHERITABLETHREADLOCAL);
-    }
-
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -44,8 +37,12 @@ public class SecurityConfig {
                                 "/v1/stores/**"
                                 ).hasRole("USER")
                         .requestMatchers("/v1/categories/**").hasAnyRole("MANAGER", "MASTER")
+                        .requestMatchers("/v1/admin/**").hasAnyRole("MANAGER", "MASTER")
                         .requestMatchers("/v3/api-docs/**", "/api-docs/**", "/api-docs.html", "/swagger-ui/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll() // 로드밸런서, 컨테이너 상태 확인
+                        .requestMatchers("/actuator/**").hasAnyRole("MANAGER", "MASTER") // 지표(metrics, prometheus), 서킷 상태(dependencies), 설정 갱신(refresh) 등 운영 정보
                         .anyRequest().permitAll())
+                .addFilterAfter(new RequestContextBindingFilter(), AuthorizationFilter.class) // 인증된 사용자를 요청 처리 범위에 바인딩
                 .oauth2Login(c -> c.disable())
                 .oauth2ResourceServer(c -> c
                         .jwt(jwt -> jwt.jwtAuthenticationConverter(conv))
@@ -1,35 +1,28 @@
 package org.sparta.delivery.global.infrastructure.security;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.sparta.delivery.global.domain.service.OwnerCheck;
 import org.sparta.delivery.global.domain.service.UserDetails;
 import org.sparta.delivery.store.domain.QStore;
-import org.sparta.delivery.store.domain.Store;
-import org.sparta.delivery.store.domain.StoreRepository;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
 
+/**
+ * 매장 소유 확인 - 소유 매장 ID는 요청마다 한 번만 ID 컬럼으로 조회하고(AuthorizationContext) 이후 비교만 수행
+ */
 @Component
 @RequiredArgsConstructor
 public class SecurityOwnerCheck implements OwnerCheck {
-    private final StoreRepository repository;
+    private final JPAQueryFactory queryFactory;
     private final UserDetails userDetails;
 
     @Override
     public boolean isOwner(UUID storeId) {
         if (storeId == null) return false;
 
-        UUID ownerId = userDetails.getId();
-        if (ownerId == null || !userDetails.isAuthenticated()) {
-            return false;
-        }
-
-        QStore store = QStore.store;
-        return repository.exists(
-                store.id.id.eq(storeId)
-                        .and(store.owner.id.eq(ownerId))
-        );
+        return storeId.equals(getStoreId());
     }
 
     @Override
@@ -44,8 +37,16 @@ public class SecurityOwnerCheck implements OwnerCheck {
 
     @Override
     public UUID getStoreId() {
+        return AuthorizationContext.current().getOwnedStoreId(this::findStoreId);
+    }
+
+    private UUID findStoreId(UUID ownerId) {
         QStore store = QStore.store;
-        Store item = repository.findOne(store.owner.id.eq(userDetails.getId())).orElse(null);
-        return item == null ? null : item.getId().getId();
+
+        return queryFactory
+                .select(store.id.id)
+                .from(store)
+                .where(store.owner.id.eq(ownerId))
+                .fetchFirst();
     }
 }
@@ -67,6 +67,15 @@ public class SwaggerConfig {
                 .build();
     }
 
+    @Bean
+    public GroupedOpenApi adminApi() {
+        return GroupedOpenApi.builder()
+                .group("운영 관리")
+                .displayName("운영 API")
+                .pathsToMatch("/v1/admin/**")
+                .build();
+    }
+
     @Bean
     public OpenAPI openAPI() {
         String jwtSchemeName = "BearerAuth";
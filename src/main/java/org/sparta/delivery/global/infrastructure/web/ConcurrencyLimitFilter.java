@@ -0,0 +1,86 @@
+package org.sparta.delivery.global.infrastructure.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 모드의 요청 동시 처리 수 제한
+ *  - 가상 스레드는 요청마다 생성되어 톰캣 스레드 수로 동시 처리 수가 제한되지 않으므로,
+ *    DB 커넥션 풀(Hikari)에 요청이 몰려 커넥션 대기 시간 초과가 발생하지 않도록 세마포어로 제한
+ *  - 최대 동시 처리 수(max-requests)를 지정하지 않으면 DB 커넥션 풀 크기 × 커넥션당 요청 수(requests-per-connection)
+ *    트랜잭션 밖에서 외부 API(토스 승인 등)를 기다리는 요청은 커넥션을 점유하지 않으므로 커넥션 수보다 조금 더 받음
+ *  - 대기 시간(acquire-timeout-ms) 내에 처리할 수 없는 요청은 503 응답
+ *  - 상태 확인(/actuator)은 제한하지 않음
+ *
+ *  지표
+ *   - http.server.requests.limit.active: 처리중인 요청 수
+ *   - http.server.requests.limit.rejected: 제한으로 거절된 요청 수
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(@Value("${server.concurrency.max-requests:0}") int configuredMaxRequests,
+                                  @Value("${server.concurrency.requests-per-connection:4}") int requestsPerConnection,
+                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                  @Value("${server.concurrency.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+                                  MeterRegistry meterRegistry) {
+        int maxRequests = configuredMaxRequests > 0 ? configuredMaxRequests : poolSize * requestsPerConnection;
+        this.permits = new Semaphore(maxRequests);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.rejected = Counter.builder("http.server.requests.limit.rejected").register(meterRegistry);
+
+        Gauge.builder("http.server.requests.limit.active", permits, p -> maxRequests - p.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
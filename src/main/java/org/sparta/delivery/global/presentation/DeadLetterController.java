@@ -0,0 +1,83 @@
+package org.sparta.delivery.global.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.global.domain.exception.NotFoundException;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterReplayService;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Dead Letter API", description = "V1 이벤트 데드레터 관리 API (조회/일괄 재처리) - 관리자 전용")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/admin/dead-letters")
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+    private final DeadLetterReplayService replayService;
+
+    @Operation(summary = "데드레터 목록 조회", description = "재시도를 모두 소진한 이벤트를 검색 조건에 따라 조회합니다.")
+    @GetMapping
+    public Page<DeadLetterResponseDto> findAll(
+            @ModelAttribute DeadLetterRequestDto.Search search,
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        return deadLetterService.search(search.toSearch(), pageable)
+                .map(DeadLetterResponseDto::from);
+    }
+
+    @Operation(summary = "데드레터 상세 조회", description = "데드레터의 이벤트, 실패 사유를 조회합니다.")
+    @GetMapping("/{deadLetterId}")
+    public DeadLetterResponseDto getDeadLetter(
+            @Parameter(description = "데드레터 ID") @PathVariable Long deadLetterId) {
+
+        return deadLetterService.find(deadLetterId)
+                .map(DeadLetterResponseDto::from)
+                .orElseThrow(() -> new NotFoundException("deadLetterId", "존재하지 않는 데드레터입니다."));
+    }
+
+    @Operation(summary = "데드레터 일괄 재처리", description = "조건에 맞는 처리 대기 데드레터를 동시 실행 수, 초당 건수 제한에 맞춰 재처리합니다. 작업은 비동기로 진행됩니다.")
+    @PostMapping("/replay")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ReplayJobResponseDto replay(@Valid @RequestBody DeadLetterRequestDto.Replay request) {
+        return ReplayJobResponseDto.from(replayService.start(
+                request.toSearch(),
+                request.getLimit(),
+                request.getParallelism(),
+                request.getRatePerSecond()));
+    }
+
+    @Operation(summary = "재처리 작업 목록 조회", description = "이 서버에서 실행한 재처리 작업의 진행 상황을 조회합니다.")
+    @GetMapping("/replay")
+    public List<ReplayJobResponseDto> getReplayJobs() {
+        return replayService.getAll().stream()
+                .map(ReplayJobResponseDto::from)
+                .toList();
+    }
+
+    @Operation(summary = "재처리 작업 조회", description = "재처리 작업의 진행 상황을 조회합니다.")
+    @GetMapping("/replay/{jobId}")
+    public ReplayJobResponseDto getReplayJob(
+            @Parameter(description = "재처리 작업 ID") @PathVariable String jobId) {
+
+        return ReplayJobResponseDto.from(replayService.get(jobId));
+    }
+
+    @Operation(summary = "재처리 작업 취소", description = "진행중인 재처리 작업을 중단합니다. 이미 요청된 건은 완료됩니다.")
+    @DeleteMapping("/replay/{jobId}")
+    public ReplayJobResponseDto cancelReplayJob(
+            @Parameter(description = "재처리 작업 ID") @PathVariable String jobId) {
+
+        return ReplayJobResponseDto.from(replayService.cancel(jobId));
+    }
+}
@@ -0,0 +1,102 @@
+package org.sparta.delivery.global.presentation;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterSearch;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterSource;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DeadLetterRequestDto {
+
+    @Data
+    @Schema(description = "데드레터 검색 조건")
+    public static class Search {
+
+        @Schema(description = "처리 상태 (DEAD: 처리 대기, REPLAYED: 재처리 완료, COMPENSATED: 보상 완료로 재처리 불가)", example = "DEAD")
+        private DeadLetterStatus status;
+
+        @Schema(description = "실패 위치", example = "HANDLER")
+        private DeadLetterSource source;
+
+        @Schema(description = "이벤트 클래스명 (단순 클래스명 가능)", example = "PaymentCreateFailedEvent")
+        private String eventType;
+
+        @Schema(description = "핸들러 ID")
+        private String listenerId;
+
+        @Schema(description = "최종 실패 일시 시작", example = "2026-01-01T00:00:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime from;
+
+        @Schema(description = "최종 실패 일시 종료", example = "2026-01-02T00:00:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime to;
+
+        public DeadLetterSearch toSearch() {
+            return DeadLetterSearch.builder()
+                    .status(status)
+                    .source(source)
+                    .eventType(eventType)
+                    .listenerId(listenerId)
+                    .from(from)
+                    .to(to)
+                    .build();
+        }
+    }
+
+    @Data
+    @Schema(description = "데드레터 일괄 재처리 요청 - 처리 대기(DEAD) 상태인 데드레터만 재처리")
+    public static class Replay {
+
+        @Schema(description = "재처리할 데드레터 ID 목록 (없으면 조건에 맞는 전체)")
+        private List<Long> ids;
+
+        @Schema(description = "실패 위치", example = "HANDLER")
+        private DeadLetterSource source;
+
+        @Schema(description = "이벤트 클래스명 (단순 클래스명 가능)", example = "PaymentCreateFailedEvent")
+        private String eventType;
+
+        @Schema(description = "핸들러 ID")
+        private String listenerId;
+
+        @Schema(description = "최종 실패 일시 시작", example = "2026-01-01T00:00:00")
+        private LocalDateTime from;
+
+        @Schema(description = "최종 실패 일시 종료", example = "2026-01-02T00:00:00")
+        private LocalDateTime to;
+
+        @Schema(description = "최대 재처리 건수", example = "10000")
+        @Min(value = 1, message = "재처리 건수는 1건 이상이어야 합니다.")
+        @Max(value = 1000000, message = "재처리 건수는 최대 1,000,000건 입니다.")
+        private int limit = 10000;
+
+        @Schema(description = "동시 재처리 수", example = "4")
+        @Min(value = 1, message = "동시 재처리 수는 1 이상이어야 합니다.")
+        private int parallelism = 4;
+
+        @Schema(description = "초당 최대 재처리 건수", example = "100")
+        @Min(value = 1, message = "초당 재처리 건수는 1 이상이어야 합니다.")
+        private int ratePerSecond = 100;
+
+        public DeadLetterSearch toSearch() {
+            return DeadLetterSearch.builder()
+                    .ids(ids)
+                    .source(source)
+                    .eventType(eventType)
+                    .listenerId(listenerId)
+                    .from(from)
+                    .to(to)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.sparta.delivery.global.presentation;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetter;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterSource;
+import org.sparta.delivery.global.infrastructure.event.deadletter.DeadLetterStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@Schema(description = "데드레터 응답")
+public class DeadLetterResponseDto {
+
+    @Schema(description = "데드레터 ID")
+    private Long id;
+
+    @Schema(description = "이벤트 클래스명")
+    private String eventType;
+
+    @Schema(description = "이벤트 JSON")
+    private String payload;
+
+    @Schema(description = "핸들러 ID")
+    private String listenerId;
+
+    @Schema(description = "실패 위치")
+    private DeadLetterSource source;
+
+    @Schema(description = "처리 상태")
+    private DeadLetterStatus status;
+
+    @Schema(description = "예외 클래스명")
+    private String errorType;
+
+    @Schema(description = "실패 사유")
+    private String errorMessage;
+
+    @Schema(description = "실패까지의 시도 횟수")
+    private int attempts;
+
+    @Schema(description = "최초 실패 일시")
+    private LocalDateTime firstFailedAt;
+
+    @Schema(description = "최종 실패 일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "재처리 횟수")
+    private int replayCount;
+
+    @Schema(description = "최근 재처리 일시")
+    private LocalDateTime replayedAt;
+
+    @Schema(description = "최근 재처리 실패 사유")
+    private String replayError;
+
+    public static DeadLetterResponseDto from(DeadLetter deadLetter) {
+        return DeadLetterResponseDto.builder()
+                .id(deadLetter.getId())
+                .eventType(deadLetter.getEventType())
+                .payload(deadLetter.getPayload())
+                .listenerId(deadLetter.getListenerId())
+                .source(deadLetter.getSource())
+                .status(deadLetter.getStatus())
+                .errorType(deadLetter.getErrorType())
+                .errorMessage(deadLetter.getErrorMessage())
+                .attempts(deadLetter.getAttempts())
+                .firstFailedAt(deadLetter.getFirstFailedAt())
+                .createdAt(deadLetter.getCreatedAt())
+                .replayCount(deadLetter.getReplayCount())
+                .replayedAt(deadLetter.getReplayedAt())
+                .replayError(deadLetter.getReplayError())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package org.sparta.delivery.global.presentation;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import org.sparta.delivery.global.infrastructure.event.deadletter.ReplayJob;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@Schema(description = "데드레터 재처리 작업 응답")
+public class ReplayJobResponseDto {
+
+    @Schema(description = "작업 ID")
+    private String id;
+
+    @Schema(description = "작업 상태")
+    private ReplayJob.Status status;
+
+    @Schema(description = "최대 재처리 건수")
+    private int limit;
+
+    @Schema(description = "동시 재처리 수")
+    private int parallelism;
+
+    @Schema(description = "초당 최대 재처리 건수")
+    private int ratePerSecond;
+
+    @Schema(description = "재처리 성공 건수")
+    private int succeeded;
+
+    @Schema(description = "재처리 실패 건수")
+    private int failed;
+
+    @Schema(description = "다른 작업에서 이미 재처리되어 건너뛴 건수")
+    private int skipped;
+
+    @Schema(description = "시작 일시")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 일시")
+    private LocalDateTime finishedAt;
+
+    public static ReplayJobResponseDto from(ReplayJob job) {
+        return ReplayJobResponseDto.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .limit(job.getLimit())
+                .parallelism(job.getParallelism())
+                .ratePerSecond(job.getRatePerSecond())
+                .succeeded(job.getSucceeded())
+                .failed(job.getFailed())
+                .skipped(job.getSkipped())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
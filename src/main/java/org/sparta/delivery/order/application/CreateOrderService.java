@@ -8,13 +8,16 @@ import org.sparta.delivery.order.application.dto.OrderServiceDto;
 import org.sparta.delivery.order.domain.Order;
 import org.sparta.delivery.order.domain.OrderItem;
 import org.sparta.delivery.order.domain.OrderRepository;
+import org.sparta.delivery.order.domain.ProductInfo;
 import org.sparta.delivery.order.domain.SelectedOption;
+import org.sparta.delivery.order.domain.service.OptionCheck;
 import org.sparta.delivery.order.domain.service.OrderCheck;
 import org.sparta.delivery.order.domain.service.ProductProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -26,13 +29,18 @@ public class CreateOrderService {
     private final RoleCheck roleCheck;
     private final OwnerCheck ownerCheck;
     private final ProductProvider productProvider;
+    private final OptionCheck optionCheck;
 
     @Transactional
     public UUID createOrder(OrderServiceDto.Create dto) {
 
+        // 주문 상품 일괄 조회(옵션 포함)
+        Map<String, ProductInfo> products = productProvider.getProducts(dto.getStoreId(),
+                dto.getItems().stream().map(OrderServiceDto.Item::getItemCode).toList());
+
         // OrderItem + SelectedOption로 변환
         List<OrderItem> orderItems = dto.getItems().stream()
-                .map(item -> toOrderItem(dto.getStoreId(), item))
+                .map(item -> toOrderItem(dto.getStoreId(), item, products.get(item.getItemCode())))
                 .toList();
 
         // Order 엔티티 생성
@@ -58,7 +66,7 @@ public class CreateOrderService {
         return orderRepository.save(order).getId().getId();
     }
 
-    private OrderItem toOrderItem(UUID storeId, OrderServiceDto.Item itemDto) {
+    private OrderItem toOrderItem(UUID storeId, OrderServiceDto.Item itemDto, ProductInfo product) {
         List<SelectedOption> selectedOptions = itemDto.getOptions() == null ? List.of() :
                 itemDto.getOptions().stream()
                         .map(opt -> SelectedOption.builder()
@@ -75,7 +83,9 @@ public class CreateOrderService {
 
         return OrderItem.builder()
                 .storeId(storeId)
+                .product(product)
                 .productProvider(productProvider)
+                .optionCheck(optionCheck)
                 .itemCode(itemDto.getItemCode())
                 .quantity(itemDto.getQuantity())
                 .selectedOptions(selectedOptions)
@@ -2,14 +2,15 @@ package org.sparta.delivery.order.application.event;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.global.infrastructure.event.executor.EventExecutorConfig;
+import org.sparta.delivery.global.infrastructure.event.retry.DelayedRetry;
 import org.sparta.delivery.order.domain.Order;
 import org.sparta.delivery.order.domain.OrderId;
 import org.sparta.delivery.order.domain.OrderRepository;
+import org.sparta.delivery.order.domain.OrderStatus;
 import org.sparta.delivery.order.domain.exception.OrderNotFoundException;
 import org.sparta.delivery.payment.domain.event.PaymentApprovedEvent;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -31,17 +32,22 @@ public class PaymentApprovedEventHandler {
     private final OrderRepository orderRepository;
 
 
-    @Async
-    @Retryable(
+    @Async(EventExecutorConfig.PAYMENT)
+    @DelayedRetry(
             retryFor = { Exception.class },
             noRetryFor = { OrderNotFoundException.class }, // 주문서가 없다면 재시도는 무의미
             maxAttempts = 5,
-            backoff = @Backoff(delay = 5000, multiplier = 2.0)
+            delay = 5000,
+            multiplier = 2.0
     )
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true) // 아웃박스 릴레이에서는 트랜잭션 없이 발행
     public void handle(PaymentApprovedEvent event) {
         Order order = getOrder(event.orderId());
+
+        // 결제 승인 이벤트가 중복 전달된 경우 이미 결제 확인된 주문은 처리하지 않음
+        if (order.getStatus() == OrderStatus.PAYMENT_CONFIRM) return;
+
         order.paymentConfirm();
     }
 
@@ -2,15 +2,15 @@ package org.sparta.delivery.order.application.event;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.global.infrastructure.event.executor.EventExecutorConfig;
+import org.sparta.delivery.global.infrastructure.event.retry.DelayedRetry;
 import org.sparta.delivery.order.domain.Order;
 import org.sparta.delivery.order.domain.OrderId;
 import org.sparta.delivery.order.domain.OrderRepository;
 import org.sparta.delivery.order.domain.exception.OrderNotFoundException;
 import org.sparta.delivery.payment.domain.event.PaymentCreateFailedEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -26,13 +26,14 @@ public class PaymentCreateFailedEventHandler {
     private final OrderRepository orderRepository;
 
      // 결제 등록 재시도 후 최종 실패한 경우 주문 취소 처리
-    @Async
+    @Async(EventExecutorConfig.PAYMENT)
     @EventListener
-    @Retryable(
+    @DelayedRetry(
             retryFor = { Exception.class },
             noRetryFor = { OrderNotFoundException.class }, // 주문서가 없다면 재시도는 무의미
             maxAttempts = 5,
-            backoff = @Backoff(delay = 5000, multiplier = 2.0)
+            delay = 5000,
+            multiplier = 2.0
     )
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handle(PaymentCreateFailedEvent event) {
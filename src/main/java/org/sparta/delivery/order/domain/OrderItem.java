@@ -27,17 +27,20 @@ public class OrderItem {
     )
     private Price totalPrice; // (상품가 + 옵션가) * 수량
 
+    /**
+     * product: 일괄 조회(ProductProvider::getProducts)된 상품 정보, 없는 경우 productProvider로 단건 조회
+     */
     @Builder
-    public OrderItem(UUID storeId, String itemCode, ProductProvider productProvider, int quantity, List<SelectedOption> selectedOptions, OptionCheck optionCheck) {
+    public OrderItem(UUID storeId, String itemCode, ProductInfo product, ProductProvider productProvider, int quantity, List<SelectedOption> selectedOptions, OptionCheck optionCheck) {
 
-        this.item = productProvider.getProduct(storeId, itemCode);
+        this.item = product != null ? product : productProvider.getProduct(storeId, itemCode);
         if (!item.isOrderable()) { // 주문이 불가한 상품인 경우
             throw new InvalidOrderItemException();
         }
 
         this.quantity = quantity;
 
-        setSelectedOptions(storeId, itemCode, selectedOptions, optionCheck);
+        setSelectedOptions(selectedOptions, optionCheck);
 
         // 상품별 합계 금액 계산
         calculateTotalPrice();
@@ -56,11 +59,11 @@ public class OrderItem {
     }
 
 
-    private void setSelectedOptions(UUID storeId, String itemCode, List<SelectedOption> selectedOptions, OptionCheck optionCheck) {
+    private void setSelectedOptions(List<SelectedOption> selectedOptions, OptionCheck optionCheck) {
         if (selectedOptions == null || selectedOptions.isEmpty()) return;
 
         // 실제 등록된 옵션인지 체크
-        if (!optionCheck.validate(storeId, itemCode, selectedOptions)) {
+        if (!optionCheck.validate(item, selectedOptions)) {
             throw new InvalidOrderItemException("주문이 불가한 옵션이 포함되어 있습니다.");
         }
 
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.sparta.delivery.global.domain.Price;
 
+import java.util.List;
+
 @Embeddable
 @ToString @Getter
 @NoArgsConstructor(access =  AccessLevel.PROTECTED)
@@ -22,11 +24,15 @@ public class ProductInfo {
     @Transient
     private boolean orderable;
 
+    @Transient
+    private List<SelectedOption> options; // 상품에 등록된 옵션 목록(옵션 검증용)
+
     @Builder
-    protected ProductInfo(String code, String name, int price, boolean orderable) {
+    protected ProductInfo(String code, String name, int price, boolean orderable, List<SelectedOption> options) {
         this.code = code;
         this.name = name;
         this.price = new Price(price);
         this.orderable = orderable;
+        this.options = options;
     }
 }
@@ -1,8 +1,11 @@
 package org.sparta.delivery.order.domain.event;
 
+import org.sparta.delivery.global.infrastructure.event.Outbox;
+
 import java.util.UUID;
 
 // 주문 접수 이벤트
+@Outbox
 public record OrderAcceptedEvent(
         UUID orderId
 ) {}
\ No newline at end of file
@@ -1,11 +1,11 @@
 package org.sparta.delivery.order.domain.service;
 
+import org.sparta.delivery.order.domain.ProductInfo;
 import org.sparta.delivery.order.domain.SelectedOption;
 
 import java.util.List;
-import java.util.UUID;
 
-// 옵션 유효성 검사
+// 옵션 유효성 검사 - 상품 조회시 함께 로딩된 옵션(ProductInfo::getOptions) 기준으로 검증
 public interface OptionCheck {
-     boolean validate(UUID storeId, String itemCode, List<SelectedOption> selectedOptions);
+     boolean validate(ProductInfo product, List<SelectedOption> selectedOptions);
 }
@@ -2,8 +2,20 @@ package org.sparta.delivery.order.domain.service;
 
 import org.sparta.delivery.order.domain.ProductInfo;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ProductProvider {
     ProductInfo getProduct(UUID storeId, String productCode);
+
+    /**
+     * 주문 상품 일괄 조회
+     *  - 장바구니의 상품을 옵션 정보까지 한번에 조회
+     *  - 존재하지 않거나 조회할 수 없는 상품이 포함된 경우 ProductNotFoundException
+     *
+     * @param productCodes 상품 코드 목록
+     * @return Key: 상품 코드, Value: 상품 정보(옵션 포함)
+     */
+    Map<String, ProductInfo> getProducts(UUID storeId, Collection<String> productCodes);
 }
@@ -1,38 +1,26 @@
 package org.sparta.delivery.order.infrastructure;
 
-import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.order.domain.ProductInfo;
 import org.sparta.delivery.order.domain.SelectedOption;
 import org.sparta.delivery.order.domain.service.OptionCheck;
-import org.sparta.delivery.store.domain.Product;
-import org.sparta.delivery.store.domain.ProductOption;
-import org.sparta.delivery.store.domain.ProductSubOption;
-import org.sparta.delivery.store.domain.StoreId;
-import org.sparta.delivery.store.domain.exception.ProductNotFoundException;
-import org.sparta.delivery.store.domain.query.ProductQueryRepository;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class OptionCheckImpl implements OptionCheck {
 
-    private final ProductQueryRepository productQueryRepository;
-
     @Override
-    public boolean validate(UUID storeId, String itemCode, List<SelectedOption> selectedOptions) {
+    public boolean validate(ProductInfo product, List<SelectedOption> selectedOptions) {
         // 선택된 옵션이 없으면 검증할 대상이 없으므로 통과
         if (selectedOptions == null || selectedOptions.isEmpty()) {
             return true;
         }
 
-        Product product = productQueryRepository.findByProductCode(StoreId.of(storeId), itemCode)
-                .orElseThrow(ProductNotFoundException::new);
-
-        List<ProductOption> dbOptions = product.getOptions();
+        // 상품 조회시 함께 로딩된 옵션 목록
+        List<SelectedOption> dbOptions = product.getOptions();
 
         // 상품에 옵션이 없는데 사용자가 옵션을 선택해서 보낸 경우 거절
         if (dbOptions == null || dbOptions.isEmpty()) {
@@ -40,15 +28,15 @@ public class OptionCheckImpl implements OptionCheck {
         }
 
         // 효율적인 매칭을 위해 DB 옵션을 Map으로 변환 (Key: 옵션명)
-        Map<String, ProductOption> dbOptionMap = dbOptions.stream()
-                .collect(Collectors.toMap(ProductOption::getName, o -> o));
+        Map<String, SelectedOption> dbOptionMap = dbOptions.stream()
+                .collect(Collectors.toMap(SelectedOption::getOptionName, o -> o));
 
         // 모든 선택된 옵션이 유효해야 함 (allMatch)
         return selectedOptions.stream().allMatch(so -> {
-            ProductOption dbOpt = dbOptionMap.get(so.getOptionName());
+            SelectedOption dbOpt = dbOptionMap.get(so.getOptionName());
 
             // 옵션명이 존재하지 않거나 가격이 조작된 경우
-            if (dbOpt == null || dbOpt.getPrice().getValue() != so.getOptionPrice()) {
+            if (dbOpt == null || dbOpt.getOptionPrice() != so.getOptionPrice()) {
                 return false;
             }
 
@@ -59,12 +47,12 @@ public class OptionCheckImpl implements OptionCheck {
             }
 
             // DB의 하위 옵션도 Map으로 변환하여 검증
-            Map<String, ProductSubOption> dbSubMap = dbOpt.getSubOptions().stream()
-                    .collect(Collectors.toMap(ProductSubOption::name, s -> s));
+            Map<String, SelectedOption.SelectedSubOption> dbSubMap = dbOpt.getSubOptions().stream()
+                    .collect(Collectors.toMap(SelectedOption.SelectedSubOption::getName, s -> s));
 
             return sSubOptions.stream().allMatch(sSub -> {
-                ProductSubOption dbSub = dbSubMap.get(sSub.getName());
-                return dbSub != null && dbSub.addPrice() == sSub.getAddPrice();
+                SelectedOption.SelectedSubOption dbSub = dbSubMap.get(sSub.getName());
+                return dbSub != null && dbSub.getAddPrice() == sSub.getAddPrice();
             });
         });
     }
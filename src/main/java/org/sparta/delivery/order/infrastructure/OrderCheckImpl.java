@@ -5,14 +5,20 @@ import org.sparta.delivery.global.domain.service.UserDetails;
 import org.sparta.delivery.order.domain.OrderId;
 import org.sparta.delivery.order.domain.OrderItem;
 import org.sparta.delivery.order.domain.OrderRepository;
+import org.sparta.delivery.order.domain.ProductInfo;
+import org.sparta.delivery.order.domain.service.OptionCheck;
 import org.sparta.delivery.order.domain.service.OrderCheck;
-import org.sparta.delivery.store.domain.Product;
+import org.sparta.delivery.order.domain.service.ProductProvider;
 import org.sparta.delivery.store.domain.Store;
 import org.sparta.delivery.store.domain.StoreId;
 import org.sparta.delivery.store.domain.StoreRepository;
+import org.sparta.delivery.store.domain.exception.ProductNotFoundException;
+import org.sparta.delivery.store.domain.query.MenuSnapshot;
+import org.sparta.delivery.store.domain.query.MenuSnapshotProvider;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
@@ -20,6 +26,9 @@ import java.util.UUID;
 public class OrderCheckImpl implements OrderCheck {
 
     private final StoreRepository storeRepository;
+    private final MenuSnapshotProvider menuSnapshotProvider;
+    private final ProductProvider productProvider;
+    private final OptionCheck optionCheck;
     private final OrderRepository orderRepository;
     private final UserDetails userDetails;
 
@@ -44,10 +53,30 @@ public class OrderCheckImpl implements OrderCheck {
             return false;
         }
 
+        // 다른 서버에서 메뉴가 변경되어 스냅샷이 이전 버전인 경우, 스냅샷을 다시 생성하여 최신 메뉴 기준으로 확인
+        MenuSnapshot menu = menuSnapshotProvider.get(storeId);
+        if (menu.menuVersion() < store.getMenuVersion()) {
+            menuSnapshotProvider.invalidate(storeId);
+        }
+
+        // 주문 항목은 이전 스냅샷 기준으로 생성되었을 수 있으므로 주문 가능 상태뿐 아니라 가격, 옵션도 현재 스냅샷과 비교
+        return isSameAsMenu(storeId, items);
+    }
+
+    // 매장 메뉴 스냅샷 기준 주문 가능 여부, 가격 및 옵션 일치 여부 확인 (매장의 전체 상품 목록을 로딩하지 않음)
+    private boolean isSameAsMenu(UUID storeId, List<OrderItem> items) {
+        Map<String, ProductInfo> latest;
+        try {
+            latest = productProvider.getProducts(storeId, items.stream().map(i -> i.getItem().getCode()).toList());
+        } catch (ProductNotFoundException e) {
+            return false;
+        }
+
         return items.stream().allMatch(orderItem -> {
-            // 매장 내부에서 해당 상품(ProductCode 기반)을 조회하여 주문 가능 상태인지 확인
-            Product product = store.getProduct(orderItem.getItem().getCode());
-            return product != null && product.isOrderable();
+            ProductInfo product = latest.get(orderItem.getItem().getCode());
+            return product.isOrderable()
+                    && product.getPrice().getValue() == orderItem.getItem().getPrice().getValue()
+                    && optionCheck.validate(product, orderItem.getSelectedOptions());
         });
     }
 
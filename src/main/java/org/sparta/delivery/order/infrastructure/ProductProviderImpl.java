@@ -2,31 +2,73 @@ package org.sparta.delivery.order.infrastructure;
 
 import lombok.RequiredArgsConstructor;
 import org.sparta.delivery.order.domain.ProductInfo;
+import org.sparta.delivery.order.domain.SelectedOption;
 import org.sparta.delivery.order.domain.service.ProductProvider;
-import org.sparta.delivery.store.domain.Product;
-import org.sparta.delivery.store.domain.StoreId;
 import org.sparta.delivery.store.domain.exception.ProductNotFoundException;
-import org.sparta.delivery.store.domain.query.ProductQueryRepository;
+import org.sparta.delivery.store.domain.query.MenuSnapshot;
+import org.sparta.delivery.store.domain.query.MenuSnapshotProvider;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.util.*;
 
 @Component
 @RequiredArgsConstructor
 public class ProductProviderImpl implements ProductProvider {
 
-    private final ProductQueryRepository productQueryRepository;
+    private final MenuSnapshotProvider menuSnapshotProvider;
 
     @Override
     public ProductInfo getProduct(UUID storeId, String productCode) {
 
-        Product product = productQueryRepository.findByProductCode(StoreId.of(storeId), productCode).orElseThrow(ProductNotFoundException::new);
+        MenuSnapshot.MenuItem item = Optional.ofNullable(menuSnapshotProvider.get(storeId).get(productCode))
+                .orElseThrow(ProductNotFoundException::new);
 
+        return toProductInfo(item);
+    }
+
+    @Override
+    public Map<String, ProductInfo> getProducts(UUID storeId, Collection<String> productCodes) {
+        // 매장 메뉴 스냅샷에서 일괄 조회
+        MenuSnapshot menu = menuSnapshotProvider.get(storeId);
+
+        Map<String, ProductInfo> products = new HashMap<>();
+        for (String code : productCodes) {
+            MenuSnapshot.MenuItem item = menu.get(code);
+            if (item == null) { // 조회되지 않은 상품이 있는 경우
+                throw new ProductNotFoundException();
+            }
+
+            products.computeIfAbsent(code, c -> toProductInfo(item));
+        }
+
+        return products;
+    }
+
+    private ProductInfo toProductInfo(MenuSnapshot.MenuItem item) {
         return ProductInfo.builder()
-                .code(product.getProductCode())
-                .name(product.getName())
-                .price(product.getPrice().getValue())
-                .orderable(product.isOrderable())
+                .code(item.productCode())
+                .name(item.name())
+                .price(item.price())
+                .orderable(item.orderable())
+                .options(toOptions(item.options()))
                 .build();
     }
+
+    // 상품에 등록된 옵션을 옵션 검증용 형태로 변환
+    private List<SelectedOption> toOptions(List<MenuSnapshot.MenuOption> options) {
+        if (options == null || options.isEmpty()) return List.of();
+
+        return options.stream()
+                .map(opt -> SelectedOption.builder()
+                        .optionName(opt.name())
+                        .optionPrice(opt.price())
+                        .subOptions(opt.subOptions().stream()
+                                .map(sub -> SelectedOption.SelectedSubOption.builder()
+                                        .name(sub.name())
+                                        .addPrice(sub.addPrice())
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
+    }
 }
@@ -0,0 +1,48 @@
+package org.sparta.delivery.payment.application;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.payment.domain.Payment;
+import org.sparta.delivery.payment.domain.PaymentId;
+import org.sparta.delivery.payment.domain.PaymentRepository;
+import org.sparta.delivery.payment.domain.exception.PaymentNotFoundException;
+import org.sparta.delivery.payment.domain.service.ApproveResult;
+import org.sparta.delivery.payment.domain.service.CancelResult;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 결제 승인 단계별 트랜잭션 - PG사 요청 전후의 상태 변경만 짧은 트랜잭션으로 처리 (PaymentService.approve)
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentApprovalService {
+    private final PaymentRepository paymentRepository;
+
+    // 1단계: 결제 행을 잠그고 승인 진행중(IN_PROGRESS) 저장, 승인 요청이 필요 없다면(이미 승인) null
+    @Transactional
+    public Payment start(UUID paymentId, String paymentKey) {
+        Payment payment = paymentRepository.findByIdForApprove(PaymentId.of(paymentId)).orElseThrow(PaymentNotFoundException::new);
+        return payment.startApprove(paymentKey) ? payment : null;
+    }
+
+    // 3단계: PG사 승인 결과 반영 - 승인을 선점한 시도(attemptId)의 실패 결과만 반영, 성공 결과는 늦게 도착해도 반영
+    @Transactional
+    public Payment complete(UUID paymentId, String attemptId, ApproveResult approveResult) {
+        Payment payment = getPayment(paymentId);
+        payment.completeApprove(attemptId, approveResult);
+
+        return payment;
+    }
+
+    // 금액 불일치 결제의 환불 결과 기록
+    @Transactional
+    public void refunded(UUID paymentId, CancelResult cancelResult) {
+        getPayment(paymentId).refunded(cancelResult);
+    }
+
+    private Payment getPayment(UUID paymentId) {
+        return paymentRepository.findById(PaymentId.of(paymentId)).orElseThrow(PaymentNotFoundException::new);
+    }
+}
@@ -1,39 +1,119 @@
 package org.sparta.delivery.payment.application;
 
 import lombok.RequiredArgsConstructor;
-import org.sparta.delivery.payment.domain.Payment;
-import org.sparta.delivery.payment.domain.PaymentId;
-import org.sparta.delivery.payment.domain.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.payment.domain.*;
+import org.sparta.delivery.payment.domain.exception.PaymentAmountMismatchException;
+import org.sparta.delivery.payment.domain.exception.PaymentApproveFailureException;
 import org.sparta.delivery.payment.domain.exception.PaymentNotFoundException;
 import org.sparta.delivery.payment.domain.service.ApprovePayment;
+import org.sparta.delivery.payment.domain.service.ApproveResult;
 import org.sparta.delivery.payment.domain.service.CancelPayment;
+import org.sparta.delivery.payment.domain.service.CancelResult;
 import org.sparta.delivery.payment.domain.service.OrderProvider;
+import org.sparta.delivery.payment.domain.service.QueryPayment;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
     private final PaymentRepository paymentRepository;
+    private final PaymentApprovalService approvalService;
     private final OrderProvider orderProvider;
     private final ApprovePayment approvePayment;
     private final CancelPayment cancelPayment;
+    private final QueryPayment queryPayment;
 
-    // 결제 생성
+    // 결제 생성 - 주문 접수 이벤트가 중복 전달될 수 있으므로 이미 등록된 결제가 있다면 기존 결제 반환
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public UUID create(UUID orderId) {
+        Optional<Payment> registered = paymentRepository.findByPaymentOrderInfoOrderId(orderId);
+        if (registered.isPresent()) {
+            return registered.get().getId().getId();
+        }
+
         Payment payment = new Payment(orderId, orderProvider);
         return paymentRepository.save(payment).getId().getId();
     }
 
-    // 결제 승인 처리
-    @Transactional
+    /**
+     * 결제 승인 처리 - PG사 응답을 기다리는 동안 DB 커넥션, 결제 행을 점유하지 않도록 단계별로 분리
+     *  1. 결제 행을 잠그고 승인 진행중(IN_PROGRESS), 승인 시도 ID 저장 후 커밋 - 이미 승인 진행중이라면 거절
+     *  2. 트랜잭션 없이 PG사 승인 요청 - 결제 ID 멱등키로 재요청해도 중복 승인되지 않음
+     *  3. 짧은 트랜잭션으로 승인 결과(DONE, READY, ABORTED) 반영 - 실패 결과는 승인을 선점한 시도만 반영
+     *  4. 금액 불일치라면 트랜잭션 없이 결제 취소 요청 후 환불 결과 기록
+     */
     public void approve(UUID paymentId, String paymentKey) {
+        Payment payment = approvalService.start(paymentId, paymentKey);
+        if (payment == null) return; // 이미 승인된 결제
+
+        String attemptId = payment.getApproveAttemptId();
+        PaymentOrderInfo orderInfo = payment.getPaymentOrderInfo();
+        ApproveResult approveResult = approvePayment.request(payment.getId(), paymentKey, orderInfo.getOrderId(), orderInfo.getAmount().getValue());
+
+        payment = approvalService.complete(paymentId, attemptId, approveResult);
+        if (payment.getStatus() == PaymentStatus.DONE) return;
+
+        if (!approveResult.success()) {
+            throw new PaymentApproveFailureException(approveResult.reason());
+        }
+
+        // 실결제 금액과 최초 등록 금액 불일치 - 결제된 금액 환불
+        if (payment.getStatus() == PaymentStatus.ABORTED) {
+            refundMismatch(payment, paymentKey);
+            throw new PaymentAmountMismatchException(orderInfo.getAmount().getValue(), approveResult.approvedAmount());
+        }
+    }
+
+    /**
+     * 승인 진행중으로 남은 결제 정리 - 승인 요청 중 서버가 중단되었거나 결과 반영에 실패한 결제
+     *  1. PG사 결제 조회로 승인 여부 확인, 확인할 수 없다면(PG사 장애) 다음 주기에 다시 확인
+     *  2. 승인되었다면 결제 완료(DONE), 승인되지 않았다면 결제 대기(READY)로 되돌려 다시 승인 요청 가능
+     *  3. 금액 불일치라면 결제 취소 요청 후 환불 결과 기록
+     *
+     * @return 결과가 반영되었다면 true
+     */
+    public boolean recoverApprove(UUID paymentId) {
         Payment payment = getPayment(paymentId);
-        payment.approve(paymentKey, approvePayment, cancelPayment);
+        if (payment.getStatus() != PaymentStatus.IN_PROGRESS) return false;
+
+        String attemptId = payment.getApproveAttemptId();
+        Optional<ApproveResult> approveResult = queryPayment.query(payment.getId(), payment.getPaymentOrderInfo().getOrderId());
+        if (approveResult.isEmpty()) return false;
+
+        payment = approvalService.complete(paymentId, attemptId, approveResult.get());
+        if (payment.getStatus() == PaymentStatus.ABORTED && approveResult.get().success()) {
+            refundMismatch(payment, payment.getKey());
+        }
+
+        log.info("승인 진행중 결제 정리. 결제 ID: {}, 결제 상태: {}", paymentId, payment.getStatus());
+        return payment.getStatus() != PaymentStatus.IN_PROGRESS;
+    }
+
+    // 승인 진행중으로 남은 결제 ID - 승인 시작 후 stuckAfter 이상 지난 결제
+    @Transactional(readOnly = true)
+    public List<UUID> getStuckApprovals(LocalDateTime startedBefore, int limit) {
+        return paymentRepository.findIdsByStatusStartedBefore(PaymentStatus.IN_PROGRESS, startedBefore, PageRequest.of(0, limit))
+                .stream().map(PaymentId::getId).toList();
+    }
+
+    // 금액 불일치 결제 환불 - 트랜잭션 없이 결제 취소 요청 후 환불 결과 기록
+    private void refundMismatch(Payment payment, String paymentKey) {
+        CancelResult cancelResult = cancelPayment.cancel(payment.getId(), paymentKey, "실결제 금액과 최초 등록 금액과 불일치");
+        if (!cancelResult.success()) {
+            log.error("금액 불일치 결제 환불 실패. 사유: {}. 결제 ID: {}", cancelResult.reason(), payment.getId().getId());
+        }
+
+        approvalService.refunded(payment.getId().getId(), cancelResult);
     }
 
     // 결제 취소 처리
@@ -44,6 +124,13 @@ public class PaymentService {
 
     }
 
+    // 주문별 결제 조회 - 주문 조회 권한이 있는 경우만 조회 (주문자, 매장 주인, 관리자)
+    @Transactional(readOnly = true)
+    public Payment getByOrder(UUID orderId) {
+        orderProvider.getOrderInfo(orderId);
+        return paymentRepository.findByPaymentOrderInfoOrderId(orderId).orElseThrow(PaymentNotFoundException::new);
+    }
+
     private Payment getPayment(UUID paymentId) {
         return paymentRepository.findById(PaymentId.of(paymentId)).orElseThrow(PaymentNotFoundException::new);
     }
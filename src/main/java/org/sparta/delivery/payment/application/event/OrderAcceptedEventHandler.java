@@ -3,13 +3,13 @@ package org.sparta.delivery.payment.application.event;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sparta.delivery.global.infrastructure.event.Events;
+import org.sparta.delivery.global.infrastructure.event.executor.EventExecutorConfig;
+import org.sparta.delivery.global.infrastructure.event.retry.DelayedRetry;
 import org.sparta.delivery.order.domain.event.OrderAcceptedEvent;
 import org.sparta.delivery.order.domain.exception.OrderNotFoundException;
 import org.sparta.delivery.payment.application.PaymentService;
 import org.sparta.delivery.payment.domain.event.PaymentCreateFailedEvent;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -22,14 +22,15 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class OrderAcceptedEventHandler {
     private final PaymentService paymentService;
 
-    @Async
-    @Retryable(
+    @Async(EventExecutorConfig.PAYMENT)
+    @DelayedRetry(
             retryFor = { Exception.class },
             noRetryFor = { OrderNotFoundException.class }, // 주문이 없다면 재시도는 무의미
             maxAttempts = 5,
-            backoff = @Backoff(delay = 5000, multiplier = 2.0)
+            delay = 5000,
+            multiplier = 2.0
     )
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true) // 아웃박스 릴레이에서는 트랜잭션 없이 발행
     public void handle(OrderAcceptedEvent event) {
         // 주문이 접수되면 결제 등록(READY) 처리
         paymentService.create(event.orderId());
@@ -0,0 +1,56 @@
+package org.sparta.delivery.payment.application.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.payment.application.PaymentService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 승인 진행중(IN_PROGRESS)으로 남은 결제 주기적 정리
+ *  - 승인 시작 후 stuck-after-ms 이상 지난 결제를 PG사 결제 조회로 확인하여 결제 완료 또는 결제 대기로 변경 (PaymentService.recoverApprove)
+ *  - 승인 진행중인 결제는 다시 승인할 수 없으므로 서버 중단 등으로 남은 결제는 이 작업으로만 정리됨
+ *  - PG사 승인 요청의 응답 대기 시간(http.client.clients.toss.read-timeout)보다 충분히 길게 설정하여 진행중인 승인과 겹치지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentApprovalRecoveryScheduler {
+    private final PaymentService paymentService;
+
+    @Value("${payment.approval-recovery.enabled:true}")
+    private boolean enabled;
+
+    @Value("${payment.approval-recovery.stuck-after-ms:300000}")
+    private long stuckAfterMs;
+
+    @Value("${payment.approval-recovery.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${payment.approval-recovery.interval-ms:60000}",
+            fixedDelayString = "${payment.approval-recovery.interval-ms:60000}")
+    public void recover() {
+        if (!enabled) return;
+
+        List<UUID> paymentIds = paymentService.getStuckApprovals(LocalDateTime.now().minus(Duration.ofMillis(stuckAfterMs)), batchSize);
+        if (paymentIds.isEmpty()) return;
+
+        int recovered = 0;
+        for (UUID paymentId : paymentIds) {
+            try {
+                if (paymentService.recoverApprove(paymentId)) recovered++;
+            } catch (Exception e) {
+                // 사용자 승인 요청과 동시에 변경된 경우(낙관적 Lock) 등은 다음 주기에 다시 확인
+                log.warn("승인 진행중 결제 정리 실패. 사유: {}. 결제 ID: {}", e.getMessage(), paymentId);
+            }
+        }
+
+        log.info("승인 진행중 결제 정리 완료. 대상 결제수: {}, 정리된 결제수: {}", paymentIds.size(), recovered);
+    }
+}
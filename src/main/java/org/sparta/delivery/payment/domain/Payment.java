@@ -7,15 +7,15 @@ import org.sparta.delivery.global.infrastructure.event.Events;
 import org.sparta.delivery.payment.domain.event.PaymentApprovedEvent;
 import org.sparta.delivery.payment.domain.event.PaymentCancelledEvent;
 import org.sparta.delivery.payment.domain.exception.InvalidPaymentException;
-import org.sparta.delivery.payment.domain.exception.PaymentAmountMismatchException;
-import org.sparta.delivery.payment.domain.exception.PaymentApproveFailureException;
 import org.sparta.delivery.payment.domain.exception.PaymentCancelFailureException;
 import org.sparta.delivery.payment.domain.service.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -25,6 +25,9 @@ import java.util.UUID;
  * 3. 프론트엔드에서 orderId(주문번호), OrderName(주문상품), amount(결제금액)으로 결제 진행
  * 4. 성공 콜백으로 백엔드 엔드포인트로 paymentKey,orderId, amount 값이 넘어옴
  * 5. 백엔드 앤드포인트에서는 승인 처리를 하고 성공시 approve 처리, 실패시 abort 처리
+ *      - 승인 진행중(IN_PROGRESS) 저장 -> 트랜잭션 없이 PG사 승인 요청 -> 짧은 트랜잭션으로 결과 반영 (DB 커넥션을 PG사 응답 대기 동안 점유하지 않음)
+ *      - 승인 시작시 결제 행을 잠그고(PESSIMISTIC_WRITE) 승인 시도 ID를 발급하여 한 요청만 승인 진행, 결과는 선점한 시도만 반영 (늦은 성공 응답은 예외)
+ *      - 승인 진행중으로 남은 결제는 PG사 결제 조회로 결과를 반영 (PaymentApprovalRecoveryScheduler)
  *      - 승인시간, paymentKey, status, paymentLog 등을 업데이트 합니다.
  * 6. 결제가 승인되면 주문서는 입금확인 단계로 업데이트 합니다(승인 후속 처리 - 이벤트 발생)
  *
@@ -45,6 +48,15 @@ public class Payment extends BaseUserEntity {
     @Column(length=30, nullable = false, name="payment_status")
     private PaymentStatus status;
 
+    @Version
+    @ColumnDefault("0")
+    private int version; // 낙관적 Lock
+
+    @Column(length=36)
+    private String approveAttemptId; // 승인을 선점한 시도 ID, 승인 진행중(IN_PROGRESS)인 동안만 유지
+
+    private LocalDateTime approveStartedAt; // 승인 시작일시 - 승인 진행중으로 남은 결제 조회
+
     @Column(nullable = false)
     private LocalDateTime requestedAt; // 결제 요청일시
     private LocalDateTime approvedAt; // 결제 승인일시
@@ -55,8 +67,15 @@ public class Payment extends BaseUserEntity {
     })
     private PaymentOrderInfo paymentOrderInfo; // 결제 상품 정보
 
-    @Column(name="payment_log", columnDefinition = "jsonb")
-    private List<PaymentLog> logs = new ArrayList<>(); // 결제로그
+    /**
+     * 결제로그 - 추가 전용 테이블(P_PAYMENT_LOG)
+     *  연관관계 주인이 아닌(mappedBy) 지연 로딩 컬렉션이므로 로그를 추가해도 기존 로그를 조회하지 않고 INSERT만 실행
+     *  조회하면 전체 로그를 로딩하므로 외부에 노출하지 않음
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @OneToMany(mappedBy = "payment", cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
+    private List<PaymentLog> logs = new ArrayList<>();
 
     @Builder
     public Payment(UUID orderId, OrderProvider orderProvider) {
@@ -75,18 +94,27 @@ public class Payment extends BaseUserEntity {
 
 
     /**
-     *  결제 승인 완료 처리
+     * 결제 승인 시작 - 결제 키를 저장하고 승인 진행중(IN_PROGRESS) 상태로 변경, 승인 시도 ID 발급
+     *  PG사 승인 요청은 이 상태가 커밋된 이후 트랜잭션 밖에서 진행 (PaymentService.approve)
+     *  결제 행을 잠근 상태(PaymentRepository.findByIdForApprove)에서 호출하므로 동시에 요청해도 한 요청만 승인 진행
+     *  승인 진행중인 결제는 다시 승인할 수 없으며, 중단되어 남은 결제는 PG사 결제 조회로 정리 (PaymentService.recoverApprove)
+     *
      * @param key : 결제 요청 성공 콜백으로 넘어온 paymentKey
-     * @param approvePayment : 도메인 서비스, PG사에 결제 승인 처리
+     * @return 승인 요청이 필요하면 true, 이미 승인된 결제라면 false
      */
-    public void approve(String key, ApprovePayment approvePayment, CancelPayment cancelPayment) {
+    public boolean startApprove(String key) {
         // 이미 승인된 경우라면 처리하지 않음
         if (this.status == PaymentStatus.DONE) {
-            return;
+            return false;
+        }
+
+        // 다른 요청에서 승인 진행중
+        if (this.status == PaymentStatus.IN_PROGRESS) {
+            throw new InvalidPaymentException("결제 승인이 진행중입니다.");
         }
 
-        // READY 또는 IN_PROGRESS 상태에서만 승인 가능
-        if (this.status != PaymentStatus.READY && this.status != PaymentStatus.IN_PROGRESS) {
+        // READY 상태에서만 승인 가능
+        if (this.status != PaymentStatus.READY) {
             throw new InvalidPaymentException("결제 승인이 가능한 상태가 아닙니다.");
         }
 
@@ -94,26 +122,60 @@ public class Payment extends BaseUserEntity {
             throw new InvalidPaymentException("결제 키(paymentKey)는 필수입니다.");
         }
 
-        // 결제 승인 처리
-        ApproveResult approveResult = approvePayment.request(id, key);
+        this.key = key;
+        this.status = PaymentStatus.IN_PROGRESS;
+        this.approveAttemptId = UUID.randomUUID().toString();
+        this.approveStartedAt = LocalDateTime.now();
+
+        return true;
+    }
+
+    /**
+     * 결제 승인 완료 처리 - PG사 승인 결과 반영
+     *  1. 승인 실패: 승인을 선점한 시도의 결과인 경우에만 결제 대기(READY) 상태로 되돌려 다시 승인 요청 가능
+     *     - 다른 시도의 늦은 실패 응답은 무시 (결제 완료(DONE)를 되돌리지 않음)
+     *  2. 실결제 금액과 최초 등록 금액이 불일치(위변조): 승인 실패(ABORTED) 처리, 결제된 금액은 트랜잭션 이후 취소 (refunded)
+     *  3. 승인 성공: 결제 완료(DONE) 처리 후 주문 상태 변경 이벤트 발행
+     *     - PG사에서 승인된 결제이므로 선점하지 않은 시도의 늦은 성공 응답도 승인 진행중(IN_PROGRESS), 결제 대기(READY) 상태라면 반영
+     *  예외를 발생시키지 않고 결과를 반영하여 로그가 함께 저장되도록 함 - 실패 예외는 커밋 이후 발생
+     *
+     * @param attemptId : 승인 시작시 발급된 승인 시도 ID
+     * @param approveResult : PG사 승인 결과
+     */
+    public void completeApprove(String attemptId, ApproveResult approveResult) {
+        // 다른 요청에서 이미 승인 완료된 경우
+        if (this.status == PaymentStatus.DONE) {
+            return;
+        }
+
+        boolean owner = this.status == PaymentStatus.IN_PROGRESS && Objects.equals(this.approveAttemptId, attemptId);
         if (!approveResult.success()) {
-            // 결제 실패시 처리
-            throw new PaymentApproveFailureException(approveResult.reason());
+            if (!owner) return; // 다른 시도가 선점했거나 이미 결과가 반영된 결제
+
+            if (StringUtils.hasText(approveResult.paymentLog())) {
+                this.logs.add(log(approveResult.paymentLog()));
+            }
+
+            this.status = PaymentStatus.READY;
+            this.approveAttemptId = null;
+            return;
+        }
 
+        // 승인 성공은 승인 진행중, 결제 대기 상태에서만 반영 (금액 불일치로 실패 처리된 결제 등은 제외)
+        if (this.status != PaymentStatus.IN_PROGRESS && this.status != PaymentStatus.READY) {
+            return;
         }
 
-        this.key = key;
-        this.logs.add(log(approveResult.paymentLog()));
+        if (StringUtils.hasText(approveResult.paymentLog())) {
+            this.logs.add(log(approveResult.paymentLog()));
+        }
 
-        // 실결제 금액과 최초 등록 금액과 일치하는지 검증(위변조 방지), 검증 실패시 결제된 금액 취소
-        int amount = this.paymentOrderInfo.getAmount().getValue();
-        int approvedAmount = approveResult.approvedAmount();
-        if (amount != approvedAmount) {
+        this.approveAttemptId = null;
 
-            // 환불 처리
-            cancelPayment.cancel(id, key, "실결제 금액과 최초 등록 금액과 불일치");
+        // 실결제 금액과 최초 등록 금액과 일치하는지 검증(위변조 방지)
+        if (!isApprovedAmount(approveResult.approvedAmount())) {
             this.status = PaymentStatus.ABORTED;
-            throw new PaymentAmountMismatchException(amount, approvedAmount);
+            return;
         }
 
         this.status = PaymentStatus.DONE;
@@ -123,6 +185,18 @@ public class Payment extends BaseUserEntity {
         Events.trigger(new PaymentApprovedEvent(paymentOrderInfo.getOrderId()));
     }
 
+    // 금액 불일치로 승인 실패한 결제의 환불 결과 기록
+    public void refunded(CancelResult cancelResult) {
+        if (StringUtils.hasText(cancelResult.paymentLog())) {
+            this.logs.add(log(cancelResult.paymentLog()));
+        }
+    }
+
+    // 실결제 금액이 최초 등록 금액과 일치하는지 여부
+    public boolean isApprovedAmount(int approvedAmount) {
+        return this.paymentOrderInfo.getAmount().getValue() == approvedAmount;
+    }
+
     /**
      * 결제 취소
      * 1. 입금 확인 단계(PaymentStatus.DONE) 에서만 가능
@@ -156,7 +230,9 @@ public class Payment extends BaseUserEntity {
 
         // 성공시에만 상태 변경 및 로그 업데이트, 후속처리
         this.status = PaymentStatus.CANCELED;
-        this.logs.add(log(result.paymentLog()));
+        if (StringUtils.hasText(result.paymentLog())) {
+            this.logs.add(log(result.paymentLog()));
+        }
 
         // 주문 취소후 후속 처리(주문서의 상태를 환불상태로 변경) - 이벤트 발행
         Events.trigger(new PaymentCancelledEvent(paymentOrderInfo.getOrderId()));
@@ -169,6 +245,6 @@ public class Payment extends BaseUserEntity {
 
     // 결제 기록
     private PaymentLog log(String paymentLog) {
-        return  new PaymentLog(LocalDateTime.now(), paymentLog);
+        return new PaymentLog(this, paymentLog);
     }
 }
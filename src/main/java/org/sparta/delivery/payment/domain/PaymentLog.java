@@ -1,8 +1,45 @@
 package org.sparta.delivery.payment.domain;
 
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
 import java.time.LocalDateTime;
 
-public record PaymentLog(
-        LocalDateTime createdAt,
-        String log
-) {}
+/**
+ * 결제 로그 - PG사 승인/취소 응답을 건별로 추가만(INSERT) 하고 수정하지 않음
+ *  - 결제(Payment)에서는 지연 로딩되며, 로그 추가시 이전 로그를 조회하지 않음
+ */
+@Entity
+@Getter
+@Immutable
+@ToString(exclude = "payment")
+@Access(AccessType.FIELD)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name="P_PAYMENT_LOG", indexes = {
+        @Index(name="idx_payment_log_payment", columnList = "payment_id, id")
+})
+public class PaymentLog {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name="payment_id", nullable = false, updatable = false)
+    private Payment payment;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(columnDefinition = "text", updatable = false)
+    private String log; // PG사 응답 JSON
+
+    PaymentLog(Payment payment, String log) {
+        this.payment = payment;
+        this.createdAt = LocalDateTime.now();
+        this.log = log;
+    }
+}
@@ -1,6 +1,30 @@
 package org.sparta.delivery.payment.domain;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface PaymentRepository extends JpaRepository<Payment, PaymentId> {
+    Optional<Payment> findByPaymentOrderInfoOrderId(UUID orderId); // 주문별 결제 조회
+
+    // 승인 시작 - 동시에 승인을 요청해도 한 요청만 승인을 선점하도록 결제 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdForApprove(@Param("id") PaymentId id);
+
+    // 승인 진행중으로 남은 결제 - 승인 시작일시가 없다면 이전 버전에서 승인 진행중으로 남은 결제
+    @Query("""
+            SELECT p.id FROM Payment p
+            WHERE p.status = :status AND (p.approveStartedAt IS NULL OR p.approveStartedAt < :before)
+            ORDER BY p.approveStartedAt
+            """)
+    List<PaymentId> findIdsByStatusStartedBefore(@Param("status") PaymentStatus status, @Param("before") LocalDateTime before, Pageable pageable);
 }
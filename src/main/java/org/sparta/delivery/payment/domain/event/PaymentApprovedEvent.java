@@ -1,7 +1,10 @@
 package org.sparta.delivery.payment.domain.event;
 
+import org.sparta.delivery.global.infrastructure.event.Outbox;
+
 import java.util.UUID;
 
+@Outbox
 public record PaymentApprovedEvent(
         UUID orderId
 ) {}
@@ -2,8 +2,10 @@ package org.sparta.delivery.payment.domain.service;
 
 import org.sparta.delivery.payment.domain.PaymentId;
 
+import java.util.UUID;
+
 // 결제 승인 처리
 public interface ApprovePayment {
-    // 승인 요청 처리
-    ApproveResult request(PaymentId paymentId, String key);
+    // 승인 요청 처리 - 트랜잭션 밖에서 호출되므로 결제 정보를 다시 조회하지 않고 주문 ID, 결제 금액을 전달 받음
+    ApproveResult request(PaymentId paymentId, String key, UUID orderId, int amount);
 }
@@ -0,0 +1,15 @@
+package org.sparta.delivery.payment.domain.service;
+
+import org.sparta.delivery.payment.domain.PaymentId;
+
+import java.util.Optional;
+import java.util.UUID;
+
+// 결제 조회 처리 - 승인 진행중으로 남은 결제의 PG사 승인 여부 확인
+public interface QueryPayment {
+    /**
+     * PG사 결제 조회 - 승인 완료(DONE)라면 성공, 승인 요청이 없거나 승인되지 않았다면 실패 결과
+     * @return PG사 장애 등으로 승인 여부를 확인할 수 없다면 빈 값
+     */
+    Optional<ApproveResult> query(PaymentId paymentId, UUID orderId);
+}
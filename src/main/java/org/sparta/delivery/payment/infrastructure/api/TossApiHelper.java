@@ -1,12 +1,12 @@
 package org.sparta.delivery.payment.infrastructure.api;
 
 import lombok.Getter;
+import org.sparta.delivery.global.infrastructure.http.OutboundHttpClients;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
-import java.net.URI;
 import java.util.Base64;
 
 @Getter
@@ -15,11 +15,10 @@ public class TossApiHelper {
 
     private final RestClient restClient;
 
-    public TossApiHelper(@Value("${TOSS_SECRET_KEY}") String secretKey) {
+    public TossApiHelper(@Value("${TOSS_SECRET_KEY}") String secretKey, @Value("${toss.base-url:https://api.tosspayments.com/v1/payments}") String baseUrl, OutboundHttpClients httpClients) {
         String encodedSecretKey = Base64.getEncoder().encodeToString((secretKey + ":").getBytes());
 
-        restClient = RestClient.builder()
-                .baseUrl(URI.create("https://api.tosspayments.com/v1/payments"))
+        restClient = httpClients.builder("toss", baseUrl) // 로컬 대체 서버 사용시 변경 (TossStubServer)
                 .defaultHeaders((headers) -> { // 요청헤더
                     headers.setBasicAuth(encodedSecretKey);
                     headers.setContentType(MediaType.APPLICATION_JSON);
@@ -3,11 +3,10 @@ package org.sparta.delivery.payment.infrastructure.api;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.sparta.delivery.payment.domain.Payment;
+import org.sparta.delivery.global.infrastructure.resilience.DependencyGuards;
+import org.sparta.delivery.global.infrastructure.resilience.DependencyUnavailableException;
 import org.sparta.delivery.payment.domain.PaymentId;
-import org.sparta.delivery.payment.domain.PaymentRepository;
 import org.sparta.delivery.payment.domain.PaymentStatus;
-import org.sparta.delivery.payment.domain.exception.PaymentNotFoundException;
 import org.sparta.delivery.payment.domain.service.ApprovePayment;
 import org.sparta.delivery.payment.domain.service.ApproveResult;
 import org.springframework.stereotype.Component;
@@ -26,12 +25,10 @@ import java.util.UUID;
 public class TossApprovePayment implements ApprovePayment {
 
     private final TossApiHelper tossApiHelper;
-    private final PaymentRepository paymentRepository;
+    private final DependencyGuards guards;
 
     @Override
-    public ApproveResult request(PaymentId paymentId, String paymentKey) {
-        Payment payment = paymentRepository.findById(paymentId).orElseThrow(PaymentNotFoundException::new);
-
+    public ApproveResult request(PaymentId paymentId, String paymentKey, UUID orderId, int amount) {
         RestClient restClient = tossApiHelper.getRestClient();
 
         /**
@@ -45,16 +42,11 @@ public class TossApprovePayment implements ApprovePayment {
                 .builder()
                 .key(paymentKey);
 
-        UUID orderId = payment.getPaymentOrderInfo().getOrderId();
-        int amount = payment.getPaymentOrderInfo().getAmount().getValue();
-
         log.info("토스 결제 승인 요청 시작, 주문 ID: {}, 결제 ID: {}, 멱등성 키: {}, Payment Key: {}, 결제금액: {}", orderId, paymentId.getId(), idempotencyKey, paymentKey, amount);
 
         try {
-            JsonNode result = restClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/confirm")
-                            .build())
+            JsonNode result = guards.get(DependencyGuards.TOSS).call(() -> restClient.post()
+                    .uri("/confirm")
                     .body(
                             Map.of(
                                     "paymentKey", paymentKey,
@@ -64,7 +56,7 @@ public class TossApprovePayment implements ApprovePayment {
                     )
                     .header("Idempotency-Key", idempotencyKey)
                     .retrieve()
-                    .body(JsonNode.class);
+                    .body(JsonNode.class));
 
             JsonNode statusNode = result.get("status");
             PaymentStatus status = PaymentStatus.valueOf(statusNode.asText());
@@ -92,6 +84,13 @@ public class TossApprovePayment implements ApprovePayment {
                     .reason("[%s]%s".formatted(code, message))
                     .paymentLog(result == null ? null : result.toString())
                     .build();
+        } catch (DependencyUnavailableException e) {
+            // 서킷 열림, 동시 호출 수 초과 - 토스를 호출하지 않고 바로 실패
+            log.warn("토스 결제 승인 요청 중단, 주문 ID: {}, 결제 ID: {}, 사유: {}", orderId, paymentId.getId(), e.getMessage());
+            return builder
+                    .success(false)
+                    .reason("[PG_UNAVAILABLE]" + e.getMessage())
+                    .build();
         } catch (Exception e) {
             // 네트워크 타임아웃 또는 기타 예외
             log.error("토스 결제 승인 실패, 주문 ID: {}, 결제 ID: {}, 멱등성 키: {}, Payment Key: {}, 결제금액: {}, 에러코드: UNKNOWN, 에러메세지: {}", orderId, paymentId.getId(), idempotencyKey, paymentKey, amount, e.getMessage(), e);
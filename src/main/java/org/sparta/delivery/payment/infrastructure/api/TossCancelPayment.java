@@ -3,6 +3,8 @@ package org.sparta.delivery.payment.infrastructure.api;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.global.infrastructure.resilience.DependencyGuards;
+import org.sparta.delivery.global.infrastructure.resilience.DependencyUnavailableException;
 import org.sparta.delivery.payment.domain.PaymentId;
 import org.sparta.delivery.payment.domain.service.CancelPayment;
 import org.sparta.delivery.payment.domain.service.CancelResult;
@@ -17,6 +19,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TossCancelPayment implements CancelPayment {
     private final TossApiHelper tossApiHelper;
+    private final DependencyGuards guards;
 
     @Override
     public CancelResult cancel(PaymentId paymentId, String paymentKey, String cancelReason) {
@@ -28,14 +31,12 @@ public class TossCancelPayment implements CancelPayment {
         log.info("토스 결제 취소 요청 시작, 결제 ID: {}, 멱등성 키: {}, Payment Key: {}", paymentId.getId(), idempotencyKey, paymentKey);
 
         try {
-           JsonNode result = restClient.post()
-                   .uri(uriBuilder -> uriBuilder
-                           .path("/{paymentKey}/cancel")
-                           .build(paymentKey))
+           JsonNode result = guards.get(DependencyGuards.TOSS).call(() -> restClient.post()
+                   .uri("/{paymentKey}/cancel", paymentKey)
                    .header("Idempotency-Key", idempotencyKey)
                    .body(Map.of("cancelReason", cancelReason))
                    .retrieve()
-                   .body(JsonNode.class);
+                   .body(JsonNode.class));
 
            log.info("토스 결제 취소 성공, 결제 ID: {}, 멱등성 키: {}, Payment Key: {}", paymentId.getId(), idempotencyKey, paymentKey);
            return CancelResult.builder()
@@ -55,6 +56,13 @@ public class TossCancelPayment implements CancelPayment {
                     .reason("[%s]%s".formatted(code, message))
                     .paymentLog(result == null ? null : result.toString())
                     .build();
+        } catch (DependencyUnavailableException e) {
+            // 서킷 열림, 동시 호출 수 초과 - 토스를 호출하지 않고 바로 실패
+            log.warn("토스 결제 취소 요청 중단, 결제 ID: {}, 사유: {}", paymentId.getId(), e.getMessage());
+            return CancelResult.builder()
+                    .success(false)
+                    .reason("[PG_UNAVAILABLE]" + e.getMessage())
+                    .build();
         } catch (Exception e) {
             // 네트워크 타임아웃 또는 기타 예외
             log.error("토스 결제 취소 실패,  결제 ID: {}, 멱등성 키: {}, Payment Key: {}, 에러코드: UNKNOWN, 에러메세지: {}", paymentId.getId(), idempotencyKey, paymentKey, e.getMessage(), e);
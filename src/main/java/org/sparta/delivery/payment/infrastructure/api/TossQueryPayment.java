@@ -0,0 +1,82 @@
+package org.sparta.delivery.payment.infrastructure.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.global.infrastructure.resilience.DependencyGuards;
+import org.sparta.delivery.global.infrastructure.resilience.DependencyUnavailableException;
+import org.sparta.delivery.payment.domain.PaymentId;
+import org.sparta.delivery.payment.domain.PaymentStatus;
+import org.sparta.delivery.payment.domain.service.ApproveResult;
+import org.sparta.delivery.payment.domain.service.QueryPayment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.UUID;
+
+// 결제 조회 처리 - 승인 요청시 전달한 주문 ID(orderId)로 조회
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TossQueryPayment implements QueryPayment {
+    private final TossApiHelper tossApiHelper;
+    private final DependencyGuards guards;
+
+    @Override
+    public Optional<ApproveResult> query(PaymentId paymentId, UUID orderId) {
+        RestClient restClient = tossApiHelper.getRestClient();
+
+        try {
+            JsonNode result = guards.get(DependencyGuards.TOSS).call(() -> restClient.get()
+                    .uri("/orders/{orderId}", orderId)
+                    .retrieve()
+                    .body(JsonNode.class));
+
+            PaymentStatus status = PaymentStatus.valueOf(result.path("status").asText());
+            log.info("토스 결제 조회, 주문 ID: {}, 결제 ID: {}, 결제 상태: {}", orderId, paymentId.getId(), status);
+
+            if (status != PaymentStatus.DONE) {
+                return Optional.of(ApproveResult.builder()
+                        .success(false)
+                        .status(status)
+                        .reason("[" + status + "]승인되지 않은 결제입니다.")
+                        .paymentLog(result.toString())
+                        .build());
+            }
+
+            return Optional.of(ApproveResult.builder()
+                    .success(true)
+                    .key(result.path("paymentKey").asText(null))
+                    .status(status)
+                    .approvedAt(result.hasNonNull("approvedAt") ? LocalDateTime.parse(result.get("approvedAt").asText(), DateTimeFormatter.ISO_DATE_TIME) : null)
+                    .approvedAmount(result.path("totalAmount").asInt(0))
+                    .paymentLog(result.toString())
+                    .build());
+
+        } catch (RestClientResponseException e) {
+            // 승인 요청이 PG사에 도달하지 않은 결제
+            if (e.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                JsonNode result = e.getResponseBodyAs(JsonNode.class);
+                return Optional.of(ApproveResult.builder()
+                        .success(false)
+                        .reason("[NOT_FOUND_PAYMENT]존재하지 않는 결제입니다.")
+                        .paymentLog(result == null ? null : result.toString())
+                        .build());
+            }
+
+            log.error("토스 결제 조회 실패, HTTP 상태코드: {}, 주문 ID: {}, 결제 ID: {}", e.getStatusCode().value(), orderId, paymentId.getId(), e);
+            return Optional.empty();
+        } catch (DependencyUnavailableException e) {
+            log.warn("토스 결제 조회 중단, 주문 ID: {}, 결제 ID: {}, 사유: {}", orderId, paymentId.getId(), e.getMessage());
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("토스 결제 조회 실패, 주문 ID: {}, 결제 ID: {}, 사유: {}", orderId, paymentId.getId(), e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+}
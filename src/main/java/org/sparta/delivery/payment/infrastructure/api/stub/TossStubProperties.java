@@ -0,0 +1,25 @@
+package org.sparta.delivery.payment.infrastructure.api.stub;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 토스 결제 API 로컬 대체 서버 설정
+ *  - 지연: latency-ms + (0 ~ latency-jitter-ms)
+ *  - 실패: error-rate 비율로 error-status, error-code 응답
+ *  - 시간 초과: timeout-rate 비율로 timeout-ms 동안 응답 지연 후 504 응답
+ */
+@Data
+@ConfigurationProperties(prefix = "toss.stub")
+public class TossStubProperties {
+    private boolean enabled;
+    private int port = 18080;
+    private long latencyMs = 300;
+    private long latencyJitterMs = 200;
+    private double errorRate;
+    private int errorStatus = 500;
+    private String errorCode = "PROVIDER_ERROR";
+    private double timeoutRate;
+    private long timeoutMs = 30000;
+    private int idempotencyCacheSize = 100000; // 멱등키별 승인/취소 결과 보관 수 (최근 사용 순)
+}
@@ -0,0 +1,238 @@
+package org.sparta.delivery.payment.infrastructure.api.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 토스 결제 API 로컬 대체 서버 - 실제 PG사 호출 없이 결제 흐름 부하 테스트 (toss.stub.enabled=true)
+ *  - POST /v1/payments/confirm: 결제 승인, 요청 금액 그대로 승인(DONE)
+ *  - POST /v1/payments/{paymentKey}/cancel: 결제 취소(CANCELED)
+ *  - GET /v1/payments/orders/{orderId}: 결제 조회, 승인된 주문이라면 승인 응답, 아니라면 404(NOT_FOUND_PAYMENT) - 승인 진행중 결제 정리에서 사용
+ *  - 설정한 지연, 실패, 시간 초과 비율로 응답 (TossStubProperties)
+ *  - 같은 멱등키(Idempotency-Key)로 다시 요청하면 지연 없이 처음 성공한 응답을 그대로 반환 (실패 응답은 보관하지 않음)
+ *  - 같은 멱등키의 요청이 처리중이라면 409(ALREADY_PROCESSING_REQUEST) 응답 - 토스와 같이 처리중인 요청을 중복 처리하지 않음
+ *  - 보관한 응답은 최근 사용 순으로 idempotency-cache-size 까지만 유지 (LRU)
+ *
+ *  애플리케이션 서버와 같은 JVM에서 별도 포트로 실행되며, TossApiHelper의 toss.base-url을 이 서버로 지정하여 사용
+ *  인증 없이 결제를 승인하므로 외부에서 접근할 수 없도록 루프백 주소(localhost)에만 바인딩
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "toss.stub.enabled", havingValue = "true")
+@EnableConfigurationProperties(TossStubProperties.class)
+public class TossStubServer implements SmartLifecycle {
+    private static final Pattern CANCEL_PATH = Pattern.compile("^/v1/payments/([^/]+)/cancel$");
+    private static final Pattern ORDER_PATH = Pattern.compile("^/v1/payments/orders/([^/]+)$");
+
+    private final TossStubProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, String> responses; // 멱등키별 성공 응답
+    private final Map<String, String> approvedOrders; // 주문 ID별 승인 응답
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet(); // 처리중인 멱등키
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public TossStubServer(TossStubProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.responses = lru(properties.getIdempotencyCacheSize());
+        this.approvedOrders = lru(properties.getIdempotencyCacheSize());
+    }
+
+    // 최근 사용 순(accessOrder) 최대 크기 보관
+    private static Map<String, String> lru(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<String, String>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), properties.getPort()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        executor = Executors.newVirtualThreadPerTaskExecutor(); // 지연 응답 중에도 요청을 계속 받도록 요청마다 가상 스레드
+        server.setExecutor(executor);
+        server.createContext("/v1/payments", this::handle);
+        server.start();
+
+        log.info("토스 결제 대체 서버 시작. 주소: {}, 지연: {}ms(+{}ms), 실패율: {}, 시간 초과율: {}",
+                server.getAddress(), properties.getLatencyMs(), properties.getLatencyJitterMs(), properties.getErrorRate(), properties.getTimeoutRate());
+    }
+
+    @Override
+    public void stop() {
+        if (server == null) return;
+
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            Matcher orderPath = ORDER_PATH.matcher(path);
+            if ("GET".equalsIgnoreCase(exchange.getRequestMethod()) && orderPath.matches()) {
+                String approved = approvedOrders.get(orderPath.group(1));
+                if (approved != null) send(exchange, 200, approved);
+                else send(exchange, 404, error("NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다."));
+                return;
+            }
+
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                send(exchange, 405, error("METHOD_NOT_ALLOWED", "지원하지 않는 요청입니다."));
+                return;
+            }
+
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            Matcher cancelPath = CANCEL_PATH.matcher(path);
+            if (path.equals("/v1/payments/confirm")) {
+                respond(exchange, "confirm", () -> confirm(body));
+            } else if (cancelPath.matches()) {
+                respond(exchange, "cancel", () -> cancel(cancelPath.group(1), body));
+            } else {
+                send(exchange, 404, error("NOT_FOUND", "존재하지 않는 API 입니다."));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("토스 결제 대체 서버 요청 처리 실패. 사유: {}", e.getMessage());
+        }
+    }
+
+    // 멱등키 응답 확인 -> 처리중인 요청 확인 -> 시간 초과, 지연, 실패 순으로 적용 후 성공 응답 보관
+    private void respond(HttpExchange exchange, String api, ResponseBody success) throws IOException, InterruptedException {
+        String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+        String cacheKey = idempotencyKey == null ? null : api + ":" + idempotencyKey;
+        if (cacheKey == null) {
+            process(exchange, null, success);
+            return;
+        }
+
+        String cached = responses.get(cacheKey);
+        if (cached != null) {
+            send(exchange, 200, cached);
+            return;
+        }
+
+        if (!inFlight.add(cacheKey)) {
+            send(exchange, 409, error("ALREADY_PROCESSING_REQUEST", "이전 요청이 처리 중입니다."));
+            return;
+        }
+
+        try {
+            // 처리중 표시 직전에 완료된 요청의 응답
+            cached = responses.get(cacheKey);
+            if (cached != null) send(exchange, 200, cached);
+            else process(exchange, cacheKey, success);
+        } finally {
+            inFlight.remove(cacheKey);
+        }
+    }
+
+    private void process(HttpExchange exchange, String cacheKey, ResponseBody success) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < properties.getTimeoutRate()) {
+            Thread.sleep(properties.getTimeoutMs());
+            send(exchange, 504, error("FAILED_INTERNAL_SYSTEM_PROCESSING", "응답 시간이 초과되었습니다."));
+            return;
+        }
+
+        long jitter = properties.getLatencyJitterMs() > 0 ? random.nextLong(properties.getLatencyJitterMs() + 1) : 0;
+        Thread.sleep(properties.getLatencyMs() + jitter);
+
+        if (random.nextDouble() < properties.getErrorRate()) {
+            send(exchange, properties.getErrorStatus(), error(properties.getErrorCode(), "결제 대체 서버 실패 응답입니다."));
+            return;
+        }
+
+        String response = success.get();
+        if (cacheKey != null) responses.put(cacheKey, response);
+
+        send(exchange, 200, response);
+    }
+
+    private String confirm(JsonNode body) throws IOException {
+        ObjectNode result = objectMapper.createObjectNode();
+        String now = OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        result.put("paymentKey", body.path("paymentKey").asText());
+        result.put("orderId", body.path("orderId").asText());
+        result.put("status", "DONE");
+        result.put("method", "카드");
+        result.put("requestedAt", now);
+        result.put("approvedAt", now);
+        result.put("totalAmount", body.path("amount").asInt());
+        result.put("balanceAmount", body.path("amount").asInt());
+
+        String response = objectMapper.writeValueAsString(result);
+        approvedOrders.put(body.path("orderId").asText(), response);
+
+        return response;
+    }
+
+    private String cancel(String paymentKey, JsonNode body) throws IOException {
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("paymentKey", paymentKey);
+        result.put("status", "CANCELED");
+        result.putArray("cancels").addObject()
+                .put("cancelReason", body.path("cancelReason").asText())
+                .put("canceledAt", OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+
+        return objectMapper.writeValueAsString(result);
+    }
+
+    private String error(String code, String message) throws IOException {
+        return objectMapper.writeValueAsString(Map.of("code", code, "message", message));
+    }
+
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    @FunctionalInterface
+    private interface ResponseBody {
+        String get() throws IOException;
+    }
+}
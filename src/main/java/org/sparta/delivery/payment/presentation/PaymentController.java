@@ -44,6 +44,17 @@ public class PaymentController {
         throw new BadRequestException("[%s]%s".formatted(request.getCode(), request.getMessage()));
     }
 
+    @Operation(summary = "주문별 결제 조회", description = "주문 접수 후 등록된 결제 정보를 조회합니다. 결제창 요청과 승인 처리에 결제 ID를 사용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "결제 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "주문 또는 결제 정보를 찾을 수 없음 (결제 등록 전 포함)")
+    })
+    @GetMapping("/order/{orderId}")
+    public PaymentResponseDto getByOrder(@PathVariable UUID orderId) {
+
+        return PaymentResponseDto.from(paymentService.getByOrder(orderId));
+    }
+
     @Operation(summary = "결제 취소", description = "완료된 결제를 취소(환불) 처리합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "결제 취소 성공"),
@@ -0,0 +1,49 @@
+package org.sparta.delivery.payment.presentation;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import org.sparta.delivery.payment.domain.Payment;
+import org.sparta.delivery.payment.domain.PaymentStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@Schema(description = "결제 정보 응답")
+public class PaymentResponseDto {
+
+    @Schema(description = "결제 ID (결제 승인 요청의 orderId)")
+    private UUID paymentId;
+
+    @Schema(description = "주문 ID")
+    private UUID orderId;
+
+    @Schema(description = "결제 상품명")
+    private String orderName;
+
+    @Schema(description = "결제 금액")
+    private int amount;
+
+    @Schema(description = "결제 상태")
+    private PaymentStatus status;
+
+    @Schema(description = "결제 요청 일시")
+    private LocalDateTime requestedAt;
+
+    @Schema(description = "결제 승인 일시")
+    private LocalDateTime approvedAt;
+
+    public static PaymentResponseDto from(Payment payment) {
+        return PaymentResponseDto.builder()
+                .paymentId(payment.getId().getId())
+                .orderId(payment.getPaymentOrderInfo().getOrderId())
+                .orderName(payment.getPaymentOrderInfo().getOrderName())
+                .amount(payment.getPaymentOrderInfo().getAmount().getValue())
+                .status(payment.getStatus())
+                .requestedAt(payment.getRequestedAt())
+                .approvedAt(payment.getApprovedAt())
+                .build();
+    }
+}
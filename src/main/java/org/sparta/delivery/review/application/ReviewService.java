@@ -11,7 +11,6 @@ import org.sparta.delivery.review.domain.event.ReviewScoreChangedEvent;
 import org.sparta.delivery.review.domain.exception.ReviewNotFoundException;
 import org.sparta.delivery.review.domain.service.OrderInfoProvider;
 import org.sparta.delivery.review.domain.service.ReviewerCheck;
-import org.sparta.delivery.review.domain.service.StoreRatingCalculator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +23,6 @@ public class ReviewService {
     private final RoleCheck roleCheck;
     private final UserDetails userDetails;
     private final OrderInfoProvider orderInfoProvider;
-    private final StoreRatingCalculator calculator;
     private final ReviewRepository reviewRepository;
 
     // 리뷰 작성
@@ -45,7 +43,7 @@ public class ReviewService {
         reviewRepository.save(review);
 
         // 이벤트 발행
-        triggerEvent(review.getInfo().getStoreId());
+        Events.trigger(ReviewScoreChangedEvent.added(review.getInfo().getStoreId(), review.getId().getId(), review.getContent().getScore()));
 
         return review.getId().getId();
     }
@@ -54,10 +52,14 @@ public class ReviewService {
     @Transactional
     public void change(ReviewServiceDto.Change dto) {
         Review review = getReview(dto.getReviewId());
+        int oldScore = review.getContent().getScore();
         review.change(dto.getSubject(), dto.getContent(), dto.getScore(), reviewerCheck, roleCheck);
 
-        // 이벤트 발행
-        triggerEvent(review.getInfo().getStoreId());
+        // 이벤트 발행 - 평점이 변경된 경우만
+        int newScore = review.getContent().getScore();
+        if (oldScore != newScore) {
+            Events.trigger(ReviewScoreChangedEvent.changed(review.getInfo().getStoreId(), review.getId().getId(), oldScore, newScore));
+        }
     }
 
     // 리뷰 삭제
@@ -67,20 +69,11 @@ public class ReviewService {
         review.remove(reviewerCheck, roleCheck);
 
         // 이벤트 발행
-        triggerEvent(review.getInfo().getStoreId());
+        Events.trigger(ReviewScoreChangedEvent.removed(review.getInfo().getStoreId(), review.getId().getId(), review.getContent().getScore()));
     }
 
 
     private Review getReview(UUID reviewId) {
         return reviewRepository.findById(ReviewId.of(reviewId)).orElseThrow(ReviewNotFoundException::new);
     }
-
-    // 매장 리뷰 평균 평점 업데이트(이벤트 발행)
-    private void triggerEvent(UUID storeId) {
-        // 평점 평균 구하기전 리뷰 먼저 반영
-        reviewRepository.flush();
-
-
-        Events.trigger(new ReviewScoreChangedEvent(storeId, calculator.getAverageRating(storeId)));
-    }
 }
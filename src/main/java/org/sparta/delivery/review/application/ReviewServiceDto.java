@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.sparta.delivery.review.domain.Review;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.UUID;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -57,4 +58,20 @@ public class ReviewServiceDto {
                     .build();
         }
     }
+
+    @Getter
+    @Builder
+    public static class RatingHistogramDto {
+        private UUID storeId;
+        private long[] counts; // 점수별 리뷰수, 0번째 = 1점 ... 4번째 = 5점
+        private long total; // 전체 리뷰수
+
+        public static RatingHistogramDto of(UUID storeId, long[] counts) {
+            return RatingHistogramDto.builder()
+                    .storeId(storeId)
+                    .counts(counts)
+                    .total(Arrays.stream(counts).sum())
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,19 @@
+package org.sparta.delivery.review.application;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.review.domain.StoreRatingHistogramRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 평점 분포가 없는 기존 매장의 평점 분포 생성
+@Service
+@RequiredArgsConstructor
+public class StoreRatingHistogramBackfillService {
+    private final StoreRatingHistogramRepository histogramRepository;
+
+    // 최대 limit개 매장의 평점 분포 생성, 생성된 매장수 반환
+    @Transactional
+    public int backfill(int limit) {
+        return histogramRepository.backfill(limit);
+    }
+}
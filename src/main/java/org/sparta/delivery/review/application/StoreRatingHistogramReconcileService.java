@@ -0,0 +1,49 @@
+package org.sparta.delivery.review.application;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.review.domain.StoreRatingHistogram;
+import org.sparta.delivery.review.domain.StoreRatingHistogramRepository;
+import org.sparta.delivery.review.domain.query.ReviewQueryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 매장별 리뷰 평점 분포 보정
+ *  - 평점 분포는 변경분(ReviewScoreChangedEvent)으로 반영되므로 최초 생성과 동시에 처리된 변경분이 중복 반영되거나,
+ *    이벤트 처리 실패시 실제 리뷰 집계와 차이가 발생할 수 있음
+ *  - 매장별 점수별 리뷰수를 집계하여 차이가 있는 매장만 교정, 평점 분포가 없는 매장은 생성
+ *  - 변경분 반영(StoreRatingHistogramEventHandler)과 동시에 수정된 경우 낙관적 Lock으로 한쪽이 실패하고 다시 처리됨
+ */
+@Service
+@RequiredArgsConstructor
+public class StoreRatingHistogramReconcileService {
+    private final StoreRatingHistogramRepository histogramRepository;
+    private final ReviewQueryRepository reviewQueryRepository;
+
+    // 교정된 매장 수 반환
+    @Transactional
+    public int reconcile(List<UUID> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) return 0;
+
+        Map<UUID, StoreRatingHistogram> histograms = histogramRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(StoreRatingHistogram::getStoreId, Function.identity()));
+
+        int corrected = 0;
+        for (UUID storeId : storeIds) {
+            StoreRatingHistogram histogram = histograms.get(storeId);
+            if (histogram == null) {
+                corrected += histogramRepository.createFromReviews(storeId);
+            } else if (histogram.reconcile(reviewQueryRepository.countByScore(storeId))) {
+                corrected++;
+            }
+        }
+
+        return corrected;
+    }
+}
@@ -0,0 +1,68 @@
+package org.sparta.delivery.review.application.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.global.infrastructure.event.executor.EventExecutorConfig;
+import org.sparta.delivery.global.infrastructure.event.retry.DelayedRetry;
+import org.sparta.delivery.review.domain.StoreRatingHistogram;
+import org.sparta.delivery.review.domain.StoreRatingHistogramRepository;
+import org.sparta.delivery.review.domain.event.ReviewScoreChangedEvent;
+import org.springframework.retry.annotation.Recover;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+// 후기 작성, 수정, 삭제시 매장별 리뷰 평점 분포 업데이트 처리 이벤트 핸들러
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingHistogramEventHandler {
+    private final StoreRatingHistogramRepository histogramRepository;
+
+    /**
+     * 1. 평점 분포가 있는 경우 변경분만 반영
+     * 2. 평점 분포가 없는 경우(최초 리뷰, 보정 전 기존 매장) 리뷰 테이블 집계로 생성
+     *    - 리뷰 커밋 이후 실행되므로 집계에 현재 변경분이 이미 포함되어 있어, 이 핸들러가 생성한 경우 변경분은 반영하지 않음
+     *    - 동시에 다른 핸들러가 먼저 생성했다면 덮어쓰지 않고(ON CONFLICT DO NOTHING) 변경분만 반영
+     *    - 먼저 생성된 집계에 이미 포함된 변경분은 중복 반영될 수 있으며, 주기적인 보정(StoreRatingHistogramReconcileScheduler)으로 교정
+     * 3. 동시에 변경된 경우(낙관적 Lock) 재시도
+     */
+    @Async(EventExecutorConfig.REVIEW)
+    @DelayedRetry(
+            retryFor = { Exception.class },
+            maxAttempts = 5,
+            delay = 1000,
+            multiplier = 2.0
+    )
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ReviewScoreChangedEvent event) {
+        Optional<StoreRatingHistogram> histogram = histogramRepository.findById(event.storeId());
+        if (histogram.isEmpty()) {
+            if (histogramRepository.createFromReviews(event.storeId()) > 0) return; // 현재 변경분이 포함된 집계로 생성
+
+            histogram = histogramRepository.findById(event.storeId());
+        }
+
+        histogram.orElseThrow().apply(event.oldScore(), event.newScore());
+    }
+
+    /**
+     * 최종 실패시 변경분이 누락되므로 평점 분포를 리뷰 테이블 집계로 다시 생성하여 보정한다.
+     */
+    @Recover
+    public void completeFailure(Exception e, ReviewScoreChangedEvent event) {
+        log.error("매장별 리뷰 평점 분포 변경 최종 실패. 사유: {}. 매장ID: {}, 리뷰ID: {}, 평점: {} -> {}", e.getMessage(), event.storeId(), event.reviewId(), event.oldScore(), event.newScore(), e);
+
+        try {
+            histogramRepository.rebuild(event.storeId());
+        } catch (Exception ex) {
+            log.error("매장별 리뷰 평점 분포 보정 실패. 매장ID: {}", event.storeId(), ex);
+        }
+    }
+}
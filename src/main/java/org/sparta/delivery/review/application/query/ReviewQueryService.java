@@ -1,8 +1,11 @@
 package org.sparta.delivery.review.application.query;
 
 import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.review.application.ReviewServiceDto.RatingHistogramDto;
 import org.sparta.delivery.review.application.ReviewServiceDto.ReviewDto;
 import org.sparta.delivery.review.domain.ReviewId;
+import org.sparta.delivery.review.domain.StoreRatingHistogram;
+import org.sparta.delivery.review.domain.StoreRatingHistogramRepository;
 import org.sparta.delivery.review.domain.exception.ReviewNotFoundException;
 import org.sparta.delivery.review.domain.query.ReviewQueryDto;
 import org.sparta.delivery.review.domain.query.ReviewQueryRepository;
@@ -19,6 +22,7 @@ import java.util.UUID;
 public class ReviewQueryService {
 
     private final ReviewQueryRepository reviewQueryRepository;
+    private final StoreRatingHistogramRepository histogramRepository;
 
     // 리뷰 상세 조회
     public ReviewDto getReview(UUID reviewId) {
@@ -33,6 +37,18 @@ public class ReviewQueryService {
                 .map(ReviewDto::from);
     }
 
+    /**
+     * 매장별 리뷰 평점 분포 조회
+     *  - 평점 분포 조회 모델에서만 조회하며, 평점 분포가 없는 매장(리뷰 없음)은 모든 점수의 리뷰수가 0
+     */
+    public RatingHistogramDto getRatingHistogram(UUID storeId) {
+        long[] counts = histogramRepository.findById(storeId)
+                .map(StoreRatingHistogram::toArray)
+                .orElseGet(() -> new long[StoreRatingHistogram.MAX_SCORE]);
+
+        return RatingHistogramDto.of(storeId, counts);
+    }
+
     public Page<ReviewDto> getReviewsByUser(UUID userId, ReviewQueryDto.Search search, Pageable pageable) {
         return reviewQueryRepository.findAllByUser(userId, search, pageable)
                 .map(ReviewDto::from);
@@ -0,0 +1,48 @@
+package org.sparta.delivery.review.application.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.review.application.StoreRatingHistogramBackfillService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평점 분포가 없는 기존 매장 보정 (기동시 1회)
+ *  - 리뷰는 있으나 평점 분포가 없는 매장을 일정 단위(batch-size)로 리뷰 테이블 집계하여 생성, 조회시에는 집계하지 않음
+ *  - INSERT ... ON CONFLICT DO NOTHING 으로 생성하므로 리뷰 변경 이벤트로 먼저 생성된 평점 분포는 덮어쓰지 않음
+ *  - 평점 분포가 있는 매장은 조회되지 않으므로 매 기동시 실행해도 처리할 매장이 없으면 바로 종료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingHistogramBackfillScheduler {
+    private final StoreRatingHistogramBackfillService backfillService;
+
+    @Value("${review.rating-histogram.backfill-enabled:true}")
+    private boolean enabled;
+
+    @Value("${review.rating-histogram.backfill-batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) return;
+
+        int total = 0, created;
+        try {
+            do {
+                created = backfillService.backfill(batchSize);
+                total += created;
+            } while (created > 0);
+        } catch (Exception e) {
+            log.warn("매장별 리뷰 평점 분포 보정 실패, 다음 기동시 다시 보정. 사유: {}. 생성된 매장수: {}", e.getMessage(), total);
+            return;
+        }
+
+        if (total > 0) {
+            log.info("매장별 리뷰 평점 분포 보정 완료. 생성된 매장수: {}", total);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.sparta.delivery.review.application.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.review.application.StoreRatingHistogramReconcileService;
+import org.sparta.delivery.review.domain.StoreRatingHistogramRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 최근 리뷰가 변경된 매장의 평점 분포 주기적 보정
+ *  - 평점 분포 최초 생성과 동시에 처리된 변경분의 중복 반영, 최종 실패로 누락된 변경분을 보정 주기 안에 교정
+ *  - 조회 범위(reconcile-window-ms)를 보정 주기보다 길게 설정하여, 보정 중 반영된 변경분으로 다시 차이가 생긴 매장도 다음 주기에 교정
+ *  - 매장을 일정 단위(batch-size)로 나누어 보정하며, 단위별로 트랜잭션을 분리하여 실패한 단위만 다음 주기에 다시 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingHistogramReconcileScheduler {
+    private final StoreRatingHistogramRepository histogramRepository;
+    private final StoreRatingHistogramReconcileService reconcileService;
+
+    @Value("${review.rating-histogram.reconcile-enabled:true}")
+    private boolean enabled;
+
+    @Value("${review.rating-histogram.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Value("${review.rating-histogram.reconcile-window-ms:600000}")
+    private long windowMs;
+
+    @Scheduled(initialDelayString = "${review.rating-histogram.reconcile-interval-ms:300000}",
+            fixedDelayString = "${review.rating-histogram.reconcile-interval-ms:300000}")
+    public void reconcileRecent() {
+        if (!enabled) return;
+
+        List<UUID> storeIds;
+        try {
+            storeIds = histogramRepository.findChangedStoreIds(LocalDateTime.now().minus(Duration.ofMillis(windowMs)));
+        } catch (Exception e) {
+            log.warn("최근 변경 매장 조회 실패, 다음 주기에 다시 보정. 사유: {}", e.getMessage());
+            return;
+        }
+
+        int corrected = 0;
+        for (int i = 0; i < storeIds.size(); i += batchSize) {
+            List<UUID> batch = storeIds.subList(i, Math.min(i + batchSize, storeIds.size()));
+            try {
+                corrected += reconcileService.reconcile(batch);
+            } catch (Exception e) {
+                // 평점 변경 이벤트와 동시에 수정된 경우(낙관적 Lock) 등은 다음 주기에 보정
+                log.warn("최근 변경 매장 리뷰 평점 분포 보정 실패. 사유: {}. 매장수: {}", e.getMessage(), batch.size());
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("최근 변경 매장 리뷰 평점 분포 보정 완료. 매장수: {}, 교정된 매장수: {}", storeIds.size(), corrected);
+        }
+    }
+}
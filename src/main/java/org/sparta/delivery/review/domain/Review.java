@@ -34,7 +34,10 @@ import java.util.UUID;
 @SQLRestriction("deleted_at IS NULL")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name="P_REVIEW", indexes = {
-        @Index(name="idx_review_order_id", columnList = "order_id, deleted_at", unique = true)
+        @Index(name="idx_review_order_id", columnList = "order_id, deleted_at", unique = true),
+        @Index(name="idx_review_store_id", columnList = "store_id"), // 매장별 리뷰 평점 집계(보정)
+        @Index(name="idx_review_created_at", columnList = "created_at"), // 최근 리뷰가 변경된 매장 조회(보정)
+        @Index(name="idx_review_modified_at", columnList = "modified_at")
 })
 public class Review extends BaseUserEntity {
 
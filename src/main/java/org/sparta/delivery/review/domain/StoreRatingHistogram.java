@@ -0,0 +1,101 @@
+package org.sparta.delivery.review.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.sparta.delivery.global.domain.BaseEntity;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 매장별 리뷰 평점 분포(1 ~ 5점) - 조회 모델
+ *  - 리뷰 작성, 수정, 삭제시 평점 변경분(ReviewScoreChangedEvent)으로 해당 점수의 리뷰 수만 증감
+ *  - 기존 매장은 기동시 1회 리뷰 테이블 집계(GROUP BY)로 생성(StoreRatingHistogramBackfillScheduler), 조회시에는 집계하지 않음
+ *  - 변경분 반영시 평점 분포가 없다면 리뷰 테이블 집계로 생성(INSERT ... SELECT ... ON CONFLICT DO NOTHING), 생성한 경우 변경분은 집계에 포함되어 있으므로 반영하지 않음
+ *  - 최초 생성과 동시에 처리된 변경분이 중복 반영될 수 있으므로 최근 리뷰가 변경된 매장은 주기적으로 집계와 비교하여 보정(StoreRatingHistogramReconcileScheduler)
+ */
+@Entity
+@Getter
+@ToString
+@Access(AccessType.FIELD)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name="P_STORE_RATING_HISTOGRAM")
+public class StoreRatingHistogram extends BaseEntity {
+    public static final int MIN_SCORE = 1;
+    public static final int MAX_SCORE = 5;
+
+    @Id
+    private UUID storeId;
+
+    @Version
+    private int version; // 낙관적 Lock
+
+    @Column(name="score_1", nullable = false)
+    private long score1; // 1점 리뷰수
+
+    @Column(name="score_2", nullable = false)
+    private long score2; // 2점 리뷰수
+
+    @Column(name="score_3", nullable = false)
+    private long score3; // 3점 리뷰수
+
+    @Column(name="score_4", nullable = false)
+    private long score4; // 4점 리뷰수
+
+    @Column(name="score_5", nullable = false)
+    private long score5; // 5점 리뷰수
+
+    /**
+     * 집계된 점수별 리뷰수로 생성
+     * @param counts 0번째 = 1점 리뷰수 ... 4번째 = 5점 리뷰수
+     */
+    public StoreRatingHistogram(UUID storeId, long[] counts) {
+        this.storeId = storeId;
+        this.score1 = counts[0];
+        this.score2 = counts[1];
+        this.score3 = counts[2];
+        this.score4 = counts[3];
+        this.score5 = counts[4];
+    }
+
+    // 평점 변경분 반영 - 작성: oldScore = null, 삭제: newScore = null
+    public void apply(Integer oldScore, Integer newScore) {
+        if (oldScore != null) add(oldScore, -1);
+        if (newScore != null) add(newScore, 1);
+    }
+
+    /**
+     * 평점 분포 보정 - 리뷰 테이블 집계와 다른 경우에만 교정
+     * @param counts 0번째 = 1점 리뷰수 ... 4번째 = 5점 리뷰수
+     * @return 교정 여부
+     */
+    public boolean reconcile(long[] counts) {
+        if (Arrays.equals(toArray(), counts)) return false;
+
+        this.score1 = counts[0];
+        this.score2 = counts[1];
+        this.score3 = counts[2];
+        this.score4 = counts[3];
+        this.score5 = counts[4];
+        return true;
+    }
+
+    // 점수별 리뷰수, 0번째 = 1점 ... 4번째 = 5점
+    public long[] toArray() {
+        return new long[] { score1, score2, score3, score4, score5 };
+    }
+
+    private void add(int score, int delta) {
+        switch (score) {
+            case 1 -> score1 = Math.max(score1 + delta, 0);
+            case 2 -> score2 = Math.max(score2 + delta, 0);
+            case 3 -> score3 = Math.max(score3 + delta, 0);
+            case 4 -> score4 = Math.max(score4 + delta, 0);
+            case 5 -> score5 = Math.max(score5 + delta, 0);
+            default -> { } // 범위를 벗어난 평점은 리뷰 작성시 검증되므로 무시
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.sparta.delivery.review.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface StoreRatingHistogramRepository extends JpaRepository<StoreRatingHistogram, UUID> {
+
+    /**
+     * 평점 분포가 없는 경우에만 리뷰 테이블 집계로 생성 - 집계와 생성을 하나의 구문으로 처리
+     * 동시에 생성된 평점 분포가 있다면 덮어쓰지 않음
+     * @return 생성했다면 1, 이미 있다면 0
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_store_rating_histogram (store_id, version, score_1, score_2, score_3, score_4, score_5, created_at)
+            SELECT :storeId, 0,
+                   COUNT(*) FILTER (WHERE r.score = 1), COUNT(*) FILTER (WHERE r.score = 2), COUNT(*) FILTER (WHERE r.score = 3),
+                   COUNT(*) FILTER (WHERE r.score = 4), COUNT(*) FILTER (WHERE r.score = 5), now()
+            FROM p_review r
+            WHERE r.store_id = :storeId AND r.deleted_at IS NULL
+            ON CONFLICT (store_id) DO NOTHING
+            """, nativeQuery = true)
+    int createFromReviews(@Param("storeId") UUID storeId);
+
+    // 평점 분포를 리뷰 테이블 집계로 다시 생성 - 변경분 반영이 최종 실패한 경우 보정
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_store_rating_histogram (store_id, version, score_1, score_2, score_3, score_4, score_5, created_at)
+            SELECT :storeId, 0,
+                   COUNT(*) FILTER (WHERE r.score = 1), COUNT(*) FILTER (WHERE r.score = 2), COUNT(*) FILTER (WHERE r.score = 3),
+                   COUNT(*) FILTER (WHERE r.score = 4), COUNT(*) FILTER (WHERE r.score = 5), now()
+            FROM p_review r
+            WHERE r.store_id = :storeId AND r.deleted_at IS NULL
+            ON CONFLICT (store_id) DO UPDATE
+            SET score_1 = EXCLUDED.score_1, score_2 = EXCLUDED.score_2, score_3 = EXCLUDED.score_3,
+                score_4 = EXCLUDED.score_4, score_5 = EXCLUDED.score_5,
+                version = p_store_rating_histogram.version + 1, modified_at = now()
+            """, nativeQuery = true)
+    int rebuild(@Param("storeId") UUID storeId);
+
+    // 리뷰는 있으나 평점 분포가 없는 매장을 최대 limit개 리뷰 테이블 집계로 생성, 이미 생성된 평점 분포는 덮어쓰지 않음
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_store_rating_histogram (store_id, version, score_1, score_2, score_3, score_4, score_5, created_at)
+            SELECT r.store_id, 0,
+                   COUNT(*) FILTER (WHERE r.score = 1), COUNT(*) FILTER (WHERE r.score = 2), COUNT(*) FILTER (WHERE r.score = 3),
+                   COUNT(*) FILTER (WHERE r.score = 4), COUNT(*) FILTER (WHERE r.score = 5), now()
+            FROM p_review r
+            WHERE r.deleted_at IS NULL
+              AND r.store_id IN (
+                  SELECT DISTINCT t.store_id FROM p_review t
+                  WHERE t.deleted_at IS NULL
+                    AND NOT EXISTS (SELECT 1 FROM p_store_rating_histogram h WHERE h.store_id = t.store_id)
+                  LIMIT :limit)
+            GROUP BY r.store_id
+            ON CONFLICT (store_id) DO NOTHING
+            """, nativeQuery = true)
+    int backfill(@Param("limit") int limit);
+
+    // since 이후 리뷰가 작성, 수정, 삭제(Soft Delete)된 매장 ID - 평점 분포 보정 대상
+    @Query(value = """
+            SELECT DISTINCT store_id FROM p_review
+            WHERE created_at >= :since OR modified_at >= :since
+            """, nativeQuery = true)
+    List<UUID> findChangedStoreIds(@Param("since") LocalDateTime since);
+}
@@ -2,7 +2,37 @@ package org.sparta.delivery.review.domain.event;
 
 import java.util.UUID;
 
+/**
+ * 리뷰 평점 변경분(delta) 이벤트
+ *  - 작성: oldScore = null, newScore = 평점
+ *  - 수정: oldScore = 변경전 평점, newScore = 변경후 평점
+ *  - 삭제: oldScore = 평점, newScore = null
+ */
 public record ReviewScoreChangedEvent(
         UUID storeId,
-        double averageScore
-) {}
+        UUID reviewId,
+        Integer oldScore,
+        Integer newScore
+) {
+    public static ReviewScoreChangedEvent added(UUID storeId, UUID reviewId, int score) {
+        return new ReviewScoreChangedEvent(storeId, reviewId, null, score);
+    }
+
+    public static ReviewScoreChangedEvent changed(UUID storeId, UUID reviewId, int oldScore, int newScore) {
+        return new ReviewScoreChangedEvent(storeId, reviewId, oldScore, newScore);
+    }
+
+    public static ReviewScoreChangedEvent removed(UUID storeId, UUID reviewId, int score) {
+        return new ReviewScoreChangedEvent(storeId, reviewId, score, null);
+    }
+
+    // 리뷰 수 변경분 (작성: +1, 삭제: -1, 수정: 0)
+    public int countDelta() {
+        return (newScore == null ? 0 : 1) - (oldScore == null ? 0 : 1);
+    }
+
+    // 평점 합계 변경분
+    public long scoreDelta() {
+        return (newScore == null ? 0L : newScore) - (oldScore == null ? 0L : oldScore);
+    }
+}
@@ -21,4 +21,7 @@ public interface ReviewQueryRepository {
 
     // 리뷰 목록 조회
     Page<Review> findAll(ReviewQueryDto.Search search, Pageable pageable);
+
+    // 매장별 점수별 리뷰수 집계(GROUP BY) - 0번째 = 1점 ... 4번째 = 5점, 평점 분포 생성용
+    long[] countByScore(UUID storeId);
 }
@@ -1,12 +1,15 @@
 package org.sparta.delivery.review.infrastructure.query;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.sparta.delivery.review.domain.Review;
 import org.sparta.delivery.review.domain.ReviewId;
+import org.sparta.delivery.review.domain.StoreRatingHistogram;
 import org.sparta.delivery.review.domain.query.ReviewQueryDto;
 import org.sparta.delivery.review.domain.query.ReviewQueryRepository;
 import org.springframework.data.domain.Page;
@@ -57,6 +60,28 @@ public class ReviewQueryRepositoryImpl implements ReviewQueryRepository {
         return getPage(createBuilder(search), pageable);
     }
 
+    @Override
+    public long[] countByScore(UUID storeId) {
+        NumberExpression<Long> count = review.count();
+
+        List<Tuple> rows = queryFactory
+                .select(review.content.score, count)
+                .from(review)
+                .where(review.info.storeId.eq(storeId), isNotDeleted())
+                .groupBy(review.content.score)
+                .fetch();
+
+        long[] counts = new long[StoreRatingHistogram.MAX_SCORE];
+        for (Tuple row : rows) {
+            Integer score = row.get(review.content.score);
+            if (score == null || score < StoreRatingHistogram.MIN_SCORE || score > StoreRatingHistogram.MAX_SCORE) continue;
+
+            counts[score - 1] = Objects.requireNonNullElse(row.get(count), 0L);
+        }
+
+        return counts;
+    }
+
     private Page<Review> getPage(BooleanBuilder builder, Pageable pageable) {
         builder.and(isNotDeleted());
 
@@ -0,0 +1,49 @@
+package org.sparta.delivery.review.presentation;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import org.sparta.delivery.review.application.ReviewServiceDto.RatingHistogramDto;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@Schema(description = "매장 리뷰 평점 분포 응답")
+public class RatingHistogramResponseDto {
+
+    @Schema(description = "상점 ID")
+    private UUID storeId;
+
+    @Schema(description = "1점 리뷰수")
+    private long score1;
+
+    @Schema(description = "2점 리뷰수")
+    private long score2;
+
+    @Schema(description = "3점 리뷰수")
+    private long score3;
+
+    @Schema(description = "4점 리뷰수")
+    private long score4;
+
+    @Schema(description = "5점 리뷰수")
+    private long score5;
+
+    @Schema(description = "전체 리뷰수")
+    private long total;
+
+    public static RatingHistogramResponseDto from(RatingHistogramDto dto) {
+        long[] counts = dto.getCounts();
+
+        return RatingHistogramResponseDto.builder()
+                .storeId(dto.getStoreId())
+                .score1(counts[0])
+                .score2(counts[1])
+                .score3(counts[2])
+                .score4(counts[3])
+                .score5(counts[4])
+                .total(dto.getTotal())
+                .build();
+    }
+}
@@ -70,6 +70,14 @@ public class ReviewController {
                 .map(ReviewResponseDto::from);
     }
 
+    @Operation(summary = "상점별 리뷰 평점 분포 조회", description = "특정 상점의 1 ~ 5점 평점별 리뷰수를 조회합니다.")
+    @GetMapping("/store/{storeId}/histogram")
+    public RatingHistogramResponseDto getRatingHistogram(
+            @Parameter(description = "상점 UUID") @PathVariable UUID storeId) {
+
+        return RatingHistogramResponseDto.from(reviewQueryService.getRatingHistogram(storeId));
+    }
+
     @Operation(summary = "사용자별 리뷰 목록 조회", description = "내가 작성한 리뷰 목록을 검색 조건에 따라 조회합니다.")
     @GetMapping("/user/{userId}")
     public Page<ReviewResponseDto> findAllByUser(
@@ -0,0 +1,32 @@
+package org.sparta.delivery.store.application;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.store.domain.Store;
+import org.sparta.delivery.store.domain.StoreId;
+import org.sparta.delivery.store.domain.StoreRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 매장 운영 구간 재생성
+ *  - 운영 구간(P_STORE_OPEN_INTERVAL)은 운영 시간 변경시에만 저장되므로, 도입 이전에 등록된 매장은 운영 시간 목록으로 다시 컴파일
+ *  - 매장 변경 이벤트(StoreChangedEvent)가 발생하므로 커밋 후 매장 위치 인덱스도 갱신됨
+ */
+@Service
+@RequiredArgsConstructor
+public class RebuildStoreScheduleService {
+    private final StoreRepository storeRepository;
+
+    // 재생성된 매장 수 반환
+    @Transactional
+    public int rebuild(List<StoreId> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) return 0;
+
+        List<Store> stores = storeRepository.findAllById(storeIds);
+        stores.forEach(Store::systemRebuildSchedule);
+
+        return stores.size();
+    }
+}
@@ -0,0 +1,50 @@
+package org.sparta.delivery.store.application;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.store.domain.Store;
+import org.sparta.delivery.store.domain.StoreId;
+import org.sparta.delivery.store.domain.StoreRepository;
+import org.sparta.delivery.store.domain.service.ReviewRatingProvider;
+import org.sparta.delivery.store.domain.service.ReviewRatingProvider.ReviewRating;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 매장 리뷰 평점 보정
+ *  - 리뷰 평점은 이벤트 변경분(ReviewScoreChangedEvent)으로 반영되므로 이벤트 처리 실패시 실제 리뷰 집계와 차이가 발생할 수 있음
+ *  - 매장 목록 단위로 실제 리뷰 수, 평점 합계를 집계하여 차이가 있는 매장만 교정
+ *  - 교정한 매장은 집계 시작 일시를 보정 기준 일시로 기록 - 아직 반영되지 않은 변경분(ReviewScoreCoalescer) 중
+ *    이 일시 이전에 기록된 변경분은 집계에 이미 포함되어 있으므로 이후 반영시 제외되어 중복 반영되지 않음
+ *  - 변경분 반영(UpdateReviewScoreService)과 동시에 수정된 경우 낙관적 Lock으로 한쪽이 실패하고 다시 처리됨
+ */
+@Service
+@RequiredArgsConstructor
+public class ReconcileReviewScoreService {
+    private final StoreRepository storeRepository;
+    private final ReviewRatingProvider reviewRatingProvider;
+
+    // 교정된 매장 수 반환
+    @Transactional
+    public int reconcile(List<StoreId> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) return 0;
+
+        LocalDateTime reconciledAt = LocalDateTime.now(); // 집계 조회 이전 일시, 이후 커밋된 리뷰는 집계에 포함되지 않을 수 있음
+        Map<UUID, ReviewRating> ratings = reviewRatingProvider.getRatings(storeIds.stream().map(StoreId::getId).toList());
+        ReviewRating empty = new ReviewRating(0L, 0L);
+
+        int corrected = 0;
+        for (Store store : storeRepository.findAllById(storeIds)) {
+            ReviewRating rating = ratings.getOrDefault(store.getId().getId(), empty);
+            if (store.systemReconcileReviewScore(rating.count(), rating.scoreSum(), reconciledAt)) {
+                corrected++;
+            }
+        }
+
+        return corrected;
+    }
+}
@@ -0,0 +1,73 @@
+package org.sparta.delivery.store.application;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.store.domain.exception.StoreNotFoundException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장별 리뷰 평점 변경분 병합
+ *  1. 리뷰 평점 변경 이벤트의 변경분(리뷰 수, 평점 합계)을 기록 일시와 함께 매장별로 모음
+ *  2. 일정 주기(coalesce-window-ms)마다 매장별로 모인 변경분을 한번에 반영 - 매장 조회, 수정(@Version 증가)이 매장당 주기별 1회로 줄어듦
+ *  3. 반영에 실패하면 변경분을 다시 모아 다음 주기에 반영, 매장이 없다면 폐기
+ *  4. 기록 일시가 매장의 보정 기준 일시(Store.reviewReconciledAt) 이전인 변경분은 보정 집계에 이미 포함되어 있으므로 매장에서 제외
+ *  5. 변경분은 메모리에만 있으므로 반영 전 서버가 중단되면 유실됨 - 유실 범위는 중단 직전 병합 주기(coalesce-window-ms)와 반영 실패로 재시도 대기중인 변경분
+ *     유실된 변경분은 최근 리뷰가 변경된 매장 보정(ReviewScoreReconcileScheduler.reconcileRecent)에서 recent-reconcile-interval-ms 이내에 교정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewScoreCoalescer {
+    private final UpdateReviewScoreService updateReviewScoreService;
+
+    private final Map<UUID, List<UpdateReviewScoreService.Change>> pending = new ConcurrentHashMap<>();
+
+    // 리뷰 변경 커밋 이후 호출 - 기록 일시는 커밋 이후 시점
+    public void add(UUID storeId, long countDelta, long scoreDelta) {
+        if (countDelta == 0 && scoreDelta == 0) return;
+
+        append(storeId, List.of(new UpdateReviewScoreService.Change(countDelta, scoreDelta, LocalDateTime.now())));
+    }
+
+    @Scheduled(fixedDelayString = "${store.review-score.coalesce-window-ms:1000}")
+    public void flush() {
+        for (UUID storeId : pending.keySet()) {
+            List<UpdateReviewScoreService.Change> changes = pending.remove(storeId);
+            if (changes == null || changes.isEmpty()) continue;
+
+            try {
+                updateReviewScoreService.update(storeId, changes);
+            } catch (StoreNotFoundException e) {
+                log.warn("리뷰 평점 변경분 폐기 - 존재하지 않는 매장. 매장ID: {}", storeId);
+            } catch (Exception e) {
+                log.warn("리뷰 평점 변경분 반영 실패, 다음 주기에 재시도. 사유: {}. 매장ID: {}", e.getMessage(), storeId);
+                append(storeId, changes);
+            }
+        }
+    }
+
+    // 변경분 추가 - 반영에 실패한 변경분은 기록 일시를 유지한 채 다시 추가
+    private void append(UUID storeId, List<UpdateReviewScoreService.Change> changes) {
+        pending.merge(storeId, changes, (a, b) -> {
+            List<UpdateReviewScoreService.Change> merged = new ArrayList<>(a.size() + b.size());
+            merged.addAll(a);
+            merged.addAll(b);
+            return merged;
+        });
+    }
+
+    // 종료 전 남은 변경분 반영
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+}
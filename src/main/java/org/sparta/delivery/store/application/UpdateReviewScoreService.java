@@ -0,0 +1,31 @@
+package org.sparta.delivery.store.application;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.store.domain.Store;
+import org.sparta.delivery.store.domain.StoreId;
+import org.sparta.delivery.store.domain.StoreRepository;
+import org.sparta.delivery.store.domain.exception.StoreNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 매장 리뷰 평점 변경분 반영
+@Service
+@RequiredArgsConstructor
+public class UpdateReviewScoreService {
+    private final StoreRepository storeRepository;
+
+    // 변경분을 기록된 순서대로 반영 - 보정 기준 일시 이전의 변경분은 매장에서 제외 (Store.systemUpdateReviewScore)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void update(UUID storeId, List<Change> changes) {
+        Store store = storeRepository.findById(StoreId.of(storeId)).orElseThrow(StoreNotFoundException::new);
+        changes.forEach(c -> store.systemUpdateReviewScore(c.countDelta(), c.scoreDelta(), c.changedAt()));
+    }
+
+    // 리뷰 평점 변경분, changedAt: 리뷰 변경 커밋 이후 기록된 일시
+    public record Change(long countDelta, long scoreDelta, LocalDateTime changedAt) {}
+}
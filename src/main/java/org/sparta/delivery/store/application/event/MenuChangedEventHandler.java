@@ -0,0 +1,26 @@
+package org.sparta.delivery.store.application.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.store.domain.event.MenuChangedEvent;
+import org.sparta.delivery.store.domain.query.MenuSnapshotProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 상품, 옵션 변경 커밋 후 매장 메뉴 스냅샷 무효화 처리 이벤트 핸들러
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuChangedEventHandler {
+    private final MenuSnapshotProvider menuSnapshotProvider;
+
+    /**
+     * 변경된 가격으로 바로 주문이 가능해야 하므로 비동기로 처리하지 않고 커밋 직후 무효화 한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(MenuChangedEvent event) {
+        menuSnapshotProvider.invalidate(event.storeId());
+        log.debug("매장 메뉴 스냅샷 무효화. 매장ID: {}", event.storeId());
+    }
+}
@@ -0,0 +1,32 @@
+package org.sparta.delivery.store.application.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.global.infrastructure.event.executor.EventExecutorConfig;
+import org.sparta.delivery.store.domain.event.StoreChangedEvent;
+import org.sparta.delivery.store.domain.query.StoreSpatialIndex;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 매장 등록, 변경, 삭제시 매장 위치 인덱스 갱신 처리 이벤트 핸들러
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreChangedEventHandler {
+    private final StoreSpatialIndex storeSpatialIndex;
+
+    /**
+     * 갱신에 실패하더라도 주기적인 전체 재생성시 반영되므로 재시도 하지 않고 로그만 기록한다.
+     */
+    @Async(EventExecutorConfig.STORE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(StoreChangedEvent event) {
+        try {
+            storeSpatialIndex.refresh(event.storeId());
+        } catch (Exception e) {
+            log.error("매장 위치 인덱스 갱신 실패. 사유: {}. 매장ID: {}", e.getMessage(), event.storeId(), e);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package org.sparta.delivery.store.application.product;
 import lombok.RequiredArgsConstructor;
 import org.sparta.delivery.global.domain.service.RoleCheck;
 import org.sparta.delivery.store.application.dto.StoreServiceDto;
-import org.sparta.delivery.store.domain.Product;
 import org.sparta.delivery.store.domain.ProductStatus;
 import org.sparta.delivery.store.domain.Store;
 import org.sparta.delivery.store.domain.StoreRepository;
@@ -38,8 +37,7 @@ public class ChangeProductService {
     public void createProductOption(UUID storeId, String productCode, List<StoreServiceDto.ProductOption> options) {
         Store store = ProductServiceHelper.getStore(storeId, repository, roleCheck, ownerCheck);
 
-        Product product = ProductServiceHelper.getProduct(store, productCode);
-        product.createOptions(ProductServiceHelper.toProductOptionEntities(options));
+        store.changeProduct(productCode, product -> product.createOptions(ProductServiceHelper.toProductOptionEntities(options)));
     }
 
     // 옵션 삭제
@@ -47,8 +45,7 @@ public class ChangeProductService {
     public void removeProductOption(UUID storeId, String productCode, List<Integer> optionsIdx) {
         Store store = ProductServiceHelper.getStore(storeId, repository, roleCheck, ownerCheck);
 
-        Product product = ProductServiceHelper.getProduct(store, productCode);
-        product.removeOptions(optionsIdx);
+        store.changeProduct(productCode, product -> product.removeOptions(optionsIdx));
     }
 
     // 옵션 비우기
@@ -56,8 +53,7 @@ public class ChangeProductService {
     public void truncateProductOption(UUID storeId, String productCode) {
         Store store = ProductServiceHelper.getStore(storeId, repository, roleCheck, ownerCheck);
 
-        Product product = ProductServiceHelper.getProduct(store, productCode);
-        product.truncateOption();
+        store.changeProduct(productCode, product -> product.truncateOption());
     }
 
     // 옵션 교체하기
@@ -65,18 +61,15 @@ public class ChangeProductService {
     public void replaceProductOption(UUID storeId, String productCode, List<StoreServiceDto.ProductOption> options) {
         Store store = ProductServiceHelper.getStore(storeId, repository, roleCheck, ownerCheck);
 
-        Product product = ProductServiceHelper.getProduct(store, productCode);
-        product.replaceOptions(ProductServiceHelper.toProductOptionEntities(options));
+        store.changeProduct(productCode, product -> product.replaceOptions(ProductServiceHelper.toProductOptionEntities(options)));
     }
 
     // 상품 상태
     @Transactional
     public void changeProductStatus(UUID storeId, String productCode, String status) {
         Store store = ProductServiceHelper.getStore(storeId, repository, roleCheck, ownerCheck);
-        Product product = ProductServiceHelper.getProduct(store, productCode);
-
         ProductStatus targetStatus = ProductStatus.valueOf(status.toUpperCase());
 
-        product.changeStatus(targetStatus);
+        store.changeProduct(productCode, product -> product.changeStatus(targetStatus));
     }
 }
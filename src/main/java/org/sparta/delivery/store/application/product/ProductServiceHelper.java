@@ -93,9 +93,9 @@ public class ProductServiceHelper {
                 .toList();
     }
 
-    // 상점 정보 조회
+    // 상점 정보 조회 - 상품 변경은 메뉴 변경이므로 커밋시 Store.version 증가
     public static Store getStore(UUID storeId, StoreRepository repository, RoleCheck roleCheck, OwnerCheck ownerCheck) {
-        Store store = repository.findById(StoreId.of(storeId)).orElseThrow(StoreNotFoundException::new);
+        Store store = repository.findByIdForMenuChange(StoreId.of(storeId)).orElseThrow(StoreNotFoundException::new);
 
         return store;
     }
@@ -25,8 +25,7 @@ public class RemoveProductService {
     @Transactional
     public void remove(UUID storeId, String productCode) {
         Store store = ProductServiceHelper.getStore(storeId, repository, roleCheck, ownerCheck);
-        Product product = ProductServiceHelper.getProduct(store, productCode);
-        product.remove();
+        store.changeProduct(productCode, Product::remove);
 
         log.info("Product removed from store {}: {}", storeId, productCode);
     }
@@ -36,10 +35,7 @@ public class RemoveProductService {
     public void remove(UUID storeId, List<String> productCodes) {
         Store store = ProductServiceHelper.getStore(storeId, repository, roleCheck, ownerCheck);
 
-        productCodes.forEach(code -> {
-            Product product = ProductServiceHelper.getProduct(store, code);
-            product.remove();
-        });
+        productCodes.forEach(code -> store.changeProduct(code, Product::remove));
 
         log.info("Products removed from store {}: {}", storeId, productCodes);
     }
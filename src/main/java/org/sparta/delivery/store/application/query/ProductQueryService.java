@@ -26,7 +26,7 @@ public class ProductQueryService {
     }
 
     public List<ProductResponseDto> getProducts(UUID storeId, ProductQueryDto.Search search) {
-        return productQueryRepository.findAll(StoreId.of(storeId), search)
+        return productQueryRepository.findAllSummary(StoreId.of(storeId), search)
                 .stream()
                 .map(ProductResponseDto::from)
                 .toList();
@@ -3,20 +3,28 @@ package org.sparta.delivery.store.application.query;
 import lombok.RequiredArgsConstructor;
 import org.sparta.delivery.store.domain.StoreId;
 import org.sparta.delivery.store.domain.query.StoreQueryRepository;
+import org.sparta.delivery.store.domain.query.StoreSpatialIndex;
 import org.sparta.delivery.store.domain.query.dto.StoreQueryDto;
 import org.sparta.delivery.store.presentation.dto.StoreResponseDto;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StoreQueryService {
     private final StoreQueryRepository storeQueryRepository;
+    private final StoreSpatialIndex storeSpatialIndex;
 
     // 단일 조회
     public StoreResponseDto getStore(UUID storeId) {
@@ -31,9 +39,39 @@ public class StoreQueryService {
                 .map(StoreResponseDto::from);
     }
 
-    // 근처 매장 조회
-    public Page<StoreResponseDto> getNearestStores(double lat, double lon, double radius, Pageable pageable) {
-        return storeQueryRepository.findAllNearest(lat, lon, radius, pageable)
+    // 근처 매장 조회 - 매장 위치 인덱스가 준비된 경우 인덱스에서 매장 ID를 조회, 아니라면 DB 공간 쿼리로 조회
+    public Page<StoreResponseDto> getNearestStores(double lat, double lon, double radius, boolean openNow, Pageable pageable) {
+        if (storeSpatialIndex.isReady()) {
+            return getNearestStoresFromIndex(lat, lon, radius, openNow, pageable);
+        }
+
+        return storeQueryRepository.findAllNearest(lat, lon, radius, openNow, pageable)
                 .map(StoreResponseDto::from);
     }
+
+    private Page<StoreResponseDto> getNearestStoresFromIndex(double lat, double lon, double radius, boolean openNow, Pageable pageable) {
+        List<UUID> storeIds = storeSpatialIndex.findNearest(lat, lon, radius, openNow);
+
+        List<UUID> pageIds = storeIds.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+
+        // 현재 페이지의 매장만 ID로 조회 후 가까운 순서 유지
+        Map<UUID, StoreQueryDto.StoreSummary> stores = storeQueryRepository.findAllById(pageIds.stream().map(StoreId::of).toList())
+                .stream()
+                .collect(Collectors.toMap(StoreQueryDto.StoreSummary::id, Function.identity()));
+
+        List<StoreResponseDto> items = pageIds.stream()
+                .map(stores::get)
+                .filter(Objects::nonNull)
+                .map(StoreResponseDto::from)
+                .toList();
+
+        // 다른 서버에서 삭제, 노출 불가로 변경되어 조회되지 않은 매장은 인덱스에서 제거하고 전체 건수에서도 제외
+        List<UUID> missing = pageIds.stream().filter(id -> !stores.containsKey(id)).toList();
+        storeSpatialIndex.evict(missing);
+
+        return new PageImpl<>(items, pageable, storeIds.size() - missing.size());
+    }
 }
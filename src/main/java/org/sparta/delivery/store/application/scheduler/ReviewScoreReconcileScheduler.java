@@ -0,0 +1,91 @@
+package org.sparta.delivery.store.application.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.store.application.ReconcileReviewScoreService;
+import org.sparta.delivery.store.domain.StoreId;
+import org.sparta.delivery.store.domain.StoreRepository;
+import org.sparta.delivery.store.domain.service.ReviewRatingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매장 리뷰 평점 주기적 보정
+ *  - 매장을 일정 단위(batch-size)로 나누어 보정하며, 단위별로 트랜잭션을 분리하여 실패한 단위만 다음 주기에 다시 보정
+ *  - 기동 직후에도 1회 실행하여 리뷰 수, 평점 합계가 없는 기존 매장의 집계값을 채움
+ *  - 최근 리뷰가 변경된 매장은 짧은 주기(recent-reconcile-interval-ms)로 보정하여
+ *    서버 중단으로 유실된 병합 변경분(ReviewScoreCoalescer)을 해당 주기 안에 교정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewScoreReconcileScheduler {
+    private final StoreRepository storeRepository;
+    private final ReconcileReviewScoreService reconcileReviewScoreService;
+    private final ReviewRatingProvider reviewRatingProvider;
+
+    @Value("${store.review-score.reconcile-enabled:true}")
+    private boolean enabled;
+
+    @Value("${store.review-score.reconcile-batch-size:500}")
+    private int batchSize;
+
+    // 최근 변경 매장 조회 범위 - 보정 주기보다 길게 설정하여 주기 사이의 변경이 누락되지 않도록 함
+    @Value("${store.review-score.recent-reconcile-window-ms:600000}")
+    private long recentWindowMs;
+
+    @Scheduled(initialDelayString = "${store.review-score.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${store.review-score.reconcile-interval-ms:21600000}")
+    public void reconcileAll() {
+        if (!enabled) return;
+
+        int total = 0, corrected = 0;
+        Pageable pageable = PageRequest.of(0, batchSize);
+        Slice<StoreId> slice;
+        do {
+            slice = storeRepository.findAllIds(pageable);
+            total += slice.getNumberOfElements();
+            try {
+                corrected += reconcileReviewScoreService.reconcile(slice.getContent());
+            } catch (Exception e) {
+                // 리뷰 평점 변경 이벤트와 동시에 수정된 경우(낙관적 Lock) 등은 다음 주기에 보정
+                log.warn("매장 리뷰 평점 보정 실패. 사유: {}. 페이지: {}", e.getMessage(), pageable.getPageNumber());
+            }
+
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+
+        log.info("매장 리뷰 평점 보정 완료. 매장수: {}, 교정된 매장수: {}", total, corrected);
+    }
+
+    @Scheduled(initialDelayString = "${store.review-score.recent-reconcile-interval-ms:300000}",
+            fixedDelayString = "${store.review-score.recent-reconcile-interval-ms:300000}")
+    public void reconcileRecent() {
+        if (!enabled) return;
+
+        List<StoreId> storeIds = reviewRatingProvider.getChangedStoreIds(LocalDateTime.now().minus(Duration.ofMillis(recentWindowMs)))
+                .stream().map(StoreId::of).toList();
+
+        int corrected = 0;
+        for (int i = 0; i < storeIds.size(); i += batchSize) {
+            List<StoreId> batch = storeIds.subList(i, Math.min(i + batchSize, storeIds.size()));
+            try {
+                corrected += reconcileReviewScoreService.reconcile(batch);
+            } catch (Exception e) {
+                log.warn("최근 변경 매장 리뷰 평점 보정 실패. 사유: {}. 매장수: {}", e.getMessage(), batch.size());
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("최근 변경 매장 리뷰 평점 보정 완료. 매장수: {}, 교정된 매장수: {}", storeIds.size(), corrected);
+        }
+    }
+}
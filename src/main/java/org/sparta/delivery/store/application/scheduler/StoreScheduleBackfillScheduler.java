@@ -0,0 +1,53 @@
+package org.sparta.delivery.store.application.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.store.application.RebuildStoreScheduleService;
+import org.sparta.delivery.store.domain.StoreId;
+import org.sparta.delivery.store.domain.StoreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 운영 구간이 없는 기존 매장 보정 (기동시 1회)
+ *  - 운영 구간이 없으면 현재 영업중(openNow) 검색에서 제외되므로, 운영 시간 목록으로 운영 구간을 생성
+ *  - 운영 구간이 있는 매장은 조회되지 않으므로 매 기동시 실행해도 처리할 매장이 없으면 바로 종료
+ *  - 여러 서버가 동시에 기동하여 같은 매장을 보정하는 경우(낙관적 Lock) 실패한 단위는 다음 기동시 다시 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreScheduleBackfillScheduler {
+    private final StoreRepository storeRepository;
+    private final RebuildStoreScheduleService rebuildStoreScheduleService;
+
+    @Value("${store.schedule-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${store.schedule-backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) return;
+
+        List<StoreId> storeIds = storeRepository.findAllIdsWithoutSchedule();
+        if (storeIds.isEmpty()) return;
+
+        int rebuilt = 0;
+        for (int from = 0; from < storeIds.size(); from += batchSize) {
+            List<StoreId> batch = storeIds.subList(from, Math.min(from + batchSize, storeIds.size()));
+            try {
+                rebuilt += rebuildStoreScheduleService.rebuild(batch);
+            } catch (Exception e) {
+                log.warn("매장 운영 구간 보정 실패. 사유: {}. 매장수: {}", e.getMessage(), batch.size());
+            }
+        }
+
+        log.info("매장 운영 구간 보정 완료. 대상 매장수: {}, 보정된 매장수: {}", storeIds.size(), rebuilt);
+    }
+}
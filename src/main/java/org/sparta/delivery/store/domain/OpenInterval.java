@@ -0,0 +1,24 @@
+package org.sparta.delivery.store.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * 주 단위 분(minute-of-week) 운영 구간 [openMinute, closeMinute)
+ *  - 월요일 00:00 = 0, OperationSchedule에서 컴파일된 값으로 DB에서 현재 영업중인 매장 검색시 사용
+ */
+@Getter
+@ToString
+@Embeddable
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class OpenInterval {
+
+    @Column(name="open_minute", nullable = false)
+    private int openMinute;
+
+    @Column(name="close_minute", nullable = false)
+    private int closeMinute;
+}
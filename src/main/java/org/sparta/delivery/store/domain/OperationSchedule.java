@@ -0,0 +1,179 @@
+package org.sparta.delivery.store.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 매장 운영 요일 및 시간을 주 단위 분(minute-of-week) 구간으로 컴파일한 불변 객체
+ *  - 월요일 00:00 = 0, 일요일 23:59 = 10079
+ *  - boundaries: 정렬된 [open1, close1, open2, close2, ...], 구간은 [open, close)
+ *  - 운영 요일 및 시간이 등록되지 않은 경우 연중 무휴 [0, 10080)
+ *  - 종료 시간이 시작 시간보다 앞선 경우 종료 시간은 익일로 판단 (예: 22:00 ~ 02:00), 일요일 → 월요일로 넘어가는 구간은 분리하여 저장
+ *  - 시간은 등록되지 않고 요일만 등록된 경우 해당 요일 종일 운영, 휴식 시간은 운영 구간에서 제외
+ *  - 요일이 지정되지 않은 운영 시간은 매일 적용
+ */
+public final class OperationSchedule {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final OperationSchedule ALWAYS_OPEN = new OperationSchedule(new int[] { 0, MINUTES_PER_WEEK });
+
+    private final int[] boundaries;
+
+    private OperationSchedule(int[] boundaries) {
+        this.boundaries = boundaries;
+    }
+
+    // 저장된 구간 경계로 복원
+    public static OperationSchedule of(int[] boundaries) {
+        return new OperationSchedule(boundaries.clone());
+    }
+
+    // 운영 요일 및 시간 → 주 단위 분 구간 컴파일
+    public static OperationSchedule compile(List<StoreOperation> operations) {
+        if (operations == null || operations.isEmpty()) return ALWAYS_OPEN;
+
+        List<int[]> intervals = new ArrayList<>();
+        for (StoreOperation op : operations) {
+            if (op == null || op.getDeletedAt() != null) continue;
+
+            List<int[]> pieces = toDailyPieces(op);
+            for (DayOfWeek day : op.getDayOfWeek() == null ? DayOfWeek.values() : new DayOfWeek[] { op.getDayOfWeek() }) {
+                int dayStart = (day.getValue() - 1) * MINUTES_PER_DAY;
+                for (int[] piece : pieces) {
+                    addInterval(intervals, dayStart + piece[0], dayStart + piece[1]);
+                }
+            }
+        }
+
+        return new OperationSchedule(merge(intervals));
+    }
+
+    // 운영 당일 00:00 기준 운영 구간(분), 익일 종료인 경우 1440 이상의 값을 가짐
+    private static List<int[]> toDailyPieces(StoreOperation op) {
+        List<int[]> pieces = new ArrayList<>();
+
+        // 시간 설정이 없으면 요일만 맞으면 운영
+        if (op.getStartHour() == null || op.getEndHour() == null) {
+            pieces.add(new int[] { 0, MINUTES_PER_DAY });
+            return pieces;
+        }
+
+        int start = toMinute(op.getStartHour());
+        int end = toMinute(op.getEndHour());
+        boolean overnight = end < start;
+        if (overnight) end += MINUTES_PER_DAY; // 익일 종료
+
+        // 운영 구간에서 휴식 시간 제외
+        pieces.add(new int[] { start, end });
+        subtractBreak(pieces, op.getBreakHour1(), start, overnight);
+        subtractBreak(pieces, op.getBreakHour2(), start, overnight);
+
+        return pieces;
+    }
+
+    /**
+     * 주 단위 분 기준 운영 여부 - O(log n), 객체 생성 없음
+     */
+    public boolean isOpenAt(int minuteOfWeek) {
+        int idx = Arrays.binarySearch(boundaries, minuteOfWeek);
+
+        // 경계값과 일치하는 경우 open 경계(짝수 인덱스)이면 운영, close 경계(홀수 인덱스)이면 미운영
+        // 일치하지 않는 경우 삽입 위치가 홀수라면 [open, close) 구간 내부
+        return idx >= 0 ? (idx & 1) == 0 : ((-idx - 1) & 1) == 1;
+    }
+
+    public boolean isOpenAt(LocalDateTime dateTime) {
+        return isOpenAt(minuteOfWeek(dateTime));
+    }
+
+    // 저장용 구간 경계
+    public int[] toArray() {
+        return boundaries.clone();
+    }
+
+    // DB 검색용 운영 구간 목록
+    public List<OpenInterval> toOpenIntervals() {
+        List<OpenInterval> intervals = new ArrayList<>(boundaries.length / 2);
+        for (int i = 0; i + 1 < boundaries.length; i += 2) {
+            intervals.add(new OpenInterval(boundaries[i], boundaries[i + 1]));
+        }
+
+        return intervals;
+    }
+
+    public static int minuteOfWeek(LocalDateTime dateTime) {
+        return minuteOfWeek(dateTime.getDayOfWeek(), dateTime.getHour() * 60 + dateTime.getMinute());
+    }
+
+    public static int minuteOfWeek(DayOfWeek dayOfWeek, int minuteOfDay) {
+        return (dayOfWeek.getValue() - 1) * MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    // 휴식 시간 제외, 익일 종료 영업의 경우 시작 시간보다 앞선 휴식 시간은 익일 시간으로 판단
+    private static void subtractBreak(List<int[]> pieces, BreakTime breakTime, int start, boolean overnight) {
+        if (breakTime == null || breakTime.start() == null || breakTime.end() == null) return;
+
+        int bStart = toMinute(breakTime.start());
+        int bEnd = toMinute(breakTime.end());
+        if (overnight && bStart < start) {
+            bStart += MINUTES_PER_DAY;
+            bEnd += MINUTES_PER_DAY;
+        }
+        if (bEnd < bStart) bEnd += MINUTES_PER_DAY; // 휴식 시간도 자정을 넘길 수 있음
+
+        List<int[]> result = new ArrayList<>();
+        for (int[] piece : pieces) {
+            if (bEnd <= piece[0] || bStart >= piece[1]) { // 겹치지 않음
+                result.add(piece);
+                continue;
+            }
+            if (piece[0] < bStart) result.add(new int[] { piece[0], bStart });
+            if (bEnd < piece[1]) result.add(new int[] { bEnd, piece[1] });
+        }
+
+        pieces.clear();
+        pieces.addAll(result);
+    }
+
+    // 주 단위 범위를 넘어가는 구간(일요일 → 월요일)은 분리
+    private static void addInterval(List<int[]> intervals, int start, int end) {
+        if (start >= end) return;
+
+        if (end <= MINUTES_PER_WEEK) {
+            intervals.add(new int[] { start, end });
+        } else if (start >= MINUTES_PER_WEEK) {
+            intervals.add(new int[] { start - MINUTES_PER_WEEK, end - MINUTES_PER_WEEK });
+        } else {
+            intervals.add(new int[] { start, MINUTES_PER_WEEK });
+            intervals.add(new int[] { 0, end - MINUTES_PER_WEEK });
+        }
+    }
+
+    // 정렬 후 겹치거나 맞닿은 구간 병합
+    private static int[] merge(List<int[]> intervals) {
+        intervals.sort(Comparator.comparingInt(i -> i[0]));
+
+        int[] merged = new int[intervals.size() * 2];
+        int size = 0;
+        for (int[] interval : intervals) {
+            if (size > 0 && interval[0] <= merged[size - 1]) {
+                merged[size - 1] = Math.max(merged[size - 1], interval[1]);
+            } else {
+                merged[size++] = interval[0];
+                merged[size++] = interval[1];
+            }
+        }
+
+        return Arrays.copyOf(merged, size);
+    }
+}
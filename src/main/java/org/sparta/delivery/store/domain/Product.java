@@ -22,6 +22,7 @@ import java.util.stream.IntStream;
  * 상품 상태는 준비중, 판매중, 품절이 있으며, 준비중 상태에서는 상품은 미노출, 품절은 노출되지만 주문에 제한이 있음
  * 상품 등록시 기본값은 상품 준비중
  * 옵션은 상품을 통해서 등록, 수정, 삭제 가능
+ * 상품 변경은 매장(Store.changeProduct 등)을 통해서만 처리 - 매장에서 메뉴 버전 증가, 메뉴 변경 이벤트 발행
  * 상품이 삭제되지 않고 판매중(SALE)일때만 주문 가능
  *
  */
@@ -173,7 +174,6 @@ public class Product extends BaseUserEntity {
         if (options != null) {
             options.clear();
         }
-
     }
 
     // 옵션 교체
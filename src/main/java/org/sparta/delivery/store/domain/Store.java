@@ -2,6 +2,7 @@ package org.sparta.delivery.store.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLRestriction;
 import org.sparta.delivery.global.domain.BaseUserEntity;
 import org.sparta.delivery.global.domain.exception.BadRequestException;
@@ -10,18 +11,19 @@ import org.sparta.delivery.global.domain.service.AddressToCoords;
 import org.sparta.delivery.global.domain.service.OwnerCheck;
 import org.sparta.delivery.global.domain.service.RoleCheck;
 import org.sparta.delivery.global.domain.service.UserDetails;
+import org.sparta.delivery.global.infrastructure.event.Events;
 import org.sparta.delivery.store.domain.dto.StoreDto;
+import org.sparta.delivery.store.domain.event.MenuChangedEvent;
+import org.sparta.delivery.store.domain.event.StoreChangedEvent;
 import org.sparta.delivery.store.domain.exception.InvalidCategoryException;
 import org.sparta.delivery.store.domain.exception.ProductDuplicatedException;
 import org.sparta.delivery.store.domain.exception.ProductNotFoundException;
 import org.sparta.delivery.store.domain.exception.StoreStatusException;
 import org.sparta.delivery.store.domain.service.CategoryCheck;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
 /**
@@ -36,8 +38,7 @@ import java.util.stream.IntStream;
  */
 @Entity
 @ToString @Getter
-@Table(name="P_STORE", indexes = {
-        @Index(name = "idx_store_location_point", columnList = "point"), // 공간 쿼리용 GiST 인덱스
+@Table(name="P_STORE", indexes = { // 공간 쿼리용 GiST 인덱스는 resources/db/schema-postgis.sql에서 생성
         @Index(name = "idx_store_name", columnList = "store_name"), // 매장명 검색 성능 향상
         @Index(name = "idx_store_status_created", columnList = "status, created_at"), // 상태(Status) + 생성일(CreatedAt)
 })
@@ -51,11 +52,25 @@ public class Store extends BaseUserEntity {
     @Version
     private int version; // 낙관적 Lock
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int menuVersion; // 메뉴(상품, 옵션, 판매상태) 변경시에만 증가 - 메뉴 스냅샷 최신 여부 판단용
+
     @Column(length=30, nullable = false)
     @Enumerated(EnumType.STRING)
     private StoreStatus status; // 매장 운영 상태
 
-    private double reviewScore; // 리뷰 평점
+    private double reviewScore; // 리뷰 평점 (reviewScoreSum / reviewCount)
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long reviewCount; // 리뷰 수
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long reviewScoreSum; // 리뷰 평점 합계
+
+    private LocalDateTime reviewReconciledAt; // 리뷰 집계 보정 기준 일시 - 이 시점 이전의 변경분은 보정 집계에 이미 포함됨
 
     @Embedded
     private Owner owner;
@@ -82,6 +97,22 @@ public class Store extends BaseUserEntity {
     @OrderColumn(name="operation_idx")
     private List<StoreOperation> operations;
 
+    // 운영 요일 및 시간을 주 단위 분 구간 경계로 컴파일한 값 [open1, close1, open2, close2, ...] - 운영 시간 변경시 재생성
+    @Column(name="operation_schedule")
+    private int[] operationSchedule;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private OperationSchedule schedule; // 컴파일된 운영 시간 (operationSchedule 복원 또는 operations 컴파일)
+
+    // 주 단위 분 운영 구간 - DB에서 현재 영업중(openNow) 매장 검색용, 운영 시간 변경시 재생성
+    @ElementCollection(fetch=FetchType.LAZY)
+    @CollectionTable(name="P_STORE_OPEN_INTERVAL", joinColumns=@JoinColumn(name="store_id"), indexes = {
+            @Index(name = "idx_store_open_interval_store_minute", columnList = "store_id, open_minute, close_minute")
+    })
+    private List<OpenInterval> openIntervals;
+
     // 매장 분류 - 1:N 관계
     @ElementCollection(fetch=FetchType.LAZY)
     @CollectionTable(name="P_STORE_CATEGORY", joinColumns=@JoinColumn(name="store_id"))
@@ -124,6 +155,9 @@ public class Store extends BaseUserEntity {
         this.location = new StoreLocation(address, addressToCoords);
         this.status = StoreStatus.PREPARING;
 
+        // 운영 시간 미등록 - 연중 무휴, 매장 변경 이벤트 발생
+        rebuildSchedule();
+
 
     }
 
@@ -138,6 +172,8 @@ public class Store extends BaseUserEntity {
         businessNo = dto.getBusinessNo();
         contact = new StoreContact(dto.getLandline(), dto.getEmail());
         location = new StoreLocation(dto.getAddress(), dto.getAddressToCoords());
+
+        storeChanged();
     }
 
     // 매장 운영 상태 변경
@@ -149,6 +185,8 @@ public class Store extends BaseUserEntity {
         }
 
         this.status = status;
+
+        storeChanged();
     }
 
     // 상점 삭제(Soft Delete)
@@ -173,6 +211,9 @@ public class Store extends BaseUserEntity {
         if (operations != null) {
             operations.forEach(StoreOperation::remove);
         }
+
+        menuChanged();
+        storeChanged();
     }
 
     //// 운영 요일 및 시간 S
@@ -182,6 +223,7 @@ public class Store extends BaseUserEntity {
         operations = Objects.requireNonNullElseGet(operations, ArrayList::new);
 
         operations.add(StoreDto.toOperation(dto));
+        rebuildSchedule();
     }
 
     // 여러개 생성
@@ -194,6 +236,7 @@ public class Store extends BaseUserEntity {
         checkAuthority(dto.getRoleCheck(), dto.getOwnerCheck());
          if (operations == null || operations.get(idx) == null) return;
         operations.set(idx, StoreDto.toOperation(dto));
+        rebuildSchedule();
     }
 
     // 제거
@@ -209,6 +252,37 @@ public class Store extends BaseUserEntity {
 
         operations.clear();
         operations.addAll(remaining);
+        rebuildSchedule();
+    }
+
+    // 운영 시간 변경시 주 단위 분 구간 재컴파일
+    private void rebuildSchedule() {
+        schedule = OperationSchedule.compile(operations);
+        operationSchedule = schedule.toArray();
+
+        openIntervals = Objects.requireNonNullElseGet(openIntervals, ArrayList::new);
+        openIntervals.clear();
+        openIntervals.addAll(schedule.toOpenIntervals());
+
+        storeChanged();
+    }
+
+    /**
+     * 운영 구간 재생성(시스템에서 자동 처리 되므로 권한 체크 없음)
+     *  - 운영 구간(operationSchedule, openIntervals)이 저장되기 이전에 등록된 매장 보정용
+     */
+    public void systemRebuildSchedule() {
+        rebuildSchedule();
+        this.modifiedBy = "SYSTEM";
+    }
+
+    // 컴파일된 운영 시간, 이전에 저장되어 컴파일 값이 없는 매장은 운영 시간 목록으로 컴파일
+    public OperationSchedule getSchedule() {
+        if (schedule == null) {
+            schedule = operationSchedule != null ? OperationSchedule.of(operationSchedule) : OperationSchedule.compile(operations);
+        }
+
+        return schedule;
     }
 
     //// 운영 요일 및 시간  E
@@ -230,6 +304,8 @@ public class Store extends BaseUserEntity {
         products = Objects.requireNonNullElseGet(products, ArrayList::new);
 
         products.add(StoreDto.toProduct(id, products.size(), dto));
+
+        menuChanged();
     }
 
     // 상품 수정
@@ -251,6 +327,21 @@ public class Store extends BaseUserEntity {
         checkProductCodeDuplication(dto.getProductCode(), productIdx);
 
         products.set(productIdx, StoreDto.toProduct(id, productIdx, dto));
+
+        menuChanged();
+    }
+
+    /**
+     * 상품 일부 변경 - 옵션 등록/삭제/교체, 판매 상태 변경, 단건 삭제 등
+     *  상품의 변경도 메뉴 변경이므로 메뉴 버전을 증가시켜 다른 서버의 메뉴 스냅샷이 이전 버전임을 알 수 있도록 함
+     */
+    public void changeProduct(String productCode, Consumer<Product> change) {
+        Product product = Optional.ofNullable(getProduct(productCode))
+                .orElseThrow(ProductNotFoundException::new);
+
+        change.accept(product);
+
+        menuChanged();
     }
 
     // 상품 삭제 (Soft Delete)
@@ -266,6 +357,8 @@ public class Store extends BaseUserEntity {
         products.stream()
                 .filter(p -> p.getDeletedAt() == null && codeSet.contains(p.getProductCode()))
                 .forEach(Product::remove);
+
+        menuChanged();
     }
 
     // 상품 삭제 (Hard Delete), 관리자(MANAGER, MASTER)만 가능
@@ -274,8 +367,8 @@ public class Store extends BaseUserEntity {
             throw new UnAuthorizedException();
         }
 
-        if (products != null) {
-            products.removeIf(p -> p.getProductCode().equals(productCode));
+        if (products != null && products.removeIf(p -> p.getProductCode().equals(productCode))) {
+            menuChanged();
         }
     }
 
@@ -299,6 +392,17 @@ public class Store extends BaseUserEntity {
 
         return products.stream().filter(p -> p.getProductCode().equals(productCode)).findFirst().orElse(null);
     }
+
+    // 메뉴 버전 증가, 메뉴 변경 이벤트 - 커밋 후 메뉴 스냅샷 무효화
+    private void menuChanged() {
+        menuVersion++;
+        Events.trigger(new MenuChangedEvent(id.getId()));
+    }
+
+    // 매장 변경 이벤트 - 커밋 후 매장 위치 인덱스 갱신
+    private void storeChanged() {
+        Events.trigger(new StoreChangedEvent(id.getId()));
+    }
     ////  상품 E
 
     ///// 카테고리 S
@@ -355,9 +459,38 @@ public class Store extends BaseUserEntity {
     }
     ///// 카테고리 E
 
-    // 리뷰 평균 업데이트(시스템에서 자동 업데이트 되므로 권한 체크 없음)
-    public void systemUpdateReviewScore(double score) {
-        this.reviewScore = score;
+    /**
+     * 리뷰 평균 업데이트(시스템에서 자동 업데이트 되므로 권한 체크 없음)
+     *  - 리뷰 작성, 수정, 삭제시 리뷰 수와 평점 합계의 변경분만 반영 - 전체 리뷰를 다시 집계하지 않음
+     *  - 보정 기준 일시(reviewReconciledAt) 이전에 커밋된 변경분은 보정 집계에 이미 포함되어 있으므로 반영하지 않음
+     *
+     * @param changedAt : 변경분이 커밋된 이후 기록된 일시 (ReviewScoreCoalescer)
+     */
+    public void systemUpdateReviewScore(long countDelta, long scoreDelta, LocalDateTime changedAt) {
+        if (reviewReconciledAt != null && changedAt != null && !changedAt.isAfter(reviewReconciledAt)) return;
+
+        applyReviewScore(Math.max(reviewCount + countDelta, 0), Math.max(reviewScoreSum + scoreDelta, 0));
+    }
+
+    /**
+     * 리뷰 집계 보정 - 실제 리뷰 집계값과 비교하여 차이가 있는 경우 교정
+     *  - 교정한 경우 집계 시작 일시를 보정 기준 일시로 기록하여, 아직 반영되지 않은 이전 변경분이 중복 반영되지 않도록 함
+     *
+     * @param reconciledAt : 집계 조회 직전 일시
+     * @return 교정 여부
+     */
+    public boolean systemReconcileReviewScore(long count, long scoreSum, LocalDateTime reconciledAt) {
+        if (reviewCount == count && reviewScoreSum == scoreSum) return false;
+
+        applyReviewScore(count, scoreSum);
+        reviewReconciledAt = reconciledAt;
+        return true;
+    }
+
+    private void applyReviewScore(long count, long scoreSum) {
+        this.reviewCount = count;
+        this.reviewScoreSum = count == 0 ? 0 : scoreSum;
+        this.reviewScore = count == 0 ? 0.0 : (double) this.reviewScoreSum / count;
         this.modifiedBy = "SYSTEM";
     }
 
@@ -367,69 +500,16 @@ public class Store extends BaseUserEntity {
      *      예) 16:00, 02:00 이면 02:00은 익일 새벽 2시
      *  영업일 및 시간이 등록되지 않은 경우는 breakTime 제외 항상 주문가능
      *  시간은 등록되지 않고 요일만 등록된 경우 시간과 상관없이 운영
+     *  운영 시간은 주 단위 분 구간(OperationSchedule)으로 컴파일하여 이진 탐색으로 확인
      */
     public boolean isOrderable() {
-        if (status != StoreStatus.OPEN) return false;
-        if (operations == null || operations.isEmpty()) return true;
-
-        LocalDateTime now = LocalDateTime.now();
-        DayOfWeek today = now.getDayOfWeek();
-        DayOfWeek yesterday = today.minus(1);
-
-        // 1. 어제부터 시작된 영업이 현재(새벽)까지 이어지는지 확인
-        boolean isContinuingFromYesterday = operations.stream()
-                .filter(op -> op.getDayOfWeek().equals(yesterday))
-                .anyMatch(op -> isNowInBusinessRange(op, now, true));
-
-        // 2. 오늘 시작된 영업이 현재 진행 중인지 확인
-        boolean isStartingToday = operations.stream()
-                .filter(op -> op.getDayOfWeek().equals(today))
-                .anyMatch(op -> isNowInBusinessRange(op, now, false));
-
-        return isContinuingFromYesterday || isStartingToday;
+        return isOrderable(LocalDateTime.now());
     }
 
-    private boolean isNowInBusinessRange(StoreOperation op, LocalDateTime now, boolean isFromYesterday) {
-        LocalTime start = op.getStartHour();
-        LocalTime end = op.getEndHour();
-
-        // 시간 설정이 없으면 요일만 맞으면 통과 (어제 영업이면 false)
-        if (start == null || end == null) return !isFromYesterday;
-
-        LocalDate baseDate = isFromYesterday ? now.toLocalDate().minusDays(1) : now.toLocalDate();
-        LocalDateTime businessStart = baseDate.atTime(start);
-        LocalDateTime businessEnd = baseDate.atTime(end);
-
-        // 익일 종료 케이스 처리 (ex: 22:00 ~ 02:00)
-        if (businessEnd.isBefore(businessStart)) {
-            businessEnd = businessEnd.plusDays(1);
-        }
-
-        // 현재 시간이 영업 범위 밖이면 즉시 종료
-        if (now.isBefore(businessStart) || now.isAfter(businessEnd)) {
-            return false;
-        }
-
-        // 영업 범위 안이라면, 해당 'Operation' 객체에 설정된 브레이크 타임인지 확인
-        return !isWithinBreakTime(op, now, baseDate);
-    }
-
-    private boolean isWithinBreakTime(StoreOperation op, LocalDateTime now, LocalDate baseDate) {
-        return isTimeInBreak(op.getBreakHour1(), now, baseDate) ||
-                isTimeInBreak(op.getBreakHour2(), now, baseDate);
-    }
-
-    private boolean isTimeInBreak(BreakTime breakTime, LocalDateTime now, LocalDate baseDate) {
-        if (breakTime == null || breakTime.start() == null || breakTime.end() == null) return false;
-
-        LocalDateTime sTime = baseDate.atTime(breakTime.start());
-        LocalDateTime eTime = baseDate.atTime(breakTime.end());
-
-        // 브레이크 타임도 자정을 넘길 수 있음을 고려
-        if (eTime.isBefore(sTime)) eTime = eTime.plusDays(1);
+    public boolean isOrderable(LocalDateTime now) {
+        if (status != StoreStatus.OPEN) return false;
 
-        // inclusive 체크 (start <= now < end)
-        return (now.isEqual(sTime) || now.isAfter(sTime)) && now.isBefore(eTime);
+        return getSchedule().isOpenAt(now);
     }
 
     // 영업 준비중, 영업중인 경우 가게 노출 가능
@@ -1,8 +1,29 @@
 package org.sparta.delivery.store.domain;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, StoreId>, QuerydslPredicateExecutor<Store> {
 
+    // 메뉴(상품, 옵션) 변경용 조회 - 커밋시 Store.version을 강제로 증가시켜 동시에 수정된 메뉴 변경은 충돌 처리 (스냅샷 최신 여부는 Store.menuVersion으로 판단)
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT s FROM Store s WHERE s.id = :id")
+    Optional<Store> findByIdForMenuChange(@Param("id") StoreId id);
+
+    // 전체 매장 ID 순차 조회 - 리뷰 평점 보정 등 배치 작업용
+    @Query("SELECT s.id FROM Store s ORDER BY s.createdAt ASC, s.id.id ASC")
+    Slice<StoreId> findAllIds(Pageable pageable);
+
+    // 운영 구간이 저장되지 않은 매장 ID - 운영 구간 도입 이전에 등록된 매장 보정용
+    @Query("SELECT s.id FROM Store s WHERE s.operationSchedule IS NULL OR s.openIntervals IS EMPTY")
+    List<StoreId> findAllIdsWithoutSchedule();
 }
@@ -49,6 +49,7 @@ public class StoreDto {
     // OperationDto -> StoreOperation
     public static StoreOperation toOperation(OperationDto dto) {
         return StoreOperation.builder()
+                .dayOfWeek(dto.getDayOfWeek())
                 .startHour(dto.getStartHour())
                 .endHour(dto.getEndHour())
                 .breakHour1(new BreakTime(dto.getBreakStart1(), dto.getBreakEnd1()))
@@ -0,0 +1,8 @@
+package org.sparta.delivery.store.domain.event;
+
+import java.util.UUID;
+
+// 매장 메뉴(상품, 옵션, 가격, 판매상태) 변경시 발생 이벤트
+public record MenuChangedEvent(
+        UUID storeId
+) {}
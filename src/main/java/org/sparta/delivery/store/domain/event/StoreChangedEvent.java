@@ -0,0 +1,8 @@
+package org.sparta.delivery.store.domain.event;
+
+import java.util.UUID;
+
+// 매장 등록, 정보(위치) 변경, 운영 상태 및 운영 시간 변경, 삭제시 발생 이벤트
+public record StoreChangedEvent(
+        UUID storeId
+) {}
@@ -0,0 +1,50 @@
+package org.sparta.delivery.store.domain.query;
+
+import org.sparta.delivery.store.domain.ProductSubOption;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 매장별 메뉴 스냅샷(불변)
+ *  - 주문 가능한 상태와 관계없이 노출 중인 상품(준비중 제외)과 옵션, 하위옵션, 가격을 상품코드(productCode) 기준으로 보관
+ *  - menuVersion: 스냅샷 생성 시점의 Store.menuVersion, 메뉴 변경시에만 증가하므로 리뷰 평점 등 매장의 다른 변경에는 스냅샷이 무효화되지 않음
+ */
+public record MenuSnapshot(
+        UUID storeId,
+        int menuVersion,
+        Map<String, MenuItem> items
+) {
+    public MenuSnapshot {
+        items = Map.copyOf(items);
+    }
+
+    // productCode로 상품 조회, 없으면 null
+    public MenuItem get(String productCode) {
+        return productCode == null ? null : items.get(productCode);
+    }
+
+    public record MenuItem(
+            String productCode,
+            String name,
+            int price,
+            boolean orderable, // 판매중(SALE)이고 삭제되지 않은 상품
+            int version, // Product.version
+            List<MenuOption> options
+    ) {
+        public MenuItem {
+            options = options == null ? List.of() : List.copyOf(options);
+        }
+    }
+
+    public record MenuOption(
+            String name,
+            int price,
+            List<ProductSubOption> subOptions
+    ) {
+        public MenuOption {
+            subOptions = subOptions == null ? List.of() : List.copyOf(subOptions);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.sparta.delivery.store.domain.query;
+
+import java.util.UUID;
+
+/**
+ * 매장별 메뉴 스냅샷 조회
+ * 1. 스냅샷은 매장별로 한번만 생성되며, 메뉴 변경(MenuChangedEvent) 커밋 후 무효화됩니다.
+ * 2. 무효화 이전에 생성이 시작된 스냅샷은 캐시에 반영되지 않으므로 변경 이전 가격이 다시 캐시되지 않습니다.
+ */
+public interface MenuSnapshotProvider {
+    MenuSnapshot get(UUID storeId);
+    void invalidate(UUID storeId);
+}
@@ -16,4 +16,5 @@ import java.util.Optional;
 public interface ProductQueryRepository {
     Optional<Product> findByProductCode(StoreId id, String productCode);
     List<Product> findAll(StoreId id, ProductQueryDto.Search search);
+    List<ProductQueryDto.ProductSummary> findAllSummary(StoreId id, ProductQueryDto.Search search); // 목록 응답 컬럼만 조회
 }
@@ -6,11 +6,13 @@ import org.sparta.delivery.store.domain.query.dto.StoreQueryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StoreQueryRepository {
     Optional<Store> findById(StoreId id); // 매장 한개조회
-    Page<Store> findAll(StoreQueryDto.Search search, Pageable pageable); // 매장 검색
-    Page<Store> findAllNearest(double latitude, double longitude, double radiusKm, Pageable pageable);  // 현재 좌표에서 몇 km 반경에 가장 가까운 매장 조회
+    List<StoreQueryDto.StoreSummary> findAllById(List<StoreId> ids); // 매장 ID 목록으로 조회(노출 가능한 매장만), 순서는 보장하지 않음
+    Page<StoreQueryDto.StoreSummary> findAll(StoreQueryDto.Search search, Pageable pageable); // 매장 검색
+    Page<StoreQueryDto.StoreSummary> findAllNearest(double latitude, double longitude, double radiusKm, boolean openNow, Pageable pageable);  // 현재 좌표에서 몇 km 반경에 가장 가까운 매장 조회, openNow: 현재 주문 가능한 매장만
 
 }
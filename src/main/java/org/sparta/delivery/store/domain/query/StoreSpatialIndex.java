@@ -0,0 +1,23 @@
+package org.sparta.delivery.store.domain.query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노출 가능한 매장(영업 준비중, 영업중)의 위치 인메모리 공간 인덱스
+ * 1. 기동시 전체 매장으로 생성하고, 매장 변경(StoreChangedEvent) 커밋 후 해당 매장만 갱신합니다.
+ *    변경된 매장은 조회 스레드가 아닌 주기 작업에서 인덱스를 다시 생성하여 반영합니다.
+ * 2. 다른 서버에서 변경된 매장을 반영하기 위해 주기적으로 전체를 다시 생성합니다.
+ * 3. 조회 결과는 매장 ID만 반환하며, 매장 정보는 ID로 조회합니다.
+ */
+public interface StoreSpatialIndex {
+    boolean isReady(); // 인덱스 생성 완료 여부, 생성 전에는 DB로 조회
+
+    // 반경 radiusKm 이내 매장 ID를 가까운 순으로 조회, openNow: 현재 주문 가능한 매장만
+    List<UUID> findNearest(double latitude, double longitude, double radiusKm, boolean openNow);
+
+    void refresh(UUID storeId); // 매장 한개 갱신
+
+    void evict(Collection<UUID> storeIds); // 매장 정보 조회시 노출 불가로 확인된 매장 제거 (다른 서버에서 변경되어 아직 반영되지 않은 매장)
+}
@@ -3,6 +3,8 @@ package org.sparta.delivery.store.domain.query.dto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.sparta.delivery.store.domain.ProductOption;
+import org.sparta.delivery.store.domain.ProductStatus;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,4 +26,16 @@ public class ProductQueryDto {
         private List<UUID> categoryIds;
         private String keyword;
     }
+
+    /**
+     * 목록 조회 응답 컬럼만 조회하는 프로젝션 - 엔티티를 영속성 컨텍스트에 적재하지 않음
+     *  - options는 값 타입(ProductOption)으로 별도 조회
+     */
+    public record ProductSummary(
+            String productCode,
+            String name,
+            int price,
+            ProductStatus status,
+            List<ProductOption> options
+    ) {}
 }
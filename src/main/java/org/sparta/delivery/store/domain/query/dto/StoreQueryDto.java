@@ -3,6 +3,7 @@ package org.sparta.delivery.store.domain.query.dto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.sparta.delivery.store.domain.StoreStatus;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,6 +14,7 @@ import java.util.UUID;
  * 3. sigugun은 복수개 선택 가능하고 OR 조건으로 조회
  * 4. sido는 단일 조회 가능
  * 5. keyword는 매장명, 매장 전화번호, 이메일 중에 키워드가 포함되었는지 체크
+ * 6. openNow는 현재 시간 기준 영업중(OPEN)이고 운영 시간에 해당하는 매장만 조회
  */
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 public class StoreQueryDto {
@@ -26,5 +28,20 @@ public class StoreQueryDto {
         private String sido; // 시도
         private List<String> sigugun; // 시구군
         private String keyword; // 키워드
+        private boolean openNow; // 현재 주문 가능한 매장만 조회
     }
+
+    /**
+     * 목록 조회 응답 컬럼만 조회하는 프로젝션 - 엔티티를 영속성 컨텍스트에 적재하지 않음
+     */
+    public record StoreSummary(
+            UUID id,
+            String name,
+            StoreStatus status,
+            String landline,
+            String email,
+            String address,
+            String businessNo,
+            String ownerName
+    ) {}
 }
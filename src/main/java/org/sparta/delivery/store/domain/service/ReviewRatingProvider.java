@@ -0,0 +1,16 @@
+package org.sparta.delivery.store.domain.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 매장별 리뷰 집계(리뷰 수, 평점 합계) - 리뷰 평점 보정용
+public interface ReviewRatingProvider {
+    Map<UUID, ReviewRating> getRatings(Collection<UUID> storeIds); // 리뷰가 없는 매장은 포함되지 않음
+
+    List<UUID> getChangedStoreIds(LocalDateTime since); // since 이후 리뷰가 작성, 수정, 삭제된 매장
+
+    record ReviewRating(long count, long scoreSum) {}
+}
@@ -0,0 +1,61 @@
+package org.sparta.delivery.store.infrastructure;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.review.domain.QReview;
+import org.sparta.delivery.store.domain.service.ReviewRatingProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class ReviewRatingProviderImpl implements ReviewRatingProvider {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager em;
+
+    @Override
+    public Map<UUID, ReviewRating> getRatings(Collection<UUID> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) return Map.of();
+
+        QReview review = QReview.review;
+        NumberExpression<Long> count = review.count();
+        NumberExpression<Long> scoreSum = review.content.score.sumLong();
+
+        List<Tuple> rows = queryFactory
+                .select(review.info.storeId, count, scoreSum)
+                .from(review)
+                .where(
+                        review.info.storeId.in(storeIds),
+                        review.deletedAt.isNull()
+                )
+                .groupBy(review.info.storeId)
+                .fetch();
+
+        Map<UUID, ReviewRating> ratings = new HashMap<>();
+        for (Tuple row : rows) {
+            ratings.put(row.get(review.info.storeId), new ReviewRating(
+                    Objects.requireNonNullElse(row.get(count), 0L),
+                    Objects.requireNonNullElse(row.get(scoreSum), 0L)));
+        }
+
+        return ratings;
+    }
+
+    // 삭제(Soft Delete)된 리뷰도 포함해야 하므로 삭제 조건(@SQLRestriction)이 적용되지 않는 SQL로 조회, 삭제도 수정 일시가 기록됨
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> getChangedStoreIds(LocalDateTime since) {
+        return em.createNativeQuery("""
+                        SELECT DISTINCT store_id FROM p_review
+                        WHERE created_at >= :since OR modified_at >= :since
+                        """, UUID.class)
+                .setParameter("since", since)
+                .getResultList();
+    }
+}
@@ -1,5 +1,8 @@
 package org.sparta.delivery.store.infrastructure.ai;
 
+import org.sparta.delivery.global.domain.exception.ServiceUnavailableException;
+import org.sparta.delivery.global.infrastructure.resilience.DependencyGuards;
+import org.sparta.delivery.global.infrastructure.resilience.DependencyUnavailableException;
 import org.sparta.delivery.store.domain.service.AiGenerateProductName;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
@@ -14,8 +17,9 @@ import org.springframework.stereotype.Component;
 public class AiGenerateProductNameImpl implements AiGenerateProductName {
 
     private final ChatClient chatClient;
+    private final DependencyGuards guards;
 
-    public AiGenerateProductNameImpl(ChatClient.Builder builder, JdbcChatMemoryRepository chatMemoryRepository) {
+    public AiGenerateProductNameImpl(ChatClient.Builder builder, JdbcChatMemoryRepository chatMemoryRepository, DependencyGuards guards) {
         ChatMemory chatMemory = MessageWindowChatMemory.builder()
                 .chatMemoryRepository(chatMemoryRepository)
                 .maxMessages(20)
@@ -27,6 +31,8 @@ public class AiGenerateProductNameImpl implements AiGenerateProductName {
                         new SimpleLoggerAdvisor(Ordered.LOWEST_PRECEDENCE - 1)
                 )
                 .build();
+
+        this.guards = guards;
     }
 
     @Override
@@ -42,12 +48,18 @@ public class AiGenerateProductNameImpl implements AiGenerateProductName {
         [특징]  
         """;
         
-        String result = chatClient.prompt()
-                .advisors(spec -> spec.param(ChatMemory.CONVERSATION_ID, productCode))
-                .system(systemMessage)
-                .user(context)
-                .call()
-                .content();
+        // OpenAI 장애시 요청 스레드가 대기하지 않도록 서킷 브레이커, 동시 호출 수 제한 적용
+        String result;
+        try {
+            result = guards.get(DependencyGuards.OPENAI).call(() -> chatClient.prompt()
+                    .advisors(spec -> spec.param(ChatMemory.CONVERSATION_ID, productCode))
+                    .system(systemMessage)
+                    .user(context)
+                    .call()
+                    .content());
+        } catch (DependencyUnavailableException e) { // 서킷 열림, 동시 호출 수 초과 - 503
+            throw new ServiceUnavailableException("AI 상품명 생성을 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도하거나 상품명을 직접 입력해 주세요.");
+        }
         return result == null ? null : result.replace("\"", "").replace("'", "").trim();
     }
 }
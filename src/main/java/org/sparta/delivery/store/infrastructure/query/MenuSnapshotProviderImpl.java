@@ -0,0 +1,102 @@
+package org.sparta.delivery.store.infrastructure.query;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.store.domain.Product;
+import org.sparta.delivery.store.domain.StoreId;
+import org.sparta.delivery.store.domain.query.MenuSnapshot;
+import org.sparta.delivery.store.domain.query.MenuSnapshotProvider;
+import org.sparta.delivery.store.domain.query.ProductQueryRepository;
+import org.sparta.delivery.store.domain.query.dto.ProductQueryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.sparta.delivery.store.domain.QStore.store;
+
+/**
+ * 1. 매장별 메뉴 스냅샷을 메모리에 보관하며, 없는 경우 상품 + 옵션을 한번에 조회하여 생성합니다.
+ * 2. 무효화시 세대(generation)를 증가시키고, 생성 시작 시점과 세대가 달라진 스냅샷은 캐시하지 않습니다.
+ *    세대는 전체 매장 공통 - 메뉴 변경은 주문에 비해 드물어 다른 매장의 스냅샷이 한번 더 조회되는 정도이며, 매장별 세대를 보관하지 않음
+ * 3. 이미 캐시된 스냅샷보다 menuVersion이 낮은 스냅샷으로는 교체하지 않습니다.
+ * 4. 최근에 조회된 매장 순으로 최대 menu.snapshot.max-stores 개만 보관합니다. (LRU)
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuSnapshotProviderImpl implements MenuSnapshotProvider {
+
+    private final JPAQueryFactory queryFactory;
+    private final ProductQueryRepository productQueryRepository;
+
+    @Value("${menu.snapshot.max-stores:10000}")
+    private int maxStores;
+
+    private final Map<UUID, MenuSnapshot> snapshots = Collections.synchronizedMap(new LinkedHashMap<UUID, MenuSnapshot>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, MenuSnapshot> eldest) {
+            return size() > maxStores;
+        }
+    });
+    private final AtomicLong generation = new AtomicLong();
+
+    @Override
+    public MenuSnapshot get(UUID storeId) {
+        MenuSnapshot snapshot = snapshots.get(storeId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long generation = this.generation.get();
+
+        // 버전을 먼저 조회, 이후 변경된 상품이 함께 조회되더라도 스냅샷은 이전 버전으로 판단됨
+        Integer version = queryFactory
+                .select(store.menuVersion)
+                .from(store)
+                .where(store.id.eq(StoreId.of(storeId)))
+                .fetchOne();
+
+        if (version == null) { // 매장이 없는 경우 캐시하지 않음
+            return new MenuSnapshot(storeId, -1, Map.of());
+        }
+
+        List<Product> products = productQueryRepository.findAll(StoreId.of(storeId), ProductQueryDto.Search.builder().build());
+        MenuSnapshot loaded = new MenuSnapshot(storeId, version, products.stream()
+                .collect(Collectors.toMap(Product::getProductCode, this::toMenuItem, (a, b) -> a)));
+
+        MenuSnapshot result = snapshots.compute(storeId, (id, cached) -> {
+            // 생성 도중 무효화 된 경우 캐시하지 않음
+            if (this.generation.get() != generation) {
+                return cached;
+            }
+
+            return cached != null && cached.menuVersion() > loaded.menuVersion() ? cached : loaded;
+        });
+
+        // 캐시되지 않은 경우에도 이번 요청은 방금 조회한 데이터로 처리
+        return result == null ? loaded : result;
+    }
+
+    @Override
+    public void invalidate(UUID storeId) {
+        generation.incrementAndGet();
+        snapshots.remove(storeId);
+    }
+
+    private MenuSnapshot.MenuItem toMenuItem(Product product) {
+        List<MenuSnapshot.MenuOption> options = product.getOptions() == null ? List.of() : product.getOptions().stream()
+                .map(opt -> new MenuSnapshot.MenuOption(opt.getName(), opt.getPrice().getValue(), opt.getSubOptions()))
+                .toList();
+
+        return new MenuSnapshot.MenuItem(
+                product.getProductCode(),
+                product.getName(),
+                product.getPrice().getValue(),
+                product.isOrderable(),
+                product.getVersion(),
+                options
+        );
+    }
+}
@@ -1,11 +1,16 @@
 package org.sparta.delivery.store.infrastructure.query;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.sparta.delivery.store.domain.Product;
+import org.sparta.delivery.store.domain.ProductOption;
 import org.sparta.delivery.store.domain.ProductStatus;
 import org.sparta.delivery.store.domain.QProduct;
+import org.sparta.delivery.store.domain.QProductOption;
 import org.sparta.delivery.store.domain.StoreId;
 import org.sparta.delivery.store.domain.query.ProductQueryRepository;
 import org.sparta.delivery.store.domain.query.dto.ProductQueryDto;
@@ -13,8 +18,11 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * 1. 상품 조회는 매장에 속해있는 상품만 가능하며, 준비중 상태는 노출하지 않습니다.
@@ -48,6 +56,73 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
     @Override
     public List<Product> findAll(StoreId id, ProductQueryDto.Search search) {
         QProduct product = QProduct.product;
+
+        return queryFactory
+                .selectFrom(product)
+                .leftJoin(product.options)
+                .fetchJoin()
+                .distinct()
+                .where(searchCondition(product, id, search))
+                .orderBy(product.createdAt.desc())
+                .fetch();
+    }
+
+    /**
+     * 목록 응답 컬럼만 조회
+     *  1. 상품 목록은 응답 컬럼만 Tuple로 조회, 엔티티를 생성하지 않으므로 영속성 컨텍스트 적재 및 변경 감지 대상에서 제외
+     *  2. 옵션은 값 타입(ProductOption)만 한번의 쿼리로 조회하여 상품별로 그룹화, 옵션 순서(option_idx) 유지
+     *  3. fetch join + distinct 없이 상품 1건당 1행이므로 중복 제거 비용 없음
+     */
+    @Override
+    public List<ProductQueryDto.ProductSummary> findAllSummary(StoreId id, ProductQueryDto.Search search) {
+        QProduct product = QProduct.product;
+
+        List<Tuple> rows = queryFactory
+                .select(product.id.productIdx, product.productCode, product.name, product.price.value, product.status)
+                .from(product)
+                .where(searchCondition(product, id, search))
+                .orderBy(product.createdAt.desc())
+                .fetch();
+
+        if (rows.isEmpty()) return List.of();
+
+        List<Integer> productIdxes = rows.stream().map(row -> row.get(product.id.productIdx)).toList();
+        Map<Integer, List<ProductOption>> options = findOptions(id, productIdxes);
+
+        return rows.stream()
+                .map(row -> new ProductQueryDto.ProductSummary(
+                        row.get(product.productCode),
+                        row.get(product.name),
+                        Objects.requireNonNullElse(row.get(product.price.value), 0),
+                        row.get(product.status),
+                        options.getOrDefault(row.get(product.id.productIdx), List.of())))
+                .toList();
+    }
+
+    // 상품별 옵션 조회 - 삭제된 옵션 제외, 옵션 순서 유지
+    private Map<Integer, List<ProductOption>> findOptions(StoreId id, List<Integer> productIdxes) {
+        QProduct product = QProduct.product;
+        QProductOption option = QProductOption.productOption;
+        NumberExpression<Integer> optionIdx = Expressions.numberTemplate(Integer.class, "index({0})", option);
+
+        return queryFactory
+                .select(product.id.productIdx, option)
+                .from(product)
+                .innerJoin(product.options, option)
+                .where(
+                        product.id.storeId.eq(id),
+                        product.id.productIdx.in(productIdxes),
+                        option.deletedAt.isNull()
+                )
+                .orderBy(product.id.productIdx.asc(), optionIdx.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(row -> row.get(product.id.productIdx),
+                        Collectors.mapping(row -> row.get(option), Collectors.toList())));
+    }
+
+    // 목록 검색 조건
+    private BooleanBuilder searchCondition(QProduct product, StoreId id, ProductQueryDto.Search search) {
         BooleanBuilder andBuilder = new BooleanBuilder();
 
         // 매장 일치 + 준비중 제외 + 삭제 제외
@@ -80,13 +155,6 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
                     .or(product.productCode.containsIgnoreCase(keyword)));
         }
 
-        return queryFactory
-                .selectFrom(product)
-                .leftJoin(product.options)
-                .fetchJoin()
-                .distinct()
-                .where(andBuilder)
-                .orderBy(product.createdAt.desc())
-                .fetch();
+        return andBuilder;
     }
 }
@@ -1,16 +1,17 @@
 package org.sparta.delivery.store.infrastructure.query;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.sparta.delivery.global.domain.service.RoleCheck;
-import org.sparta.delivery.store.domain.QStore;
-import org.sparta.delivery.store.domain.Store;
-import org.sparta.delivery.store.domain.StoreId;
-import org.sparta.delivery.store.domain.StoreStatus;
+import org.sparta.delivery.store.domain.*;
 import org.sparta.delivery.store.domain.query.StoreQueryRepository;
 import org.sparta.delivery.store.domain.query.dto.StoreQueryDto;
 import org.sparta.delivery.global.domain.service.OwnerCheck;
@@ -20,9 +21,10 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -45,7 +47,24 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
     }
 
     @Override
-    public Page<Store> findAll(StoreQueryDto.Search search, Pageable pageable) {
+    public List<StoreQueryDto.StoreSummary> findAllById(List<StoreId> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        QStore store = QStore.store;
+
+        return queryFactory
+                .select(summary(store))
+                .from(store)
+                .where(
+                        store.id.in(ids),
+                        store.status.in(StoreStatus.PREPARING, StoreStatus.OPEN), // 영업 준비중, 운영중 업체만
+                        store.deletedAt.isNull()
+                )
+                .fetch();
+    }
+
+    @Override
+    public Page<StoreQueryDto.StoreSummary> findAll(StoreQueryDto.Search search, Pageable pageable) {
         /**
          * 1. 일반 사용자는 영업준비중(PREPARING), 영업중(OPEN) 매장 상태를 조회, 매장 주인 사용자는 자신의 가게는 모든 상태 조회 가능, 관리자는 제한 없음
          * 2. sigugun은 단일로 조회는 불가, 반드시 sido + sigugun 조건으로만 조회 가능
@@ -116,18 +135,25 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
             );
         }
 
-        // 데이터 조회
-        List<Store> items = queryFactory
-                .selectFrom(store)
-                .distinct()
-                .leftJoin(store.categories)
-                .fetchJoin()
+        // 현재 주문 가능한 매장만 조회
+        if (search.isOpenNow()) {
+            andBuilder.and(openNow(store));
+        }
+
+        // 1단계: 조건, 정렬, 페이징을 SQL에서 처리하여 현재 페이지의 매장 ID만 조회
+        // 컬렉션(categories) fetch join과 페이징을 함께 사용하면 메모리에서 페이징(HHH000104)되므로 분리
+        List<UUID> storeIds = queryFactory
+                .select(store.id.id)
+                .from(store)
                 .where(andBuilder)
+                .orderBy(store.createdAt.desc(), store.id.id.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(store.createdAt.desc())
                 .fetch();
 
+        // 2단계: 현재 페이지의 매장 응답 컬럼만 조회 (분류는 응답에 포함되지 않으므로 로딩하지 않음)
+        List<StoreQueryDto.StoreSummary> items = findAllInOrder(storeIds);
+
         // 카운트 쿼리
         JPAQuery<Long> countQuery = queryFactory
                 .select(store.count())
@@ -137,28 +163,48 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
         return PageableExecutionUtils.getPage(items, pageable, countQuery::fetchOne);
     }
 
+    // 매장 ID 목록 순서대로 조회
+    private List<StoreQueryDto.StoreSummary> findAllInOrder(List<UUID> storeIds) {
+        if (storeIds.isEmpty()) return List.of();
+
+        QStore store = QStore.store;
+        Map<UUID, StoreQueryDto.StoreSummary> stores = queryFactory
+                .select(summary(store))
+                .from(store)
+                .where(store.id.id.in(storeIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(StoreQueryDto.StoreSummary::id, Function.identity()));
+
+        return storeIds.stream().map(stores::get).filter(Objects::nonNull).toList();
+    }
+
     // 현재 좌표에서 몇 km 반경에 가장 가까운 매장 조회
     @Override
-    public Page<Store> findAllNearest(double latitude, double longitude, double radiusKm, Pageable pageable) {
+    public Page<StoreQueryDto.StoreSummary> findAllNearest(double latitude, double longitude, double radiusKm, boolean openNow, Pageable pageable) {
 
         QStore store = QStore.store;
 
         if (radiusKm < 0.0) radiusKm = 3.0;
 
-        // PostGIS ST_DistanceSphere 함수를 사용한 거리 계산 (단위: 미터)
-        // POINT(longitude latitude) 순서로 문자열 생성
-        String userLocation = "POINT(%.10f %.10f)".formatted(longitude, latitude);
-
-        NumberExpression<Double> distanceMeter = Expressions.numberTemplate(Double.class, "ST_DistanceSphere({0}, ST_GeomFromText({1}, 4326))", store.location.point, userLocation);
+        // 반경 필터(ST_DWithin)와 거리순 정렬(<-> KNN)은 geography(point) GiST 인덱스를 사용 (PostgisFunctionContributor)
+        BooleanExpression withinRadius = Expressions.booleanTemplate("geo_dwithin({0}, {1}, {2}, {3}) = true", store.location.point, longitude, latitude, radiusKm * 1000);
+        NumberExpression<Double> distanceMeter = Expressions.numberTemplate(Double.class, "geo_knn_distance({0}, {1}, {2})", store.location.point, longitude, latitude);
 
         // 좌표에서 가까운 매장 조회
         BooleanBuilder andBuilder = new BooleanBuilder();
         andBuilder.and(store.status.in(StoreStatus.PREPARING, StoreStatus.OPEN)) // 영업 준비중, 운영중 업체만
-                .and(distanceMeter.loe(radiusKm * 1000)) // 반경 N km 이내
+                .and(withinRadius) // 반경 N km 이내
                 .and(store.deletedAt.isNull()); // 미삭제된 상품만 조회
 
-        List<Store> items = queryFactory
-                .selectFrom(store)
+        // 현재 주문 가능한 매장만 조회
+        if (openNow) {
+            andBuilder.and(openNow(store));
+        }
+
+        List<StoreQueryDto.StoreSummary> items = queryFactory
+                .select(summary(store))
+                .from(store)
                 .where(andBuilder)
                 .orderBy(distanceMeter.asc()) // 가까운 순 정렬
                 .offset(pageable.getOffset())
@@ -173,4 +219,41 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 
         return PageableExecutionUtils.getPage(items, pageable, countQuery::fetchOne);
     }
+
+    /**
+     * 목록 응답 컬럼만 DTO로 조회 - 엔티티를 생성하지 않으므로 영속성 컨텍스트 적재 및 변경 감지 대상에서 제외
+     *  - owner, contact, location은 임베디드 타입이므로 조인 없이 매장 테이블에서 조회
+     */
+    private ConstructorExpression<StoreQueryDto.StoreSummary> summary(QStore store) {
+        return Projections.constructor(StoreQueryDto.StoreSummary.class,
+                store.id.id,
+                store.name,
+                store.status,
+                store.contact.landline,
+                store.contact.email,
+                store.location.address,
+                store.businessNo,
+                store.owner.name
+        );
+    }
+
+    /**
+     * 현재 주문 가능한 매장 조건
+     *  - 영업중(OPEN) 상태이고, 현재 시간(주 단위 분)이 운영 구간(P_STORE_OPEN_INTERVAL)에 포함된 매장
+     *  - 매장을 다시 조인하지 않고 해당 매장의 운영 구간만 조회 - (store_id, open_minute, close_minute) 인덱스 사용
+     */
+    private BooleanExpression openNow(QStore store) {
+        int minuteOfWeek = OperationSchedule.minuteOfWeek(LocalDateTime.now());
+
+        QOpenInterval interval = QOpenInterval.openInterval;
+
+        return store.status.eq(StoreStatus.OPEN)
+                .and(JPAExpressions.selectOne()
+                        .from(store.openIntervals, interval)
+                        .where(
+                                interval.openMinute.loe(minuteOfWeek),
+                                interval.closeMinute.gt(minuteOfWeek)
+                        )
+                        .exists());
+    }
 }
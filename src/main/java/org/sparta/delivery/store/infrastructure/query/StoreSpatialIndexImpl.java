@@ -0,0 +1,207 @@
+package org.sparta.delivery.store.infrastructure.query;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.sparta.delivery.store.domain.OperationSchedule;
+import org.sparta.delivery.store.domain.StoreId;
+import org.sparta.delivery.store.domain.StoreStatus;
+import org.sparta.delivery.store.domain.query.StoreSpatialIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.sparta.delivery.store.domain.QStore.store;
+
+/**
+ * JTS STRtree 기반 매장 위치 인덱스
+ *  - STRtree는 생성(build) 이후 변경이 불가하므로 매장 목록(Map)을 변경하고, 주기 작업(rebuild-interval-ms)에서 트리를 다시 생성하여 교체
+ *    조회 스레드에서는 트리를 생성하지 않으며, 교체 전까지는 이전 트리로 조회
+ *  - 반경 조회는 위경도 범위(Envelope)로 후보를 찾은 뒤 구면 거리(Haversine)로 필터링 및 정렬
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSpatialIndexImpl implements StoreSpatialIndex {
+    private static final double EARTH_RADIUS_METER = 6_371_008.8;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Value("${store.spatial-index.enabled:true}")
+    private boolean enabled;
+
+    private final Map<UUID, IndexedStore> stores = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile STRtree tree;
+
+    @Override
+    public boolean isReady() {
+        return enabled && tree != null;
+    }
+
+    @Override
+    public List<UUID> findNearest(double latitude, double longitude, double radiusKm, boolean openNow) {
+        if (radiusKm < 0.0) radiusKm = 3.0;
+
+        double radiusMeter = radiusKm * 1000;
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        Envelope envelope = new Envelope(longitude - lonDelta, longitude + lonDelta, latitude - latDelta, latitude + latDelta);
+
+        int minuteOfWeek = OperationSchedule.minuteOfWeek(LocalDateTime.now());
+
+        List<Map.Entry<UUID, Double>> found = new ArrayList<>();
+        for (Object item : tree.query(envelope)) {
+            IndexedStore s = (IndexedStore) item;
+            if (openNow && !s.isOpenAt(minuteOfWeek)) continue;
+
+            double distance = distanceMeter(latitude, longitude, s.latitude(), s.longitude());
+            if (distance <= radiusMeter) {
+                found.add(Map.entry(s.storeId(), distance));
+            }
+        }
+
+        found.sort(Map.Entry.comparingByValue()); // 가까운 순
+        return found.stream().map(Map.Entry::getKey).toList();
+    }
+
+    @Override
+    public void refresh(UUID storeId) {
+        if (!enabled) return;
+
+        List<IndexedStore> items = load(store.id.eq(StoreId.of(storeId)));
+        if (items.isEmpty()) { // 삭제되었거나 노출 불가 상태로 변경된 매장
+            stores.remove(storeId);
+        } else {
+            stores.put(storeId, items.getFirst());
+        }
+
+        dirty.set(true);
+    }
+
+    @Override
+    public void evict(Collection<UUID> storeIds) {
+        if (!enabled || storeIds.isEmpty()) return;
+
+        stores.keySet().removeAll(storeIds);
+        dirty.set(true);
+    }
+
+    /**
+     * 기동시 및 주기적으로 전체 매장 인덱스 재생성 - 다른 서버에서 변경된 매장 반영
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${store.spatial-index.refresh-interval-ms:600000}")
+    public void refreshAll() {
+        if (!enabled) return;
+
+        List<IndexedStore> items = load(null);
+
+        Map<UUID, IndexedStore> loaded = new HashMap<>();
+        items.forEach(s -> loaded.put(s.storeId(), s));
+
+        stores.keySet().retainAll(loaded.keySet());
+        stores.putAll(loaded);
+
+        rebuild();
+        log.info("매장 위치 인덱스 생성 완료. 매장수: {}", stores.size());
+    }
+
+    // 변경된 매장이 있다면 트리 재생성 후 교체 - 전체 재생성 전에는 생성하지 않음
+    @Scheduled(fixedDelayString = "${store.spatial-index.rebuild-interval-ms:1000}")
+    public void rebuildIfChanged() {
+        if (!enabled || tree == null || !dirty.get()) return;
+
+        rebuild();
+    }
+
+    // 트리 생성 전에 변경 여부를 초기화하여, 생성 중 변경된 매장은 다음 주기에 반영
+    private synchronized void rebuild() {
+        dirty.set(false);
+        tree = buildTree();
+    }
+
+    private STRtree buildTree() {
+        STRtree newTree = new STRtree();
+        stores.values().forEach(s -> newTree.insert(new Envelope(new Coordinate(s.longitude(), s.latitude())), s));
+        newTree.build();
+
+        return newTree;
+    }
+
+    // 노출 가능한(영업 준비중, 영업중) 미삭제 매장 조회
+    private List<IndexedStore> load(Predicate condition) {
+        List<Tuple> rows = queryFactory
+                .select(store.id.id, store.location.latitude, store.location.longitude, store.status, store.operationSchedule)
+                .from(store)
+                .where(
+                        condition,
+                        store.status.in(StoreStatus.PREPARING, StoreStatus.OPEN),
+                        store.deletedAt.isNull()
+                )
+                .fetch();
+
+        // 운영 시간이 컴파일되지 않은 이전 매장은 운영 시간 목록으로 컴파일 (StoreScheduleBackfillScheduler 보정 전)
+        List<StoreId> legacyIds = rows.stream()
+                .filter(row -> row.get(store.operationSchedule) == null)
+                .map(row -> StoreId.of(row.get(store.id.id)))
+                .toList();
+        Map<UUID, OperationSchedule> legacySchedules = legacySchedules(legacyIds);
+
+        return rows.stream()
+                .map(row -> new IndexedStore(
+                        row.get(store.id.id),
+                        Objects.requireNonNullElse(row.get(store.location.latitude), 0.0),
+                        Objects.requireNonNullElse(row.get(store.location.longitude), 0.0),
+                        row.get(store.status),
+                        toSchedule(row.get(store.operationSchedule), legacySchedules.get(row.get(store.id.id)))))
+                .toList();
+    }
+
+    private Map<UUID, OperationSchedule> legacySchedules(List<StoreId> storeIds) {
+        if (storeIds.isEmpty()) return Map.of();
+
+        Map<UUID, OperationSchedule> schedules = new HashMap<>();
+        queryFactory.selectFrom(store)
+                .distinct()
+                .leftJoin(store.operations).fetchJoin()
+                .where(store.id.in(storeIds))
+                .fetch()
+                .forEach(s -> schedules.put(s.getId().getId(), s.getSchedule()));
+
+        return schedules;
+    }
+
+    private OperationSchedule toSchedule(int[] boundaries, OperationSchedule legacy) {
+        if (boundaries != null) return OperationSchedule.of(boundaries);
+
+        // 운영 시간 목록을 조회하지 못한 경우(조회 도중 삭제 등) 현재 영업중 검색에서 제외
+        return legacy != null ? legacy : OperationSchedule.of(new int[0]);
+    }
+
+    // 두 좌표간 구면 거리 (단위: 미터)
+    private double distanceMeter(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private record IndexedStore(UUID storeId, double latitude, double longitude, StoreStatus status, OperationSchedule schedule) {
+        boolean isOpenAt(int minuteOfWeek) {
+            return status == StoreStatus.OPEN && schedule.isOpenAt(minuteOfWeek);
+        }
+    }
+}
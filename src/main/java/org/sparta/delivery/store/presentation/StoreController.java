@@ -137,6 +137,7 @@ public class StoreController {
                 request.getLatitude(),
                 request.getLongitude(),
                 request.getRadiusKm(),
+                request.isOpenNow(),
                 pageable);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.sparta.delivery.store.presentation.dto;
 import lombok.Builder;
 import org.sparta.delivery.store.domain.Product;
 import org.sparta.delivery.store.domain.ProductStatus;
+import org.sparta.delivery.store.domain.query.dto.ProductQueryDto;
 import java.util.List;
 
 @Builder
@@ -25,6 +26,19 @@ public record ProductResponseDto(
                 .build();
     }
 
+    // 목록 조회 프로젝션 변환
+    public static ProductResponseDto from(ProductQueryDto.ProductSummary product) {
+        return ProductResponseDto.builder()
+                .productCode(product.productCode())
+                .name(product.name())
+                .price(product.price())
+                .status(product.status())
+                .options(product.options().stream()
+                        .map(OptionResponseDto::from)
+                        .toList())
+                .build();
+    }
+
     @Builder
     public record OptionResponseDto(String name, int price, List<SubOptionDto> subOptions) {
         public static OptionResponseDto from(org.sparta.delivery.store.domain.ProductOption opt) {
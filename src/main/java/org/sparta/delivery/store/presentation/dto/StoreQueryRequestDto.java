@@ -44,6 +44,9 @@ public class StoreQueryRequestDto {
         @Schema(description = "통합 키워드 (이름, 이메일, 전화번호 포함 검색)", example = "치킨", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
         private String keyword;
 
+        @Schema(description = "현재 주문 가능한(영업중) 매장만 조회", example = "true", defaultValue = "false", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        private boolean openNow;
+
         public StoreQueryDto.Search toSearchCondition() {
             return StoreQueryDto.Search.builder()
                     .categoryId(this.categoryId)
@@ -53,6 +56,7 @@ public class StoreQueryRequestDto {
                     .sido(this.sido)
                     .sigugun(this.sigugun)
                     .keyword(this.keyword)
+                    .openNow(this.openNow)
                     .build();
         }
     }
@@ -68,5 +72,8 @@ public class StoreQueryRequestDto {
 
         @Schema(description = "검색 반경 (km)", example = "3.0", defaultValue = "3.0", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
         private Double radiusKm = 3.0;
+
+        @Schema(description = "현재 주문 가능한(영업중) 매장만 조회", example = "true", defaultValue = "false", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        private boolean openNow;
     }
 }
\ No newline at end of file
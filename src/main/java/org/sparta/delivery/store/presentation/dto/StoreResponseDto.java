@@ -3,6 +3,7 @@ package org.sparta.delivery.store.presentation.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.sparta.delivery.store.domain.Store;
 import org.sparta.delivery.store.domain.StoreStatus;
+import org.sparta.delivery.store.domain.query.dto.StoreQueryDto;
 
 import java.util.UUID;
 
@@ -47,4 +48,18 @@ public record StoreResponseDto(
                 store.getOwner().getName()
         );
     }
+
+    // 목록 조회 프로젝션 변환
+    public static StoreResponseDto from(StoreQueryDto.StoreSummary store) {
+        return new StoreResponseDto(
+                store.id(),
+                store.name(),
+                store.status(),
+                store.landline(),
+                store.email(),
+                store.address(),
+                store.businessNo(),
+                store.ownerName()
+        );
+    }
 }
\ No newline at end of file
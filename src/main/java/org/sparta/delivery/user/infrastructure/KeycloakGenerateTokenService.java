@@ -1,6 +1,6 @@
 package org.sparta.delivery.user.infrastructure;
 
-import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.global.infrastructure.http.OutboundHttpClients;
 import org.sparta.delivery.global.infrastructure.keycloak.KeycloakProperties;
 import org.sparta.delivery.user.application.GenerateTokenService;
 import org.sparta.delivery.user.application.TokenInfo;
@@ -13,11 +13,16 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
 
 @Component
-@RequiredArgsConstructor
 @EnableConfigurationProperties(KeycloakProperties.class)
 public class KeycloakGenerateTokenService implements GenerateTokenService {
 
     private final KeycloakProperties properties;
+    private final RestClient client;
+
+    public KeycloakGenerateTokenService(KeycloakProperties properties, OutboundHttpClients httpClients) {
+        this.properties = properties;
+        this.client = httpClients.builder("keycloak", properties.getServerUrl()).build(); // 로그인마다 생성하지 않고 연결 재사용
+    }
 
     @Override
     public TokenInfo generate(String username, String password) {
@@ -28,9 +33,8 @@ public class KeycloakGenerateTokenService implements GenerateTokenService {
         form.add("username", username);
         form.add("password", password);
         form.add("scope", "openid profile email");
-        RestClient client = RestClient.create();
         ResponseEntity<TokenInfo> res = client.post()
-                .uri(String.format("%s/realms/%s/protocol/openid-connect/token", properties.getServerUrl(), properties.getRealm()))
+                .uri("/realms/{realm}/protocol/openid-connect/token", properties.getRealm())
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .body(form)
                 .retrieve()
@@ -0,0 +1,15 @@
+-- JPA 스키마 생성(ddl-auto) 이후 매 기동시 실행되므로 재실행 가능해야 함
+-- 파일 전체를 하나의 구문으로 실행 (spring.sql.init.separator) - DO 블록($$) 사용 가능
+
+-- 데드레터 상태 COMPENSATED 추가: ddl-auto(update)는 기존 enum CHECK 제약을 갱신하지 않으므로 다시 생성
+-- 이미 COMPENSATED를 허용하는 제약이면 건너뜀 (매 기동시 테이블 잠금, 전체 검증 방지)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'p_event_dead_letter'::regclass
+                     AND conname = 'p_event_dead_letter_status_check'
+                     AND pg_get_constraintdef(oid) LIKE '%COMPENSATED%') THEN
+        ALTER TABLE p_event_dead_letter DROP CONSTRAINT IF EXISTS p_event_dead_letter_status_check;
+        ALTER TABLE p_event_dead_letter ADD CONSTRAINT p_event_dead_letter_status_check CHECK (status IN ('DEAD', 'REPLAYED', 'COMPENSATED'));
+    END IF;
+END $$;
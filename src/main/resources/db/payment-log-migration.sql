@@ -0,0 +1,25 @@
+-- JPA 스키마 생성(ddl-auto) 이후 매 기동시 실행되므로 재실행 가능해야 함
+-- 파일 전체를 하나의 구문으로 실행 (spring.sql.init.separator) - DO 블록($$) 사용 가능
+
+-- 결제 로그 이관: p_payment.payment_log(jsonb 배열) -> 추가 전용 테이블 p_payment_log, 이관 후 컬럼 제거
+-- createdAt은 이전 변환기(JavaTimeModule 기본 설정)에서 숫자 배열로 저장됨
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns WHERE table_name = 'p_payment' AND column_name = 'payment_log') THEN
+        INSERT INTO p_payment_log (payment_id, created_at, log)
+        SELECT p.payment_id,
+               CASE jsonb_typeof(e -> 'createdAt')
+                   WHEN 'array' THEN make_timestamp(
+                           (e -> 'createdAt' ->> 0)::int, (e -> 'createdAt' ->> 1)::int, (e -> 'createdAt' ->> 2)::int,
+                           COALESCE((e -> 'createdAt' ->> 3)::int, 0), COALESCE((e -> 'createdAt' ->> 4)::int, 0), COALESCE((e -> 'createdAt' ->> 5)::int, 0))
+                   WHEN 'string' THEN (e ->> 'createdAt')::timestamp
+                   ELSE COALESCE(p.approved_at, p.requested_at)
+               END,
+               e ->> 'log'
+        FROM p_payment p
+        CROSS JOIN LATERAL jsonb_array_elements(p.payment_log) e
+        WHERE jsonb_typeof(p.payment_log) = 'array';
+
+        ALTER TABLE p_payment DROP COLUMN payment_log;
+    END IF;
+END $$;
@@ -0,0 +1,9 @@
+-- JPA 스키마 생성(ddl-auto) 이후 매 기동시 실행되므로 재실행 가능해야 함
+-- 파일 전체를 하나의 구문으로 실행 (spring.sql.init.separator) - DO 블록($$) 사용 가능
+
+-- 주변 매장 조회용 공간 인덱스
+-- ST_DWithin(geography) 반경 필터와 <-> KNN 거리순 정렬이 모두 사용할 수 있도록 geography(point) 표현식 GiST 인덱스로 생성
+CREATE INDEX IF NOT EXISTS idx_store_location_geography ON p_store USING GIST (geography(point));
+
+-- 이전 btree 인덱스 제거 (공간 연산에 사용되지 않음)
+DROP INDEX IF EXISTS idx_store_location_point;
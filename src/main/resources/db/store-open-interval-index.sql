@@ -0,0 +1,8 @@
+-- JPA 스키마 생성(ddl-auto) 이후 매 기동시 실행되므로 재실행 가능해야 함
+-- 파일 전체를 하나의 구문으로 실행 (spring.sql.init.separator) - DO 블록($$) 사용 가능
+
+-- 현재 영업중(openNow) 조회는 매장별 운영 구간을 찾으므로 store_id로 시작하는 인덱스 사용
+CREATE INDEX IF NOT EXISTS idx_store_open_interval_store_minute ON p_store_open_interval (store_id, open_minute, close_minute);
+
+-- 이전 (open_minute, close_minute) 인덱스 제거 (매장별 조회에 사용되지 않음)
+DROP INDEX IF EXISTS idx_store_open_interval_minute;
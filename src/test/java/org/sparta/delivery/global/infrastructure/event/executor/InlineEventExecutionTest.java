@@ -0,0 +1,76 @@
+package org.sparta.delivery.global.infrastructure.event.executor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InlineEventExecutionTest {
+
+    @Test
+    @DisplayName("run() 밖에서는 핸들러 예외를 기록하지 않음")
+    void recordFailureOutsideRun() {
+        assertThat(InlineEventExecution.isActive()).isFalse();
+        assertThat(InlineEventExecution.recordFailure(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    @DisplayName("@Async 핸들러 예외(AsyncUncaughtExceptionHandler로 기록)는 run()이 끝날 때 다시 던짐 - 전달 완료 처리 방지")
+    void rethrowsRecordedFailure() {
+        IllegalStateException first = new IllegalStateException("첫번째 핸들러 실패");
+        IllegalArgumentException second = new IllegalArgumentException("두번째 핸들러 실패");
+
+        assertThatThrownBy(() -> InlineEventExecution.run(() -> {
+            assertThat(InlineEventExecution.recordFailure(first)).isTrue();
+            InlineEventExecution.recordFailure(second);
+        }))
+                .isSameAs(first)
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(second));
+
+        assertThat(InlineEventExecution.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("핸들러가 모두 성공하면 예외 없이 종료")
+    void completesWithoutFailure() throws Exception {
+        boolean[] ran = {false};
+
+        InlineEventExecution.run(() -> ran[0] = true);
+
+        assertThat(ran[0]).isTrue();
+        assertThat(InlineEventExecution.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("전달 수단의 시도 횟수, 마지막 시도 여부, 재처리 여부를 실행 범위 안에서만 제공")
+    void exposesAttemptInfo() throws Exception {
+        InlineEventExecution.run(() -> {
+            assertThat(InlineEventExecution.attempt()).isEqualTo(3);
+            assertThat(InlineEventExecution.isLastAttempt()).isTrue();
+            assertThat(InlineEventExecution.isReplay()).isFalse();
+        }, 3, true);
+
+        InlineEventExecution.replay(() -> {
+            assertThat(InlineEventExecution.isReplay()).isTrue();
+            assertThat(InlineEventExecution.isLastAttempt()).isFalse();
+        });
+
+        assertThat(InlineEventExecution.attempt()).isEqualTo(1);
+        assertThat(InlineEventExecution.isLastAttempt()).isFalse();
+        assertThat(InlineEventExecution.isReplay()).isFalse();
+    }
+
+    @Test
+    @DisplayName("중첩 실행의 실패는 안쪽 run()에서만 던지고 바깥 실행 정보는 복원")
+    void nestedRunRestoresOuterContext() throws Exception {
+        InlineEventExecution.run(() -> {
+            assertThatThrownBy(() -> InlineEventExecution.replay(() ->
+                    InlineEventExecution.recordFailure(new IllegalStateException("안쪽 실패"))))
+                    .hasMessage("안쪽 실패");
+
+            assertThat(InlineEventExecution.isReplay()).isFalse();
+            assertThat(InlineEventExecution.attempt()).isEqualTo(2);
+        }, 2, false);
+    }
+}
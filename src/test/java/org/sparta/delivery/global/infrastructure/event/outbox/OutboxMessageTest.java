@@ -0,0 +1,79 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxMessageTest {
+
+    @Test
+    @DisplayName("저장 직후 PENDING, 바로 전달 가능")
+    void createdAsPending() {
+        OutboxMessage message = new OutboxMessage("org.sparta.delivery.TestEvent", "{}");
+
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(message.getAttempts()).isZero();
+        assertThat(message.getAvailableAt()).isEqualTo(message.getCreatedAt());
+        assertThat(message.getPublishedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("선점하면 시도 횟수 증가, 선점 만료 일시까지 전달 가능 일시를 미룸")
+    void claimExtendsAvailableAt() {
+        OutboxMessage message = new OutboxMessage("org.sparta.delivery.TestEvent", "{}");
+        LocalDateTime before = LocalDateTime.now();
+
+        message.claim(Duration.ofMinutes(1));
+
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(message.getAvailableAt()).isAfterOrEqualTo(before.plusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("전달 완료시 PUBLISHED, 이전 실패 사유 삭제")
+    void published() {
+        OutboxMessage message = new OutboxMessage("org.sparta.delivery.TestEvent", "{}");
+        message.claim(Duration.ofMinutes(1));
+        message.failed("장애", 10, Duration.ofSeconds(5));
+        message.claim(Duration.ofMinutes(1));
+
+        message.published();
+
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(message.getPublishedAt()).isNotNull();
+        assertThat(message.getLastError()).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 전에 실패하면 PENDING 유지, 재시도 지연 후 다시 전달 가능")
+    void failedBeforeMaxAttemptsRetries() {
+        OutboxMessage message = new OutboxMessage("org.sparta.delivery.TestEvent", "{}");
+        message.claim(Duration.ofMinutes(1));
+        LocalDateTime before = LocalDateTime.now();
+
+        message.failed("장애", 3, Duration.ofSeconds(5));
+
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(message.getLastError()).isEqualTo("장애");
+        assertThat(message.getAvailableAt()).isAfterOrEqualTo(before.plusSeconds(5)).isBefore(before.plusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 실패는 FAILED, 실패 사유는 500자까지 저장")
+    void failedAtMaxAttempts() {
+        OutboxMessage message = new OutboxMessage("org.sparta.delivery.TestEvent", "{}");
+        for (int i = 0; i < 3; i++) {
+            message.claim(Duration.ofMinutes(1));
+            message.failed("x".repeat(600), 3, Duration.ofSeconds(5));
+        }
+
+        assertThat(message.getAttempts()).isEqualTo(3);
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(message.getLastError()).hasSize(500);
+    }
+}
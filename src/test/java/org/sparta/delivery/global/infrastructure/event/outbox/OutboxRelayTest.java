@@ -0,0 +1,149 @@
+package org.sparta.delivery.global.infrastructure.event.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private EventTransport transport;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxService, transport, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "enabled", true);
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerPoll", 10);
+        ReflectionTestUtils.setField(relay, "leaseMs", 60000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(relay, "retryDelayMs", 1000L);
+        ReflectionTestUtils.setField(relay, "retentionHours", 72L);
+        ReflectionTestUtils.setField(relay, "purgeBatchSize", 1000);
+    }
+
+    private OutboxMessage claimed(long id, Duration lease) {
+        OutboxMessage message = new OutboxMessage("org.sparta.delivery.TestEvent", "{}");
+        ReflectionTestUtils.setField(message, "id", id);
+        message.claim(lease);
+        return message;
+    }
+
+    @Test
+    @DisplayName("전달이 끝난 메세지만 PUBLISHED - 전달(핸들러 실행) 후에 전달 완료 처리")
+    void publishedAfterSend() throws Exception {
+        OutboxMessage message = claimed(1L, Duration.ofMinutes(1));
+        when(outboxService.claim(eq(100), any())).thenReturn(List.of(message));
+
+        relay.relay();
+
+        InOrder inOrder = inOrder(transport, outboxService);
+        inOrder.verify(transport).send(message);
+        inOrder.verify(outboxService).published(List.of(1L));
+        verify(outboxService, never()).failed(anyLong(), anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("전달 실패한 메세지는 PUBLISHED로 변경하지 않고 실패 처리, 다음 메세지는 계속 전달")
+    void failedMessageIsNotPublished() throws Exception {
+        OutboxMessage failing = claimed(1L, Duration.ofMinutes(1));
+        OutboxMessage next = claimed(2L, Duration.ofMinutes(1));
+        when(outboxService.claim(eq(100), any())).thenReturn(List.of(failing, next));
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) == failing) throw new IllegalStateException("핸들러 실패");
+            return null;
+        }).when(transport).send(any());
+
+        relay.relay();
+
+        verify(outboxService).failed(1L, "핸들러 실패", 3, Duration.ofMillis(1000));
+        verify(outboxService, never()).published(List.of(1L));
+        verify(outboxService).published(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 시도 횟수에 따라 늘어나고 선점 시간을 넘지 않음")
+    void retryDelayBackoff() throws Exception {
+        OutboxMessage message = claimed(1L, Duration.ofMinutes(1));
+        message.claim(Duration.ofMinutes(1)); // 3번째 시도
+        message.claim(Duration.ofMinutes(1));
+        when(outboxService.claim(eq(100), any())).thenReturn(List.of(message));
+        doThrow(new IllegalStateException("핸들러 실패")).when(transport).send(message);
+
+        relay.relay();
+        verify(outboxService).failed(1L, "핸들러 실패", 3, Duration.ofMillis(4000));
+
+        ReflectionTestUtils.setField(relay, "leaseMs", 2000L);
+        relay.relay();
+        verify(outboxService).failed(1L, "핸들러 실패", 3, Duration.ofMillis(2000));
+    }
+
+    @Test
+    @DisplayName("선점이 만료된 메세지는 전달하지 않고 다른 릴레이가 다시 선점하도록 남김")
+    void stopsWhenLeaseExpired() throws Exception {
+        OutboxMessage expired = claimed(1L, Duration.ofMillis(-1));
+        OutboxMessage rest = claimed(2L, Duration.ofMinutes(1));
+        when(outboxService.claim(eq(100), any())).thenReturn(List.of(expired, rest));
+
+        relay.relay();
+
+        verify(transport, never()).send(any());
+        verify(outboxService, never()).published(any());
+        verify(outboxService, never()).failed(anyLong(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("조회한 메세지가 batch-size보다 적으면 다음 주기까지 조회하지 않음")
+    void stopsPollingWhenBatchNotFull() {
+        when(outboxService.claim(eq(100), any())).thenReturn(List.of());
+
+        relay.relay();
+
+        verify(outboxService, times(1)).claim(eq(100), any());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 선점하지 않음")
+    void disabled() {
+        ReflectionTestUtils.setField(relay, "enabled", false);
+
+        relay.relay();
+        relay.purge();
+
+        verifyNoInteractions(outboxService, transport);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 PUBLISHED 메세지는 purge-batch-size 단위로 남은 메세지가 없을 때까지 삭제")
+    void purgeInBatches() {
+        when(outboxService.purge(any(LocalDateTime.class), eq(1000))).thenReturn(1000, 1000, 3);
+        LocalDateTime before = LocalDateTime.now().minusHours(72);
+
+        relay.purge();
+
+        verify(outboxService, times(3)).purge(argThat(at -> !at.isBefore(before) && at.isBefore(before.plusMinutes(1))), eq(1000));
+    }
+}
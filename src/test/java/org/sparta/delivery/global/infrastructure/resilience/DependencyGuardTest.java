@@ -0,0 +1,206 @@
+package org.sparta.delivery.global.infrastructure.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DependencyGuardTest {
+
+    // window 4, 최소 4회, 실패율 50% 이상이면 OPEN, 시험 호출 2회
+    private DependencyGuard guard(Duration openDuration, int maxConcurrentCalls) {
+        ResilienceProperties.Dependency config = new ResilienceProperties.Dependency(
+                4, 4, 50, Duration.ofMinutes(1), openDuration, 2, maxConcurrentCalls, Duration.ofMillis(10));
+
+        return new DependencyGuard("test", config, new SimpleMeterRegistry());
+    }
+
+    private void succeed(DependencyGuard guard) {
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    private void fail(DependencyGuard guard) {
+        assertThatThrownBy(() -> guard.call(() -> {
+            throw new IllegalStateException("장애");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 미만이면 실패해도 서킷을 열지 않음")
+    void staysClosedBelowMinimumCalls() {
+        DependencyGuard guard = guard(Duration.ofMinutes(1), 10);
+
+        fail(guard);
+        fail(guard);
+        fail(guard);
+
+        assertThat(guard.getState()).isEqualTo(DependencyGuard.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계값 이상이면 OPEN, 이후 호출은 의존 서비스를 호출하지 않고 실패")
+    void opensWhenFailureRateExceeded() {
+        DependencyGuard guard = guard(Duration.ofMinutes(1), 10);
+
+        succeed(guard);
+        succeed(guard);
+        fail(guard);
+        fail(guard);
+
+        assertThat(guard.getState()).isEqualTo(DependencyGuard.State.OPEN);
+
+        boolean[] called = {false};
+        assertThatThrownBy(() -> guard.call(() -> called[0] = true))
+                .isInstanceOf(DependencyUnavailableException.class);
+        assertThat(called[0]).isFalse();
+    }
+
+    @Test
+    @DisplayName("클라이언트 오류(4xx)는 실패로 계산하지 않음, 408/429는 실패로 계산")
+    void clientErrorsAreNotFailures() {
+        DependencyGuard guard = guard(Duration.ofMinutes(1), 10);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(guard.getState()).isEqualTo(DependencyGuard.State.CLOSED);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(guard.getState()).isEqualTo(DependencyGuard.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("open-duration이 지나면 HALF_OPEN, 시험 호출이 모두 성공하면 CLOSED")
+    void halfOpenClosesAfterSuccessfulTrials() {
+        DependencyGuard guard = guard(Duration.ZERO, 10);
+
+        fail(guard);
+        fail(guard);
+        fail(guard);
+        fail(guard);
+
+        assertThat(guard.getState()).isEqualTo(DependencyGuard.State.HALF_OPEN);
+
+        succeed(guard);
+        assertThat(guard.getState()).isEqualTo(DependencyGuard.State.HALF_OPEN);
+
+        succeed(guard);
+        assertThat(guard.getState()).isEqualTo(DependencyGuard.State.CLOSED);
+        assertThat(guard.describe().get("bufferedCalls")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void halfOpenReopensOnFailure() {
+        DependencyGuard guard = guard(Duration.ofMillis(200), 10);
+
+        fail(guard);
+        fail(guard);
+        fail(guard);
+        fail(guard);
+        assertThat(guard.getState()).isEqualTo(DependencyGuard.State.OPEN);
+
+        await(() -> guard.getState() == DependencyGuard.State.HALF_OPEN);
+
+        fail(guard);
+        assertThat(guard.getState()).isEqualTo(DependencyGuard.State.OPEN);
+        assertThatThrownBy(() -> guard.call(() -> "ok")).isInstanceOf(DependencyUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN에서는 half-open-calls 만큼만 시험 호출 허용")
+    void halfOpenLimitsTrialCalls() throws Exception {
+        DependencyGuard guard = guard(Duration.ZERO, 10);
+
+        fail(guard);
+        fail(guard);
+        fail(guard);
+        fail(guard);
+
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> guard.call(() -> block(started, release)));
+            Future<String> second = executor.submit(() -> guard.call(() -> block(started, release)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 시험 호출 2회가 진행중이므로 추가 호출은 거부
+            assertThatThrownBy(() -> guard.call(() -> "ok")).isInstanceOf(DependencyUnavailableException.class);
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+            assertThat(guard.getState()).isEqualTo(DependencyGuard.State.CLOSED);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 초과하면 max-wait 후 실패, 호출이 끝나면 다시 허용")
+    void bulkheadRejectsWhenFull() throws Exception {
+        DependencyGuard guard = guard(Duration.ofMinutes(1), 1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> inFlight = executor.submit(() -> guard.call(() -> block(started, release)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(guard.describe().get("inFlight")).isEqualTo(1);
+
+            assertThatThrownBy(() -> guard.call(() -> "ok")).isInstanceOf(DependencyUnavailableException.class);
+
+            release.countDown();
+            assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+            succeed(guard);
+            assertThat(guard.describe().get("inFlight")).isEqualTo(0);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private String block(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "ok";
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
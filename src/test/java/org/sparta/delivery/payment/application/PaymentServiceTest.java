@@ -0,0 +1,227 @@
+package org.sparta.delivery.payment.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.delivery.global.infrastructure.event.Events;
+import org.sparta.delivery.payment.domain.Payment;
+import org.sparta.delivery.payment.domain.PaymentOrderInfo;
+import org.sparta.delivery.payment.domain.PaymentRepository;
+import org.sparta.delivery.payment.domain.PaymentStatus;
+import org.sparta.delivery.payment.domain.exception.InvalidPaymentException;
+import org.sparta.delivery.payment.domain.exception.PaymentApproveFailureException;
+import org.sparta.delivery.payment.domain.service.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 결제 승인 동시 요청 - 결제 행 잠금(findByIdForApprove)으로 직렬화된 요청 순서를 PG사 응답 대기 중 다른 요청이 실행되도록 재현
+ */
+class PaymentServiceTest {
+    private static final int AMOUNT = 20000;
+
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final OrderProvider orderProvider = mock(OrderProvider.class);
+    private final ApprovePayment approvePayment = mock(ApprovePayment.class);
+    private final CancelPayment cancelPayment = mock(CancelPayment.class);
+    private final QueryPayment queryPayment = mock(QueryPayment.class);
+
+    private PaymentService paymentService;
+    private Payment payment;
+    private UUID paymentId;
+    private Object previousPublisher;
+    private Object previousOutbox;
+
+    @BeforeEach
+    void setUp() {
+        previousPublisher = ReflectionTestUtils.getField(Events.class, "publisher");
+        previousOutbox = ReflectionTestUtils.getField(Events.class, "outbox");
+        ReflectionTestUtils.setField(Events.class, "publisher", mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(Events.class, "outbox", null);
+
+        UUID orderId = UUID.randomUUID();
+        when(orderProvider.getOrderInfo(orderId)).thenReturn(PaymentOrderInfo.builder()
+                .orderId(orderId)
+                .orderName("후라이드 치킨")
+                .amount(AMOUNT)
+                .build());
+
+        payment = new Payment(orderId, orderProvider);
+        paymentId = payment.getId().getId();
+        when(paymentRepository.findByIdForApprove(any())).thenReturn(Optional.of(payment));
+        when(paymentRepository.findById(any())).thenReturn(Optional.of(payment));
+
+        paymentService = new PaymentService(paymentRepository, new PaymentApprovalService(paymentRepository),
+                orderProvider, approvePayment, cancelPayment, queryPayment);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(Events.class, "publisher", previousPublisher);
+        ReflectionTestUtils.setField(Events.class, "outbox", previousOutbox);
+    }
+
+    private ApproveResult success() {
+        return ApproveResult.builder()
+                .success(true)
+                .status(PaymentStatus.DONE)
+                .approvedAt(LocalDateTime.now())
+                .approvedAmount(AMOUNT)
+                .build();
+    }
+
+    private ApproveResult failure(String reason) {
+        return ApproveResult.builder()
+                .success(false)
+                .reason(reason)
+                .build();
+    }
+
+    @Test
+    @DisplayName("승인 결과 반영은 잠금 없이, 승인 시작은 결제 행을 잠그고 조회")
+    void startLocksPaymentRow() {
+        when(approvePayment.request(any(), anyString(), any(), anyInt())).thenReturn(success());
+
+        paymentService.approve(paymentId, "payment-key");
+
+        verify(paymentRepository, times(1)).findByIdForApprove(any());
+        verify(paymentRepository, times(1)).findById(any());
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("PG사 승인 대기 중 같은 결제의 승인 요청은 PG사에 요청하지 않고 거절")
+    void concurrentApproveIsRejected() {
+        when(approvePayment.request(any(), anyString(), any(), anyInt())).thenAnswer(invocation -> {
+            assertThatThrownBy(() -> paymentService.approve(paymentId, "payment-key"))
+                    .isInstanceOf(InvalidPaymentException.class);
+            return success();
+        });
+
+        paymentService.approve(paymentId, "payment-key");
+
+        verify(approvePayment, times(1)).request(any(), anyString(), any(), anyInt());
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("승인 실패시 결제 대기(READY)로 되돌리고 실패 사유 전달, 이후 다시 승인 가능")
+    void failureAllowsRetry() {
+        when(approvePayment.request(any(), anyString(), any(), anyInt()))
+                .thenReturn(failure("[REJECT_CARD_COMPANY]카드사 거절"))
+                .thenReturn(success());
+
+        assertThatThrownBy(() -> paymentService.approve(paymentId, "payment-key"))
+                .isInstanceOf(PaymentApproveFailureException.class);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.READY);
+
+        paymentService.approve(paymentId, "payment-key");
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("첫 요청의 PG사 응답 대기 중 결제 정리, 다른 요청의 실패가 먼저 반영되어도 첫 요청의 늦은 성공 응답은 반영")
+    void lateSuccessOverReadyIsAccepted() {
+        when(approvePayment.request(any(), anyString(), any(), anyInt()))
+                .thenAnswer(invocation -> {
+                    // 첫 요청 응답 대기 중: 결제 정리 작업이 PG사 조회 결과(승인 없음)로 READY로 되돌림
+                    when(queryPayment.query(any(), any())).thenReturn(Optional.of(failure("[NOT_FOUND_PAYMENT]")));
+                    assertThat(paymentService.recoverApprove(paymentId)).isTrue();
+                    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.READY);
+
+                    // 두번째 요청이 승인 선점 후 실패 - 다시 READY
+                    assertThatThrownBy(() -> paymentService.approve(paymentId, "payment-key"))
+                            .isInstanceOf(PaymentApproveFailureException.class);
+                    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.READY);
+
+                    return success(); // 첫 요청의 늦은 성공 응답
+                })
+                .thenReturn(failure("[PROVIDER_ERROR]응답 시간 초과"));
+
+        paymentService.approve(paymentId, "payment-key");
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        verify(approvePayment, times(2)).request(any(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("두 요청이 모두 PG사 응답 대기 중일 때 먼저 도착한 성공 응답으로 DONE, 늦게 도착한 실패 응답은 DONE을 되돌리지 않음")
+    void lateFailureNeverOverwritesDone() throws Exception {
+        CountDownLatch firstWaiting = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch secondWaiting = new CountDownLatch(1);
+        CountDownLatch releaseSecond = new CountDownLatch(1);
+
+        when(approvePayment.request(any(), anyString(), any(), anyInt()))
+                .thenAnswer(invocation -> {
+                    firstWaiting.countDown();
+                    releaseFirst.await(5, TimeUnit.SECONDS);
+                    return success();
+                })
+                .thenAnswer(invocation -> {
+                    secondWaiting.countDown();
+                    releaseSecond.await(5, TimeUnit.SECONDS);
+                    return failure("[PROVIDER_ERROR]응답 시간 초과");
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> paymentService.approve(paymentId, "payment-key"));
+            assertThat(firstWaiting.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 첫 요청이 멈춘 것으로 보고 결제 정리 작업이 READY로 되돌린 뒤 두번째 요청이 승인 선점
+            when(queryPayment.query(any(), any())).thenReturn(Optional.of(failure("[NOT_FOUND_PAYMENT]")));
+            assertThat(paymentService.recoverApprove(paymentId)).isTrue();
+
+            Future<?> second = executor.submit(() -> paymentService.approve(paymentId, "payment-key"));
+            assertThat(secondWaiting.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.IN_PROGRESS);
+
+            releaseFirst.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+
+            releaseSecond.countDown();
+            second.get(5, TimeUnit.SECONDS); // 이미 승인된 결제이므로 실패 예외 없이 종료
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        } finally {
+            releaseFirst.countDown();
+            releaseSecond.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("결제 정리 작업: PG사에서 승인된 결제는 DONE, 확인할 수 없다면(PG사 장애) 승인 진행중 유지")
+    void recoverStuckApproval() {
+        payment.startApprove("payment-key");
+
+        when(queryPayment.query(any(), any())).thenReturn(Optional.empty());
+        assertThat(paymentService.recoverApprove(paymentId)).isFalse();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.IN_PROGRESS);
+
+        when(queryPayment.query(any(), any())).thenReturn(Optional.of(success()));
+        assertThat(paymentService.recoverApprove(paymentId)).isTrue();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+
+        assertThat(paymentService.recoverApprove(paymentId)).isFalse(); // 승인 진행중이 아닌 결제는 조회하지 않음
+        verify(queryPayment, times(2)).query(any(), any());
+    }
+}
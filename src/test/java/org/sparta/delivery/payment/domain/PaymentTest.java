@@ -0,0 +1,215 @@
+package org.sparta.delivery.payment.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.delivery.global.infrastructure.event.Events;
+import org.sparta.delivery.payment.domain.event.PaymentApprovedEvent;
+import org.sparta.delivery.payment.domain.exception.InvalidPaymentException;
+import org.sparta.delivery.payment.domain.service.ApproveResult;
+import org.sparta.delivery.payment.domain.service.OrderProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PaymentTest {
+    private static final int AMOUNT = 20000;
+
+    private final UUID orderId = UUID.randomUUID();
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    private Object previousPublisher;
+    private Object previousOutbox;
+
+    @BeforeEach
+    void setUp() {
+        // 도메인 이벤트는 아웃박스 없이 바로 발행되도록 설정
+        previousPublisher = ReflectionTestUtils.getField(Events.class, "publisher");
+        previousOutbox = ReflectionTestUtils.getField(Events.class, "outbox");
+        ReflectionTestUtils.setField(Events.class, "publisher", publisher);
+        ReflectionTestUtils.setField(Events.class, "outbox", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(Events.class, "publisher", previousPublisher);
+        ReflectionTestUtils.setField(Events.class, "outbox", previousOutbox);
+    }
+
+    private Payment payment() {
+        OrderProvider orderProvider = mock(OrderProvider.class);
+        when(orderProvider.getOrderInfo(orderId)).thenReturn(PaymentOrderInfo.builder()
+                .orderId(orderId)
+                .orderName("후라이드 치킨")
+                .amount(AMOUNT)
+                .build());
+
+        return new Payment(orderId, orderProvider);
+    }
+
+    private ApproveResult success(int approvedAmount) {
+        return ApproveResult.builder()
+                .success(true)
+                .status(PaymentStatus.DONE)
+                .approvedAt(LocalDateTime.now())
+                .approvedAmount(approvedAmount)
+                .paymentLog("{\"status\":\"DONE\"}")
+                .build();
+    }
+
+    private ApproveResult failure() {
+        return ApproveResult.builder()
+                .success(false)
+                .reason("[PROVIDER_ERROR]승인 실패")
+                .paymentLog("{\"code\":\"PROVIDER_ERROR\"}")
+                .build();
+    }
+
+    @Test
+    @DisplayName("승인 시작시 승인 진행중(IN_PROGRESS), 승인 시도 ID 발급")
+    void startApprove() {
+        Payment payment = payment();
+
+        assertThat(payment.startApprove("payment-key")).isTrue();
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.IN_PROGRESS);
+        assertThat(payment.getKey()).isEqualTo("payment-key");
+        assertThat(payment.getApproveAttemptId()).isNotBlank();
+        assertThat(payment.getApproveStartedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("승인 진행중인 결제는 다른 요청에서 다시 승인을 시작할 수 없음")
+    void rejectsSecondStartWhileInProgress() {
+        Payment payment = payment();
+        payment.startApprove("payment-key");
+        String attemptId = payment.getApproveAttemptId();
+
+        assertThatThrownBy(() -> payment.startApprove("payment-key"))
+                .isInstanceOf(InvalidPaymentException.class)
+                .hasMessage("결제 승인이 진행중입니다.");
+
+        assertThat(payment.getApproveAttemptId()).isEqualTo(attemptId);
+    }
+
+    @Test
+    @DisplayName("승인된 결제는 다시 승인 요청하지 않음")
+    void startApproveOnDoneIsNoop() {
+        Payment payment = payment();
+        payment.startApprove("payment-key");
+        payment.completeApprove(payment.getApproveAttemptId(), success(AMOUNT));
+
+        assertThat(payment.startApprove("payment-key")).isFalse();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("승인 성공시 결제 완료(DONE), 주문 상태 변경 이벤트 발행")
+    void completeWithSuccess() {
+        Payment payment = payment();
+        payment.startApprove("payment-key");
+
+        payment.completeApprove(payment.getApproveAttemptId(), success(AMOUNT));
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(payment.getApprovedAt()).isNotNull();
+        assertThat(payment.getApproveAttemptId()).isNull();
+        verify(publisher).publishEvent(new PaymentApprovedEvent(orderId));
+    }
+
+    @Test
+    @DisplayName("승인을 선점한 시도의 실패는 결제 대기(READY)로 되돌려 다시 승인 가능")
+    void ownerFailureResetsToReady() {
+        Payment payment = payment();
+        payment.startApprove("payment-key");
+
+        payment.completeApprove(payment.getApproveAttemptId(), failure());
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.READY);
+        assertThat(payment.getApproveAttemptId()).isNull();
+        assertThat(payment.startApprove("payment-key")).isTrue();
+    }
+
+    @Test
+    @DisplayName("선점하지 않은 시도의 늦은 실패는 진행중인 승인을 되돌리지 않음")
+    void staleFailureIsIgnored() {
+        Payment payment = payment();
+        payment.startApprove("payment-key");
+        String staleAttemptId = payment.getApproveAttemptId();
+        payment.completeApprove(staleAttemptId, failure()); // 첫번째 시도 실패 -> READY
+
+        payment.startApprove("payment-key"); // 두번째 시도 선점
+        String currentAttemptId = payment.getApproveAttemptId();
+
+        payment.completeApprove(staleAttemptId, failure());
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.IN_PROGRESS);
+        assertThat(payment.getApproveAttemptId()).isEqualTo(currentAttemptId);
+    }
+
+    @Test
+    @DisplayName("PG사에서 승인된 늦은 성공 응답은 결제 대기(READY) 상태에도 반영")
+    void lateSuccessOverReadyIsAccepted() {
+        Payment payment = payment();
+        payment.startApprove("payment-key");
+        String attemptId = payment.getApproveAttemptId();
+        payment.completeApprove(attemptId, failure()); // 응답 시간 초과 등으로 실패 처리
+
+        payment.completeApprove(attemptId, success(AMOUNT));
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        verify(publisher).publishEvent(new PaymentApprovedEvent(orderId));
+    }
+
+    @Test
+    @DisplayName("선점하지 않은 시도의 늦은 성공 응답도 승인 진행중 상태에 반영")
+    void lateSuccessOverOtherAttemptIsAccepted() {
+        Payment payment = payment();
+        payment.startApprove("payment-key");
+        String staleAttemptId = payment.getApproveAttemptId();
+        payment.completeApprove(staleAttemptId, failure());
+        payment.startApprove("payment-key");
+
+        payment.completeApprove(staleAttemptId, success(AMOUNT));
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(payment.getApproveAttemptId()).isNull();
+    }
+
+    @Test
+    @DisplayName("결제 완료(DONE) 이후 도착한 실패, 중복 성공 응답은 반영하지 않음")
+    void doneIsNeverOverwritten() {
+        Payment payment = payment();
+        payment.startApprove("payment-key");
+        String attemptId = payment.getApproveAttemptId();
+        payment.completeApprove(attemptId, success(AMOUNT));
+
+        payment.completeApprove(attemptId, failure());
+        payment.completeApprove(attemptId, success(AMOUNT));
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        verify(publisher, times(1)).publishEvent(any(PaymentApprovedEvent.class));
+    }
+
+    @Test
+    @DisplayName("승인 금액이 등록 금액과 다르면 승인 실패(ABORTED), 이후 성공 응답도 반영하지 않음")
+    void amountMismatchAborts() {
+        Payment payment = payment();
+        payment.startApprove("payment-key");
+        String attemptId = payment.getApproveAttemptId();
+
+        payment.completeApprove(attemptId, success(AMOUNT - 1000));
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.ABORTED);
+
+        payment.completeApprove(attemptId, success(AMOUNT));
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.ABORTED);
+        verify(publisher, never()).publishEvent(any(PaymentApprovedEvent.class));
+    }
+}